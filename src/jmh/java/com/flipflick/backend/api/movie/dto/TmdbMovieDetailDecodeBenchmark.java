@@ -0,0 +1,119 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TMDB 영화 상세 응답 디코딩 비교 (typed DTO vs JsonNode 트리 순회)
+ * - fixture: src/test/resources/tmdb (테스트와 동일)
+ * - repeat: 출연진/제작진/배경 이미지/개봉일 배열을 N 배로 늘려 실제 대형 영화 응답 크기를 흉내냄
+ * - 두 방식 모두 저장에 쓰는 필드만 꺼내 Blackhole 로 넘김
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TmdbMovieDetailDecodeBenchmark {
+
+    private static final List<String> SCALED_ARRAYS = List.of(
+            "/credits/cast", "/credits/crew", "/images/backdrops", "/release_dates/results");
+
+    @Param({"movie_detail_550.json", "movie_detail_nulls.json"})
+    private String fixture;
+
+    @Param({"1", "50"})
+    private int repeat;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonNode root;
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream("/tmdb/" + fixture))) {
+            root = objectMapper.readTree(in);
+        }
+        for (String pointer : SCALED_ARRAYS) {
+            JsonNode node = root.at(pointer);
+            if (node instanceof ArrayNode array) {
+                ArrayNode original = array.deepCopy();
+                for (int i = 1; i < repeat; i++) {
+                    array.addAll(original);
+                }
+            }
+        }
+        body = objectMapper.writeValueAsBytes((ObjectNode) root);
+    }
+
+    @Benchmark
+    public void typedDto(Blackhole bh) throws IOException {
+        TmdbMovieDetailDTO detail = objectMapper.readValue(body, TmdbMovieDetailDTO.class);
+
+        bh.consume(detail.getId());
+        bh.consume(detail.getTitle());
+        bh.consume(detail.getOriginalTitle());
+        bh.consume(detail.getOverview());
+        bh.consume(detail.getPosterPath());
+        bh.consume(detail.getReleaseDate());
+        bh.consume(detail.getRuntime());
+        detail.getGenres().forEach(g -> bh.consume(g.getId()));
+        detail.getProductionCountries().forEach(c -> bh.consume(c.getName()));
+        detail.getImages().getBackdrops().forEach(img -> bh.consume(img.getFilePath()));
+        detail.getVideos().getResults().forEach(v -> bh.consume(v.getKey()));
+        TmdbMovieDetailDTO.RegionProviders kr = detail.getWatchProviders().getResults().getKr();
+        if (kr != null) {
+            kr.getFlatrate().forEach(p -> bh.consume(p.getProviderId()));
+            kr.getRent().forEach(p -> bh.consume(p.getProviderId()));
+            kr.getBuy().forEach(p -> bh.consume(p.getProviderId()));
+        }
+        for (TmdbMovieDetailDTO.CountryReleaseDates country : detail.getReleaseDates().getResults()) {
+            if ("KR".equals(country.getCountry()) && !country.getReleaseDates().isEmpty()) {
+                bh.consume(country.getReleaseDates().get(0).getCertification());
+            }
+        }
+        detail.getCredits().getCast().forEach(c -> bh.consume(c.getName()));
+    }
+
+    @Benchmark
+    public void jsonNode(Blackhole bh) throws IOException {
+        JsonNode root = objectMapper.readTree(body);
+
+        bh.consume(root.path("id").asLong());
+        bh.consume(root.path("title").asText());
+        bh.consume(root.path("original_title").asText());
+        bh.consume(root.path("overview").asText());
+        bh.consume(root.path("poster_path").asText(null));
+        bh.consume(root.path("release_date").asText(null));
+        bh.consume(root.path("runtime").asInt());
+        root.path("genres").forEach(g -> bh.consume(g.path("id").asLong()));
+        root.path("production_countries").forEach(c -> bh.consume(c.path("name").asText()));
+        root.path("images").path("backdrops").forEach(img -> bh.consume(img.path("file_path").asText(null)));
+        root.path("videos").path("results").forEach(v -> bh.consume(v.path("key").asText()));
+        JsonNode kr = root.path("watch/providers").path("results").path("KR");
+        kr.path("flatrate").forEach(p -> bh.consume(p.path("provider_id").asLong()));
+        kr.path("rent").forEach(p -> bh.consume(p.path("provider_id").asLong()));
+        kr.path("buy").forEach(p -> bh.consume(p.path("provider_id").asLong()));
+        for (JsonNode country : root.path("release_dates").path("results")) {
+            if ("KR".equals(country.path("iso_3166_1").asText())) {
+                bh.consume(country.path("release_dates").path(0).path("certification").asText());
+            }
+        }
+        root.path("credits").path("cast").forEach(c -> bh.consume(c.path("name").asText()));
+    }
+}
@@ -3,6 +3,7 @@ package com.flipflick.backend.api.admin.Controller;
 import com.flipflick.backend.api.admin.dto.*;
 import com.flipflick.backend.api.admin.service.AdminService;
 import com.flipflick.backend.api.member.dto.MemberListResponseDto;
+import com.flipflick.backend.api.movie.service.MovieExportImportService;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +24,7 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final MovieExportImportService movieExportImportService;
 
     @Operation(summary = "대시보드 통계 조회", description = "회원, 리뷰, 토론 통계 조회")
     @GetMapping("/stat")
@@ -95,4 +97,14 @@ public class AdminController {
         return ApiResponse.success(SuccessStatus.REPORT_LIST_SUCCESS, result);
     }
 
+    @Operation(summary = "TMDB 덤프 가져오기 API", description = "서버 가져오기 디렉터리의 TMDB 일일 ID 덤프 파일로 영화를 일괄 적재합니다. (백그라운드 실행)")
+    @PostMapping("/movies/export-import")
+    public ResponseEntity<ApiResponse<Void>> importMovieExport(
+            @RequestParam String fileName,
+            @RequestParam(defaultValue = "0") double minPopularity
+    ) {
+        movieExportImportService.startImport(fileName, minPopularity);
+        return ApiResponse.success_only(SuccessStatus.MOVIE_EXPORT_IMPORT_START_SUCCESS);
+    }
+
 }
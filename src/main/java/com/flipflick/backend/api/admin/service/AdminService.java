@@ -7,6 +7,7 @@ import com.flipflick.backend.api.debate.repository.DebateRepository;
 import com.flipflick.backend.api.member.dto.MemberListResponseDto;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
+import com.flipflick.backend.api.movie.event.MoviePopcornInputChangedEvent;
 import com.flipflick.backend.api.report.entity.Report;
 import com.flipflick.backend.api.report.repository.ReportRepository;
 import com.flipflick.backend.api.review.repository.ReviewRepository;
@@ -15,6 +16,7 @@ import com.flipflick.backend.common.exception.NotFoundException;
 import com.flipflick.backend.common.response.AlarmMessage;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +37,7 @@ public class AdminService {
     private final DebateRepository debateRepository;
     private final DebateCommentRepository debateCommentRepository;
     private final AlarmService alarmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DashboardStatResponseDto getDashboardStats() {
         Map<String, Map<String, List<TimeSeriesData>>> stats = new HashMap<>();
@@ -264,7 +267,10 @@ public class AdminService {
 
         switch (type) {
             case "리뷰" -> reviewRepository.findById(entityId)
-                    .ifPresent(review -> review.softDelete());
+                    .ifPresent(review -> {
+                        review.softDelete();
+                        eventPublisher.publishEvent(new MoviePopcornInputChangedEvent(this, review.getMovie().getId()));
+                    });
             case "토론" -> debateRepository.findById(entityId)
                     .ifPresent(debate -> debate.softDelete());
             case "댓글" -> debateCommentRepository.findById(entityId)
@@ -5,6 +5,7 @@ import com.flipflick.backend.api.alarm.entity.Alarm;
 import com.flipflick.backend.api.alarm.event.AlarmEvent;
 import com.flipflick.backend.api.alarm.service.AlarmService;
 import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.ErrorStatus;
 import com.flipflick.backend.common.response.SuccessStatus;
@@ -91,6 +92,17 @@ public class AlarmController {
         return ApiResponse.success(SuccessStatus.SEND_ALARM_LIST_SUCCESS, alarms);
     }
 
+    // 과거 알람 커서 조회
+    @Operation(summary = "알람 히스토리 커서 조회", description = "사용자의 과거 알람을 최신순 커서 기반으로 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AlarmDTO>>> getHistoryCursor(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<AlarmDTO> alarms = alarmService.getAlarmsCursor(userId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_ALARM_LIST_SUCCESS, alarms);
+    }
+
     // 특정 알람 읽음 처리
     @Operation(summary = "알람 읽음 처리", description = "특정 알람을 읽음 처리 후 삭제합니다.")
     @PostMapping("/{alarmId}/read")
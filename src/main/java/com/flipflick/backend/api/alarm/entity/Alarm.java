@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alarm")
+@Table(name = "alarm", indexes = {
+        @Index(name = "idx_alarm_received_created", columnList = "received_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
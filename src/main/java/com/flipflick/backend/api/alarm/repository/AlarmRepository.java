@@ -1,10 +1,26 @@
 package com.flipflick.backend.api.alarm.repository;
 
 import com.flipflick.backend.api.alarm.entity.Alarm;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
     List<Alarm> findByReceivedIdOrderByCreatedAtDesc(Long userId);
-}
\ No newline at end of file
+
+    // 유저별 알람 커서 조회 (최신순, (createdAt, id) 키셋)
+    @Query("""
+        SELECT a FROM Alarm a
+        WHERE a.receivedId = :userId
+          AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+        ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<Alarm> findByReceivedIdAfterCursor(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+}
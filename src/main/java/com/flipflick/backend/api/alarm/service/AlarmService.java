@@ -8,6 +8,8 @@ import com.flipflick.backend.api.follow.entity.Follow;
 import com.flipflick.backend.api.follow.repository.FollowRepository;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,6 +55,15 @@ public class AlarmService {
                 .toList();
     }
 
+    /** 유저별 알람 커서 조회 (최신순) */
+    @Transactional
+    public CursorPageResponse<AlarmDTO> getAlarmsCursor(Long userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Alarm> rows = repo.findByReceivedIdAfterCursor(userId, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+        return CursorPageResponse.of(rows, size, AlarmDTO::from,
+                alarm -> PageCursor.of(alarm.getCreatedAt(), alarm.getId()));
+    }
+
     /** 읽음 처리 */
     @Transactional
     public void markRead(Long alarmId) {
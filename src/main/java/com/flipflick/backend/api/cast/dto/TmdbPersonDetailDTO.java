@@ -0,0 +1,62 @@
+package com.flipflick.backend.api.cast.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TMDB 인물 상세 응답 (/person/{id}?append_to_response=combined_credits) 중 저장에 필요한 필드만 디코딩
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbPersonDetailDTO {
+
+    private Long id;
+    private String name;
+    private int gender;
+
+    @JsonProperty("profile_path")
+    private String profilePath;
+
+    @JsonProperty("place_of_birth")
+    private String placeOfBirth;
+
+    private String birthday;
+    private String deathday;
+
+    @JsonProperty("combined_credits")
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private CombinedCredits combinedCredits = new CombinedCredits();
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CombinedCredits {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<Credit> cast = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Credit {
+        private Long id;
+
+        @JsonProperty("media_type")
+        private String mediaType;
+
+        @JsonProperty("poster_path")
+        private String posterPath;
+
+        private String title;
+
+        @JsonProperty("release_date")
+        private String releaseDate;
+    }
+}
@@ -1,8 +1,8 @@
 package com.flipflick.backend.api.cast.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.flipflick.backend.api.cast.dto.CastDetailResponseDTO;
 import com.flipflick.backend.api.cast.dto.FilmographyDTO;
+import com.flipflick.backend.api.cast.dto.TmdbPersonDetailDTO;
 import com.flipflick.backend.api.cast.entity.Cast;
 import com.flipflick.backend.api.cast.entity.Filmography;
 import com.flipflick.backend.api.cast.entity.Gender;
@@ -78,9 +78,9 @@ public class CastService {
         URI uri = URI.create("/person/" + tmdbId
                 + "?api_key=" + apiKey
                 + "&language=ko-KR"
-                + "&append_to_response=combined_credits,images,external_ids");
+                + "&append_to_response=combined_credits");
 
-        JsonNode root = tmdbWebClient.get()
+        TmdbPersonDetailDTO person = tmdbWebClient.get()
                 .uri(builder -> builder
                         .path(uri.getPath())
                         .query(uri.getQuery())
@@ -88,45 +88,40 @@ public class CastService {
                 .retrieve()
                 .onStatus(status -> status == HttpStatus.NOT_FOUND,
                         resp -> Mono.error(new BadRequestException(ErrorStatus.NOT_REGISTER_CAST_EXCEPTION.getMessage())))
-                .bodyToMono(JsonNode.class)
+                .bodyToMono(TmdbPersonDetailDTO.class)
                 .block();
 
-        if (root == null) {
+        if (person == null) {
             throw new InternalServerException(ErrorStatus.NO_RESPONSE_TMDB_EXCEPTION.getMessage());
         }
 
         // 기본 배우 정보
-        String profilePath = root.path("profile_path").asText(null);
         Cast cast = Cast.builder()
-                .tmdbId(root.path("id").asLong())
-                .name(root.path("name").asText())
-                .gender(parseGender(root.path("gender").asInt()))
-                .profileImage(profilePath != null ? imageBaseUrl + profilePath : null)
-                .placeOfBirth(root.path("place_of_birth").asText(null))
-                .birthday(parseDate(root.path("birthday").asText(null)))
-                .deathday(parseDate(root.path("deathday").asText(null)))
+                .tmdbId(person.getId())
+                .name(person.getName())
+                .gender(parseGender(person.getGender()))
+                .profileImage(person.getProfilePath() != null ? imageBaseUrl + person.getProfilePath() : null)
+                .placeOfBirth(person.getPlaceOfBirth())
+                .birthday(parseDate(person.getBirthday()))
+                .deathday(parseDate(person.getDeathday()))
                 .build();
 
         // combined_credits.cast 순회 → media_type="movie" 인 경우만 필모그래피로 추가
-        root.path("combined_credits").path("cast").forEach(cn -> {
-            if (!"movie".equalsIgnoreCase(cn.path("media_type").asText())) {
-                return; // TV 제외
+        for (TmdbPersonDetailDTO.Credit credit : person.getCombinedCredits().getCast()) {
+            if (!"movie".equalsIgnoreCase(credit.getMediaType())) {
+                continue; // TV 제외
             }
-            Long workId = cn.path("id").asLong();
-            String posterPath = cn.path("poster_path").asText(null);
-            String title      = cn.path("title").asText(null);
-            String dateStr    = cn.path("release_date").asText(null);
 
             Filmography fg = Filmography.builder()
-                    .tmdbId(workId)
-                    .posterImage(posterPath != null ? imageBaseUrl + posterPath : null)
-                    .name(title)
-                    .releaseDate(parseDate(dateStr))
+                    .tmdbId(credit.getId())
+                    .posterImage(credit.getPosterPath() != null ? imageBaseUrl + credit.getPosterPath() : null)
+                    .name(credit.getTitle())
+                    .releaseDate(parseDate(credit.getReleaseDate()))
                     .cast(cast)
                     .build();
 
             cast.getFilmographies().add(fg);
-        });
+        }
 
         return castRepository.save(cast);
     }
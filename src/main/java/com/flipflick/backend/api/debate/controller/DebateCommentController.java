@@ -4,6 +4,7 @@ import com.flipflick.backend.api.debate.dto.DebateCommentRequestDto;
 import com.flipflick.backend.api.debate.dto.DebateCommentResponseDto;
 import com.flipflick.backend.api.debate.service.DebateCommentService;
 import com.flipflick.backend.common.config.security.SecurityMember;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,6 +45,16 @@ public class DebateCommentController {
         return ApiResponse.success(SuccessStatus.SEND_DEBATE_COMMENT_CREATE_SUCCESS, debateComments);
     }
 
+    @Operation(summary = "댓글 커서 조회 API", description = "해당되는 토론의 댓글을 작성순으로 조회 (다음 커서만 반환)")
+    @GetMapping("/{debateId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DebateCommentResponseDto>>> getCommentsCursor(
+            @PathVariable Long debateId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<DebateCommentResponseDto> debateComments = debateCommentService.getCommentsCursor(debateId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_DEBATE_COMMENT_CREATE_SUCCESS, debateComments);
+    }
+
     @Operation(summary = "댓글 삭제 API", description = "해당되는 댓글 삭제")
     @DeleteMapping("/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(@PathVariable Long commentId,
@@ -4,6 +4,7 @@ import com.flipflick.backend.api.debate.dto.DebateRequestDto;
 import com.flipflick.backend.api.debate.dto.DebateResponseDto;
 import com.flipflick.backend.api.debate.service.DebateService;
 import com.flipflick.backend.common.config.security.SecurityMember;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -102,6 +103,74 @@ public class DebateController {
         return ApiResponse.success(SuccessStatus.SEND_DEBATE_LIST_SUCCESS, result);
     }
 
+    @Operation(summary = "토론 목록 커서 조회 (최신순)", description = "특정 영화의 토론을 최신순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토론 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/latest/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DebateResponseDto.DebateDetail>>> getDebatesByLatestCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<DebateResponseDto.DebateDetail> result = debateService.getDebatesByLatestCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_DEBATE_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "토론 목록 커서 조회 (인기순)", description = "특정 영화의 토론을 인기순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토론 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/popular/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DebateResponseDto.DebateDetail>>> getDebatesByPopularityCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<DebateResponseDto.DebateDetail> result = debateService.getDebatesByPopularityCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_DEBATE_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "토론 목록 조회 (핫순)", description = "특정 영화의 토론을 좋아요/싫어요와 작성 시각을 함께 반영한 핫 점수순으로 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토론 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/hot")
+    public ResponseEntity<ApiResponse<DebateResponseDto.DebatePageResponse>> getDebatesByHot(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        DebateResponseDto.DebatePageResponse result = debateService.getDebatesByHot(tmdbId, page, size);
+        return ApiResponse.success(SuccessStatus.SEND_DEBATE_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "토론 목록 커서 조회 (핫순)", description = "특정 영화의 토론을 핫 점수순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토론 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/hot/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DebateResponseDto.DebateDetail>>> getDebatesByHotCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<DebateResponseDto.DebateDetail> result = debateService.getDebatesByHotCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_DEBATE_LIST_SUCCESS, result);
+    }
+
     @Operation(summary = "닉네임으로 토론 목록 조회 (최신순)", description = "특정 사용자의 토론을 닉네임과 최신순으로 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토론 목록 조회 성공")
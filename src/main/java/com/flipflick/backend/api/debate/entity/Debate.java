@@ -3,11 +3,18 @@ package com.flipflick.backend.api.debate.entity;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.movie.entity.Movie;
 import com.flipflick.backend.common.entity.BaseTimeEntity;
+import com.flipflick.backend.common.reaction.HotScore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "debate")
+@Table(name = "debate", indexes = {
+        @Index(name = "idx_debate_movie_latest", columnList = "movie_id, is_deleted, created_at, debate_id"),
+        @Index(name = "idx_debate_movie_popular", columnList = "movie_id, is_deleted, like_cnt, created_at, debate_id"),
+        @Index(name = "idx_debate_movie_hot", columnList = "movie_id, is_deleted, hot_score, created_at, debate_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -37,11 +44,12 @@ public class Debate extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean spoiler;
 
-    @Column(name = "like_cnt")
+    // 좋아요/싫어요 수는 ReactionCounter 가 SQL 로만 갱신 (엔티티 UPDATE 에서 제외)
+    @Column(name = "like_cnt", updatable = false)
     @Builder.Default
     private Long likeCnt = 0L;
 
-    @Column(name = "hate_cnt")
+    @Column(name = "hate_cnt", updatable = false)
     @Builder.Default
     private Long hateCnt = 0L;
 
@@ -49,6 +57,10 @@ public class Debate extends BaseTimeEntity {
     @Builder.Default
     private Boolean isDeleted = false;
 
+    // 핫 정렬 점수 (작성 시 초기값 저장, 이후에는 좋아요/싫어요 반영 시 ReactionCounter 가 SQL 로 갱신)
+    @Column(name = "hot_score", nullable = false, updatable = false)
+    private long hotScore;
+
     // 토론 수정
     public void updateDebate(String debateTitle, String content, Boolean spoiler) {
         this.debateTitle = debateTitle;
@@ -56,26 +68,13 @@ public class Debate extends BaseTimeEntity {
         this.spoiler = spoiler;
     }
 
-    // 좋아요 수 증가/감소
-    public void increaseLikeCnt() {
-        this.likeCnt++;
-    }
-
-    public void decreaseLikeCnt() {
-        this.likeCnt--;
-    }
-
-    // 싫어요 수 증가/감소
-    public void increaseHateCnt() {
-        this.hateCnt++;
-    }
-
-    public void decreaseHateCnt() {
-        this.hateCnt--;
-    }
-
     // 소프트 삭제
     public void softDelete() {
         this.isDeleted = true;
     }
+
+    @PrePersist
+    private void initHotScore() {
+        this.hotScore = HotScore.of(likeCnt, hateCnt, createdAt != null ? createdAt : LocalDateTime.now());
+    }
 }
@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "debate_comment")
+@Table(name = "debate_comment", indexes = {
+        @Index(name = "idx_debate_comment_debate_created", columnList = "debate_id, is_deleted, created_at, debate_comment_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -7,11 +7,24 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DebateCommentRepository extends JpaRepository<DebateComment,Long> {
     Page<DebateComment> findByDebateIdAndIsDeletedFalse(Long debateId, Pageable pageable);
 
+    // 토론 댓글 커서 조회 (작성순, (createdAt, id) 키셋)
+    @Query("""
+        SELECT dc FROM DebateComment dc
+        WHERE dc.debate.id = :debateId AND dc.isDeleted = false
+          AND (dc.createdAt > :createdAt OR (dc.createdAt = :createdAt AND dc.id > :id))
+        ORDER BY dc.createdAt ASC, dc.id ASC
+    """)
+    List<DebateComment> findByDebateIdAfterCursor(@Param("debateId") Long debateId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
     @Query("SELECT COUNT(dc) FROM DebateComment dc WHERE dc.debate.id = :debateId AND dc.isDeleted = false AND dc.member.isDeleted = false ")
     int countByDebateId(@Param("debateId") Long debateId);
 }
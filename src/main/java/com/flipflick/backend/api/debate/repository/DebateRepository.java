@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,54 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
     """)
     Page<Debate> findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(@Param("tmdbId") Long tmdbId, Pageable pageable);
 
+    // 특정 영화의 토론 커서 조회 (최신순, (createdAt, id) 키셋)
+    @Query("""
+        SELECT d FROM Debate d
+        WHERE d.movie.tmdbId = :tmdbId AND d.isDeleted = false AND d.member.isDeleted = false
+          AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))
+        ORDER BY d.createdAt DESC, d.id DESC
+    """)
+    List<Debate> findLatestByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 특정 영화의 토론 커서 조회 (인기순, (likeCnt, createdAt, id) 키셋)
+    @Query("""
+        SELECT d FROM Debate d
+        WHERE d.movie.tmdbId = :tmdbId AND d.isDeleted = false AND d.member.isDeleted = false
+          AND (d.likeCnt < :likeCnt OR (d.likeCnt = :likeCnt
+               AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))))
+        ORDER BY d.likeCnt DESC, d.createdAt DESC, d.id DESC
+    """)
+    List<Debate> findPopularByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                     @Param("likeCnt") Long likeCnt,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    // 특정 영화의 토론 조회 (삭제되지 않은 것만, 핫 점수순)
+    @Query("""
+        SELECT d FROM Debate d
+        WHERE d.movie.tmdbId = :tmdbId AND d.isDeleted = false AND d.member.isDeleted = false
+        ORDER BY d.hotScore DESC, d.createdAt DESC, d.id DESC
+    """)
+    Page<Debate> findHotByMovieTmdbId(@Param("tmdbId") Long tmdbId, Pageable pageable);
+
+    // 특정 영화의 토론 커서 조회 (핫 점수순, (hotScore, createdAt, id) 키셋)
+    @Query("""
+        SELECT d FROM Debate d
+        WHERE d.movie.tmdbId = :tmdbId AND d.isDeleted = false AND d.member.isDeleted = false
+          AND (d.hotScore < :hotScore OR (d.hotScore = :hotScore
+               AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))))
+        ORDER BY d.hotScore DESC, d.createdAt DESC, d.id DESC
+    """)
+    List<Debate> findHotByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                 @Param("hotScore") Long hotScore,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
     // 특정 사용자와 영화의 토론 조회 (삭제되지 않은 것만, 최신순)
     @Query("""
         SELECT d FROM Debate d
@@ -11,6 +11,8 @@ import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.NotFoundException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -57,6 +59,15 @@ public class DebateCommentService {
                 .map(DebateCommentResponseDto::from);
     }
 
+    public CursorPageResponse<DebateCommentResponseDto> getCommentsCursor(Long debateId, String cursor, int size) {
+        PageCursor after = PageCursor.decodeAscending(cursor);
+        List<DebateComment> rows = debateCommentRepository.findByDebateIdAfterCursor(
+                debateId, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, DebateCommentResponseDto::from,
+                comment -> PageCursor.of(comment.getCreatedAt(), comment.getId()));
+    }
+
     @Transactional
     public void deleteComment(Long commentId, Long memberId) {
         DebateComment comment = debateCommentRepository.findById(commentId)
@@ -15,6 +15,11 @@ import com.flipflick.backend.api.movie.repository.MovieRepository;
 import com.flipflick.backend.api.review.entity.LikeHateType;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.NotFoundException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
+import com.flipflick.backend.common.reaction.ReactionCounter;
+import com.flipflick.backend.common.reaction.ReactionCounts;
+import com.flipflick.backend.common.reaction.ReactionTarget;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -37,6 +43,7 @@ public class DebateService {
     private final MemberRepository memberRepository;
     private final MovieRepository movieRepository;
     private final AlarmService alarmService;
+    private final ReactionCounter reactionCounter;
     private final DebateCommentRepository debateCommentRepository;
 
     // 1. 토론 작성
@@ -129,6 +136,45 @@ public class DebateService {
         return DebateResponseDto.DebatePageResponse.from(detailPage);
     }
 
+    // 4-1. 토론 목록 커서 조회 (최신순)
+    public CursorPageResponse<DebateResponseDto.DebateDetail> getDebatesByLatestCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Debate> rows = debateRepository.findLatestByMovieTmdbIdAfterCursor(
+                tmdbId, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertToDetail,
+                debate -> PageCursor.of(debate.getCreatedAt(), debate.getId()));
+    }
+
+    // 5-1. 토론 목록 커서 조회 (인기순)
+    public CursorPageResponse<DebateResponseDto.DebateDetail> getDebatesByPopularityCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Debate> rows = debateRepository.findPopularByMovieTmdbIdAfterCursor(
+                tmdbId, after.score(), after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertToDetail,
+                debate -> PageCursor.of(debate.getLikeCnt(), debate.getCreatedAt(), debate.getId()));
+    }
+
+    // 5-2. 토론 목록 조회 (핫 점수순, 좋아요에서 싫어요를 뺀 값과 작성 시각을 함께 반영)
+    public DebateResponseDto.DebatePageResponse getDebatesByHot(Long tmdbId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Debate> debatePage = debateRepository.findHotByMovieTmdbId(tmdbId, pageable);
+
+        Page<DebateResponseDto.DebateDetail> detailPage = debatePage.map(this::convertToDetail);
+        return DebateResponseDto.DebatePageResponse.from(detailPage);
+    }
+
+    // 5-3. 토론 목록 커서 조회 (핫 점수순)
+    public CursorPageResponse<DebateResponseDto.DebateDetail> getDebatesByHotCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Debate> rows = debateRepository.findHotByMovieTmdbIdAfterCursor(
+                tmdbId, after.score(), after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertToDetail,
+                debate -> PageCursor.of(debate.getHotScore(), debate.getCreatedAt(), debate.getId()));
+    }
+
     // 6. 토론 좋아요/싫어요 토글
     @Transactional
     public DebateResponseDto.DebateLikeHate toggleLikeHate(Long memberId, DebateRequestDto.DebateLikeHate request) {
@@ -150,17 +196,19 @@ public class DebateService {
                 .findByDebateIdAndMemberId(request.getDebateId(), memberId)
                 .orElse(null);
 
+        // 부모 행은 갱신하지 않고 증감분만 누적 (커밋 후 Redis 에 반영, 주기적으로 DB flush)
+        long[] delta = new long[2];
         String message;
 
         if (existingLikeHate != null) {
             if (existingLikeHate.getType() == type) {
                 // 같은 타입이면 취소
                 debateLikeHateRepository.delete(existingLikeHate);
-                updateDebateLikeHateCount(debate, type, false);
+                updateDebateLikeHateCount(delta, type, false);
                 message = type == LikeHateType.LIKE ? "좋아요가 취소되었습니다." : "싫어요가 취소되었습니다.";
             } else {
                 // 다른 타입이면 변경
-                updateDebateLikeHateCount(debate, existingLikeHate.getType(), false); // 기존 것 감소
+                updateDebateLikeHateCount(delta, existingLikeHate.getType(), false); // 기존 것 감소
                 debateLikeHateRepository.delete(existingLikeHate);
 
                 DebateLikeHate newLikeHate = DebateLikeHate.builder()
@@ -170,7 +218,7 @@ public class DebateService {
                         .build();
                 debateLikeHateRepository.save(newLikeHate);
 
-                updateDebateLikeHateCount(debate, type, true); // 새로운 것 증가
+                updateDebateLikeHateCount(delta, type, true); // 새로운 것 증가
                 message = type == LikeHateType.LIKE ? "좋아요로 변경되었습니다." : "싫어요로 변경되었습니다.";
                 if(type == LikeHateType.LIKE){
                     alarmService.createAlarm(debate.getMember().getId(),"'"+debate.getDebateTitle()+"에 좋아요가 달렸습니다.");
@@ -185,19 +233,22 @@ public class DebateService {
                     .build();
             debateLikeHateRepository.save(newLikeHate);
 
-            updateDebateLikeHateCount(debate, type, true);
+            updateDebateLikeHateCount(delta, type, true);
             message = type == LikeHateType.LIKE ? "좋아요가 추가되었습니다." : "싫어요가 추가되었습니다.";
             if(type == LikeHateType.LIKE){
                 alarmService.createAlarm(debate.getMember().getId(),"'"+debate.getDebateTitle()+"에 좋아요가 달렸습니다.");
             }
         }
 
+        ReactionCounts counts = reactionCounter.apply(ReactionTarget.DEBATE, debate.getId(),
+                new ReactionCounts(debate.getLikeCnt(), debate.getHateCnt()), delta[0], delta[1]);
+
         return DebateResponseDto.DebateLikeHate.builder()
                 .debateId(debate.getId())
                 .type(type.name())
                 .message(message)
-                .likeCnt(debate.getLikeCnt())
-                .hateCnt(debate.getHateCnt())
+                .likeCnt(counts.likeCnt())
+                .hateCnt(counts.hateCnt())
                 .build();
     }
 
@@ -214,21 +265,9 @@ public class DebateService {
         return DebateResponseDto.DebatePageResponse.from(detailPage);
     }
 
-    // 토론 좋아요/싫어요 카운트 업데이트
-    private void updateDebateLikeHateCount(Debate debate, LikeHateType type, boolean increase) {
-        if (type == LikeHateType.LIKE) {
-            if (increase) {
-                debate.increaseLikeCnt();
-            } else {
-                debate.decreaseLikeCnt();
-            }
-        } else {
-            if (increase) {
-                debate.increaseHateCnt();
-            } else {
-                debate.decreaseHateCnt();
-            }
-        }
+    // 토론 좋아요/싫어요 카운트 증감분 누적
+    private void updateDebateLikeHateCount(long[] delta, LikeHateType type, boolean increase) {
+        delta[type == LikeHateType.LIKE ? 0 : 1] += increase ? 1 : -1;
     }
 
     // Debate 엔티티를 Detail DTO로 변환 (목록 조회용)
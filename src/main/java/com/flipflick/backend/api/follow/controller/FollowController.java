@@ -6,6 +6,7 @@ import com.flipflick.backend.api.member.dto.MemberResponseDto;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.service.MemberService;
 import com.flipflick.backend.common.config.security.SecurityMember;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -102,6 +103,28 @@ public class FollowController {
         return ApiResponse.success(SuccessStatus.SEND_FOLLOWING_LIST_SUCCESS, dtoPage);
     }
 
+    // 팔로워 목록 커서 조회
+    @Operation(summary = "팔로워 리스트 커서 조회 API", description = "팔로워 리스트를 최신순 커서 기반으로 조회합니다.")
+    @GetMapping("/{memberId}/follower/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberResponseDto>>> getFollowersCursor(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<Member> followers = followService.getFollowersCursor(memberId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_FOLLOWER_LIST_SUCCESS, toMemberResponse(followers));
+    }
+
+    // 팔로잉 목록 커서 조회
+    @Operation(summary = "팔로우 리스트 커서 조회 API", description = "팔로우 리스트를 최신순 커서 기반으로 조회합니다.")
+    @GetMapping("/{memberId}/following/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberResponseDto>>> getFollowingsCursor(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<Member> followings = followService.getFollowingsCursor(memberId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_FOLLOWING_LIST_SUCCESS, toMemberResponse(followings));
+    }
+
     // 팔로우 여부 확인
     @Operation(summary = "팔로우 여부 확인 API", description = "특정 회원을 팔로우 중인지 확인합니다.")
     @GetMapping("/check")
@@ -114,4 +137,10 @@ public class FollowController {
         result.put("isFollowing", isFollowing);
         return ApiResponse.success(SuccessStatus.SEND_CHECK_FOLLOW_SUCCESS, result);
     }
-}
\ No newline at end of file
+
+    private CursorPageResponse<MemberResponseDto> toMemberResponse(CursorPageResponse<Member> members) {
+        return new CursorPageResponse<>(
+                members.getContent().stream().map(MemberResponseDto::of).toList(),
+                members.getSize(), members.isHasNext(), members.getNextCursor());
+    }
+}
@@ -9,7 +9,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "follow")
+@Table(name = "follow", indexes = {
+        @Index(name = "idx_follow_followed_created", columnList = "followed_id, created_at, follow_id"),
+        @Index(name = "idx_follow_following_created", columnList = "following_id, created_at, follow_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -73,6 +73,34 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     """)
     Page<Follow> findAllByFollowingAndFollowedIsDeletedFalse(@Param("following") Member following, Pageable pageable);
 
+    // 팔로워 목록 커서 조회 (최신순, (createdAt, followId) 키셋)
+    @Query("""
+        SELECT f FROM Follow f
+        JOIN FETCH f.following
+        WHERE f.followed = :followed
+          AND f.following.isDeleted = false
+          AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.followId < :id))
+        ORDER BY f.createdAt DESC, f.followId DESC
+    """)
+    List<Follow> findFollowersAfterCursor(@Param("followed") Member followed,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 팔로잉 목록 커서 조회 (최신순, (createdAt, followId) 키셋)
+    @Query("""
+        SELECT f FROM Follow f
+        JOIN FETCH f.followed
+        WHERE f.following = :following
+          AND f.followed.isDeleted = false
+          AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.followId < :id))
+        ORDER BY f.createdAt DESC, f.followId DESC
+    """)
+    List<Follow> findFollowingsAfterCursor(@Param("following") Member following,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
     // 단순 전체 조회 (삭제 필터 없음) - 필요 시 유지
     List<Follow> findAllByFollowed(Member followed);
 
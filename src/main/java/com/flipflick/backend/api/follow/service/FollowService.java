@@ -6,6 +6,8 @@ import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.NotFoundException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
@@ -101,6 +103,32 @@ public class FollowService {
                 .map(Follow::getFollowed);
     }
 
+    // 팔로워 (커서)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Member> getFollowersCursor(Long memberId, String cursor, int size) {
+        Member followed = memberRepository.findByIdAndIsDeletedFalse(memberId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+
+        PageCursor after = PageCursor.decode(cursor);
+        List<Follow> rows = followRepository.findFollowersAfterCursor(
+                followed, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+        return CursorPageResponse.of(rows, size, Follow::getFollowing,
+                follow -> PageCursor.of(follow.getCreatedAt(), follow.getFollowId()));
+    }
+
+    // 팔로잉 (커서)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Member> getFollowingsCursor(Long memberId, String cursor, int size) {
+        Member following = memberRepository.findByIdAndIsDeletedFalse(memberId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+
+        PageCursor after = PageCursor.decode(cursor);
+        List<Follow> rows = followRepository.findFollowingsAfterCursor(
+                following, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+        return CursorPageResponse.of(rows, size, Follow::getFollowed,
+                follow -> PageCursor.of(follow.getCreatedAt(), follow.getFollowId()));
+    }
+
     // 팔로우 여부 확인
     @Transactional(readOnly = true)
     public boolean isFollowing(String email, Long targetMemberId) {
@@ -9,11 +9,13 @@ import com.flipflick.backend.common.jwt.JWTUtil;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class KakaoAuthService {
     private final MemberRepository memberRepository;
     private final JWTUtil jwtUtil;
+    private final WebClient kakaoClient;
 
     @Value("${kakao.client-id}")
     private String clientId;
@@ -33,36 +36,29 @@ public class KakaoAuthService {
     private String redirectUri;
 
     public String getAccessToken(String code) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
         params.add("client_id", clientId);  // yml에 설정
         params.add("redirect_uri", redirectUri); // 프론트와 동일하게 설정
         params.add("code", code);
 
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        ResponseEntity<KakaoTokenResponseDto> response = restTemplate.postForEntity(
-                "https://kauth.kakao.com/oauth/token", request, KakaoTokenResponseDto.class);
+        KakaoTokenResponseDto response = kakaoClient.post()
+                .uri("https://kauth.kakao.com/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                .bodyToMono(KakaoTokenResponseDto.class)
+                .block();
 
-
-        return response.getBody().getAccessToken();
+        return response.getAccessToken();
     }
     public KakaoUserInfo getUserInfo(String accessToken) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + accessToken);
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
-        ResponseEntity<KakaoUserInfo> response = restTemplate.exchange(
-                "https://kapi.kakao.com/v2/user/me", HttpMethod.GET, request, KakaoUserInfo.class);
-
-
-        return response.getBody();
+        return kakaoClient.get()
+                .uri("https://kapi.kakao.com/v2/user/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(KakaoUserInfo.class)
+                .block();
     }
 
     public Member getOrRegisterUser(KakaoUserInfo userInfo) {
@@ -5,17 +5,14 @@ import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.entity.Role;
 import com.flipflick.backend.api.member.repository.MemberRepository;
 import com.flipflick.backend.common.exception.BaseException;
+import com.flipflick.backend.common.http.ResilientExchangeFilter;
 import com.flipflick.backend.common.jwt.JWTUtil;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -27,6 +24,7 @@ public class NaverAuthService {
 
     private final MemberRepository memberRepository;
     private final JWTUtil jwtUtil;
+    private final WebClient naverClient;
 
     @Value("${naver.client-id}")
     private String clientId;
@@ -38,43 +36,32 @@ public class NaverAuthService {
     private String redirectUri;
 
     public String getAccessToken(String code, String state) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        String tokenUrl = UriComponentsBuilder.fromHttpUrl("https://nid.naver.com/oauth2.0/token")
-                .queryParam("grant_type", "authorization_code")
-                .queryParam("client_id", clientId)
-                .queryParam("client_secret", clientSecret)
-                .queryParam("redirect_uri", redirectUri)
-                .queryParam("code", code)
-                .queryParam("state", state)
-                .toUriString();
-
-        ResponseEntity<NaverTokenResponseDto> response = restTemplate.getForEntity(tokenUrl, NaverTokenResponseDto.class);
-        return response.getBody().getAccessToken();
+        NaverTokenResponseDto response = naverClient.get()
+                .uri("https://nid.naver.com/oauth2.0/token", uri -> uri
+                        .queryParam("grant_type", "authorization_code")
+                        .queryParam("client_id", clientId)
+                        .queryParam("client_secret", clientSecret)
+                        .queryParam("redirect_uri", redirectUri)
+                        .queryParam("code", code)
+                        .queryParam("state", state)
+                        .build())
+                // 인가 코드는 일회용 - 재시도하면 첫 요청이 이미 소비한 코드로 invalid_grant 만 돌아옴
+                .attribute(ResilientExchangeFilter.NO_RETRY, true)
+                .retrieve()
+                .bodyToMono(NaverTokenResponseDto.class)
+                .block();
+        return response.getAccessToken();
     }
 
     public NaverUserInfo getUserInfo(String accessToken) {
-        RestTemplate restTemplate = new RestTemplate();
-        System.out.println(accessToken);
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + accessToken);
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
-        ResponseEntity<String> response1 = restTemplate.exchange(
-                "https://openapi.naver.com/v1/nid/me", HttpMethod.GET, request, String.class
-        );
-
-        System.out.println("응답 전체: " + response1.getBody());
-
-        ResponseEntity<NaverUserResponse> response = restTemplate.exchange(
-                "https://openapi.naver.com/v1/nid/me", HttpMethod.GET, request, NaverUserResponse.class
-        );
-
-        System.out.println("응답 전체: " + response1.getBody());
-
-
-        return response.getBody().getResponse();
+        NaverUserResponse response = naverClient.get()
+                .uri("https://openapi.naver.com/v1/nid/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(NaverUserResponse.class)
+                .block();
+
+        return response.getResponse();
     }
 
     public Member getOrRegisterUser(NaverUserInfo userInfo) {
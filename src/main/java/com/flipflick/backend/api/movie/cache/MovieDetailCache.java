@@ -0,0 +1,208 @@
+package com.flipflick.backend.api.movie.cache;
+
+import com.flipflick.backend.api.movie.dto.MovieDetailBaseDTO;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.common.cache.LocalLruCache;
+import com.flipflick.backend.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 영화 상세 공용 데이터 2단 캐시
+ * - L1: 인스턴스 메모리 LRU (짧은 TTL)
+ * - L2: Redis (movie:detail:{tmdbId})
+ * 공용 데이터가 바뀌면 커밋 후 L2 삭제 + Redis pub/sub 으로 모든 인스턴스의 L1 을 비움
+ * 무효화 때마다 tmdbId 별 버전을 올리고, loader 결과는 조회 시작 시점의 버전이 그대로일 때만 저장
+ * (커밋 전 DB 를 읽은 loader 가 무효화 뒤에 옛 값을 다시 채워 넣지 않도록)
+ */
+@Component
+@Slf4j
+public class MovieDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "movie:detail:";
+    private static final String INVALIDATE_CHANNEL = "movie:detail:invalidate";
+    private static final String ALL = "*";
+    private static final String VERSION_PREFIX = "movie:detail:ver:";
+    private static final String ALL_VERSION_KEY = VERSION_PREFIX + "all";
+
+    // 조회 시작 시점의 버전(개별, 전체)이 그대로일 때만 저장
+    private static final RedisScript<Long> SET_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') == ARGV[2] and (redis.call('get', KEYS[3]) or '0') == ARGV[3] then "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[4]) return 1 else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redis;
+    private final LocalLruCache<Long, MovieDetailBaseDTO> local;
+    private final SingleFlight<Long, MovieDetailBaseDTO> loadFlight = new SingleFlight<>();
+    // L1 무효화 횟수 (조회 중에 무효화가 지나갔으면 L1 에 넣지 않음)
+    private final AtomicLong localEpoch = new AtomicLong();
+    private final Duration redisTtl;
+    private final Counter l1Hit;
+    private final Counter l2Hit;
+    private final Counter miss;
+
+    public MovieDetailCache(RedisTemplate<String, Object> redis,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${flipflick.movie.detail-cache.local-size:2000}") int localSize,
+                            @Value("${flipflick.movie.detail-cache.local-ttl:5m}") Duration localTtl,
+                            @Value("${flipflick.movie.detail-cache.redis-ttl:6h}") Duration redisTtl) {
+        this.redis = redis;
+        this.local = new LocalLruCache<>(localSize, localTtl);
+        this.redisTtl = redisTtl;
+        this.l1Hit = meterRegistry.counter("movie.detail.cache", "result", "l1_hit");
+        this.l2Hit = meterRegistry.counter("movie.detail.cache", "result", "l2_hit");
+        this.miss = meterRegistry.counter("movie.detail.cache", "result", "miss");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // L1 → L2 → loader 순으로 조회하고, 동시 miss 는 하나의 loader 호출로 합침
+    public MovieDetailBaseDTO get(Long tmdbId, Supplier<MovieDetailBaseDTO> loader) {
+        MovieDetailBaseDTO cached = local.get(tmdbId);
+        if (cached != null) {
+            l1Hit.increment();
+            return cached;
+        }
+
+        return loadFlight.execute(tmdbId, () -> {
+            long epoch = localEpoch.get();
+            MovieDetailBaseDTO remote = readRemote(tmdbId);
+            if (remote != null) {
+                l2Hit.increment();
+                putLocal(tmdbId, remote, epoch);
+                return remote;
+            }
+
+            miss.increment();
+            long[] versions = readVersions(tmdbId);
+            MovieDetailBaseDTO loaded = loader.get();
+            // Redis 장애로 버전을 못 읽었으면 L1 에만 저장 (무효화 전파도 안 되므로 L1 TTL 로 만료)
+            if (versions == null || writeRemote(tmdbId, loaded, versions)) {
+                putLocal(tmdbId, loaded, epoch);
+            }
+            return loaded;
+        });
+    }
+
+    // 변경 트랜잭션 커밋 후 무효화 (트랜잭션 밖에서 발행되면 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovieDetailChanged(MovieDetailChangedEvent event) {
+        try {
+            if (event.isAll()) {
+                redis.opsForValue().increment(ALL_VERSION_KEY);
+                deleteAllRemote();
+                redis.convertAndSend(INVALIDATE_CHANNEL, ALL);
+            } else {
+                String versionKey = VERSION_PREFIX + event.getTmdbId();
+                redis.opsForValue().increment(versionKey);
+                // 진행 중인 조회보다 오래 남아 있으면 충분
+                redis.expire(versionKey, redisTtl);
+                redis.delete(KEY_PREFIX + event.getTmdbId());
+                redis.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(event.getTmdbId()));
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 시 로컬만이라도 비움 (다른 인스턴스는 L1 TTL 로 만료)
+            log.warn("영화 상세 캐시 무효화 전파 실패: {}", e.getMessage());
+            evictLocal(event.isAll() ? ALL : String.valueOf(event.getTmdbId()));
+        }
+    }
+
+    // 다른 인스턴스(자기 자신 포함)에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redis.getValueSerializer().deserialize(message.getBody());
+        evictLocal(payload != null ? payload.toString() : new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String target) {
+        localEpoch.incrementAndGet();
+        if (ALL.equals(target)) {
+            local.clear();
+            return;
+        }
+        try {
+            local.evict(Long.valueOf(target));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 영화 상세 캐시 무효화 메시지: {}", target);
+        }
+    }
+
+    private MovieDetailBaseDTO readRemote(Long tmdbId) {
+        try {
+            Object value = redis.opsForValue().get(KEY_PREFIX + tmdbId);
+            return value instanceof MovieDetailBaseDTO dto ? dto : null;
+        } catch (RuntimeException e) {
+            // 역직렬화 실패/Redis 장애는 miss 로 처리
+            log.warn("영화 상세 캐시 조회 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putLocal(Long tmdbId, MovieDetailBaseDTO value, long epoch) {
+        if (localEpoch.get() == epoch) {
+            local.put(tmdbId, value);
+        }
+    }
+
+    // [개별 버전, 전체 버전], Redis 장애 시 null (L2 에 저장하지 않음)
+    private long[] readVersions(Long tmdbId) {
+        try {
+            List<Object> values = redis.opsForValue().multiGet(List.of(VERSION_PREFIX + tmdbId, ALL_VERSION_KEY));
+            return new long[]{toVersion(values.get(0)), toVersion(values.get(1))};
+        } catch (DataAccessException e) {
+            log.warn("영화 상세 캐시 버전 조회 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 조회 중에 무효화가 있어 저장을 건너뛰었으면 false
+    private boolean writeRemote(Long tmdbId, MovieDetailBaseDTO value, long[] versions) {
+        try {
+            Long written = redis.execute(SET_IF_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + tmdbId, VERSION_PREFIX + tmdbId, ALL_VERSION_KEY),
+                    value, versions[0], versions[1], redisTtl.toMillis());
+            return written != null && written == 1L;
+        } catch (DataAccessException e) {
+            log.warn("영화 상세 캐시 저장 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+            return true;
+        }
+    }
+
+    private static long toVersion(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private void deleteAllRemote() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "[0-9]*").count(500).build();
+        redis.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    connection.keyCommands().del(cursor.next());
+                }
+            }
+            return null;
+        });
+    }
+}
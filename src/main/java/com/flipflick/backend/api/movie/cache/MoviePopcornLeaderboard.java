@@ -0,0 +1,145 @@
+package com.flipflick.backend.api.movie.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Popcorn 점수 리더보드 (Redis ZSET, member = tmdbId, score = popcorn)
+ * - 전체: popcorn:leaderboard
+ * - 장르별: popcorn:leaderboard:genre:{genreTmdbId}
+ * 리뷰 수가 MIN_REVIEW_COUNT 이상인 영화만 포함하며, Popcorn 점수가 반영될 때마다 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoviePopcornLeaderboard {
+
+    public static final int MIN_REVIEW_COUNT = 3;
+
+    private static final String KEY = "popcorn:leaderboard";
+    private static final String GENRE_KEY_PREFIX = "popcorn:leaderboard:genre:";
+    private static final String GENRE_INDEX_KEY = "popcorn:leaderboard:genres";
+    private static final String READY_KEY = "popcorn:leaderboard:ready";
+    private static final String TMP_SUFFIX = ":tmp";
+
+    private final RedisTemplate<String, Object> redis;
+
+    public record Entry(Long tmdbId, double score, long reviewCnt, List<Long> genreTmdbIds) {
+        boolean eligible() {
+            return reviewCnt >= MIN_REVIEW_COUNT;
+        }
+    }
+
+    /**
+     * 리더보드가 한 번이라도 전체 구성되었는지 여부
+     */
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redis.hasKey(READY_KEY));
+    }
+
+    /**
+     * 상위 영화 tmdbId 조회 (genreTmdbId 가 null 이면 전체)
+     * 리더보드가 아직 구성되지 않았으면 empty
+     */
+    public Optional<List<Long>> top(int limit, Long genreTmdbId) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        String key = genreTmdbId == null ? KEY : GENRE_KEY_PREFIX + genreTmdbId;
+        Set<Object> members = redis.opsForZSet().reverseRange(key, 0, limit - 1L);
+
+        List<Long> tmdbIds = new ArrayList<>();
+        if (members != null) {
+            for (Object member : members) {
+                // JSON 직렬화 특성상 작은 값은 Integer 로 역직렬화됨
+                if (member instanceof Number number) {
+                    tmdbIds.add(number.longValue());
+                }
+            }
+        }
+        return Optional.of(tmdbIds);
+    }
+
+    /**
+     * 전체 재계산 결과로 리더보드를 새로 구성 (임시 키에 쓰고 RENAME 으로 교체)
+     */
+    public void rebuild(Collection<Entry> entries) {
+        Set<ZSetOperations.TypedTuple<Object>> global = new HashSet<>();
+        Map<Long, Set<ZSetOperations.TypedTuple<Object>>> byGenre = new HashMap<>();
+
+        for (Entry entry : entries) {
+            if (!entry.eligible()) {
+                continue;
+            }
+            DefaultTypedTuple<Object> tuple = new DefaultTypedTuple<>(entry.tmdbId(), entry.score());
+            global.add(tuple);
+            for (Long genreTmdbId : entry.genreTmdbIds()) {
+                byGenre.computeIfAbsent(genreTmdbId, id -> new HashSet<>()).add(tuple);
+            }
+        }
+
+        replace(KEY, global);
+        byGenre.forEach((genreTmdbId, tuples) -> replace(GENRE_KEY_PREFIX + genreTmdbId, tuples));
+
+        // 더 이상 해당 영화가 없는 장르 키 정리
+        Set<Object> previousGenres = redis.opsForSet().members(GENRE_INDEX_KEY);
+        if (previousGenres != null) {
+            for (Object genre : previousGenres) {
+                if (genre instanceof Number number && !byGenre.containsKey(number.longValue())) {
+                    redis.delete(GENRE_KEY_PREFIX + number.longValue());
+                }
+            }
+        }
+        redis.delete(GENRE_INDEX_KEY);
+        if (!byGenre.isEmpty()) {
+            redis.opsForSet().add(GENRE_INDEX_KEY, byGenre.keySet().toArray());
+        }
+        redis.opsForValue().set(READY_KEY, System.currentTimeMillis());
+
+        log.info("Popcorn 리더보드 재구성 - 영화 수: {}, 장르 수: {}", global.size(), byGenre.size());
+    }
+
+    /**
+     * 일부 영화의 점수/리뷰 수 변경 반영
+     */
+    public void update(Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            if (entry.eligible()) {
+                redis.opsForZSet().add(KEY, entry.tmdbId(), entry.score());
+                for (Long genreTmdbId : entry.genreTmdbIds()) {
+                    redis.opsForZSet().add(GENRE_KEY_PREFIX + genreTmdbId, entry.tmdbId(), entry.score());
+                    redis.opsForSet().add(GENRE_INDEX_KEY, genreTmdbId);
+                }
+            } else {
+                redis.opsForZSet().remove(KEY, entry.tmdbId());
+                for (Long genreTmdbId : entry.genreTmdbIds()) {
+                    redis.opsForZSet().remove(GENRE_KEY_PREFIX + genreTmdbId, entry.tmdbId());
+                }
+            }
+        }
+    }
+
+    private void replace(String key, Set<ZSetOperations.TypedTuple<Object>> tuples) {
+        if (tuples.isEmpty()) {
+            redis.delete(key);
+            return;
+        }
+        String tmpKey = key + TMP_SUFFIX;
+        redis.delete(tmpKey);
+        redis.opsForZSet().add(tmpKey, tuples);
+        redis.rename(tmpKey, key);
+    }
+}
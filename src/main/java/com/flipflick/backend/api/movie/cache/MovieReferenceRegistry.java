@@ -0,0 +1,177 @@
+package com.flipflick.backend.api.movie.cache;
+
+import com.flipflick.backend.api.movie.repository.GenreRepository;
+import com.flipflick.backend.api.movie.repository.ProviderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 장르/제공사 참조 데이터 레지스트리 (tmdbId, 내부 id 양방향 조회)
+ * - 기동 시 전체를 읽어 불변 Map 스냅샷으로 보관, 조회는 락 없이 스냅샷만 읽음
+ * - 처음 보는 tmdbId 는 INSERT IGNORE 로 원자적으로 추가한 뒤 스냅샷을 복사·교체 (copy-on-write)
+ * - 다른 인스턴스가 추가한 id 를 모르면 DB 에서 다시 읽어 교체
+ */
+@Component
+@Slf4j
+public class MovieReferenceRegistry {
+
+    public record GenreRef(Long id, Long tmdbId, String genreName) {
+    }
+
+    public record ProviderRef(Long id, Long tmdbId, String providerName) {
+    }
+
+    private record Snapshot<T>(Map<Long, T> byId, Map<Long, T> byTmdbId) {
+
+        static <T> Snapshot<T> of(List<T> refs, Function<T, Long> idOf, Function<T, Long> tmdbIdOf) {
+            Map<Long, T> byId = new HashMap<>();
+            Map<Long, T> byTmdbId = new HashMap<>();
+            for (T ref : refs) {
+                byId.put(idOf.apply(ref), ref);
+                byTmdbId.put(tmdbIdOf.apply(ref), ref);
+            }
+            return new Snapshot<>(Map.copyOf(byId), Map.copyOf(byTmdbId));
+        }
+
+        Snapshot<T> with(Long id, Long tmdbId, T ref) {
+            Map<Long, T> byId = new HashMap<>(this.byId);
+            Map<Long, T> byTmdbId = new HashMap<>(this.byTmdbId);
+            byId.put(id, ref);
+            byTmdbId.put(tmdbId, ref);
+            return new Snapshot<>(Map.copyOf(byId), Map.copyOf(byTmdbId));
+        }
+    }
+
+    private final GenreRepository genreRepository;
+    private final ProviderRepository providerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate insertTx;
+
+    private volatile Snapshot<GenreRef> genres;
+    private volatile Snapshot<ProviderRef> providers;
+
+    public MovieReferenceRegistry(GenreRepository genreRepository,
+                                  ProviderRepository providerRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.genreRepository = genreRepository;
+        this.providerRepository = providerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        // 호출한 트랜잭션이 롤백되어도 레지스트리에 올린 행은 남아 있어야 함
+        this.insertTx = new TransactionTemplate(transactionManager);
+        this.insertTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadGenres();
+        reloadProviders();
+        log.info("참조 데이터 레지스트리 로드 - 장르: {}, 제공사: {}",
+                genres.byId().size(), providers.byId().size());
+    }
+
+    public GenreRef genreById(Long id) {
+        GenreRef ref = genres().byId().get(id);
+        return ref != null ? ref : reloadGenres().byId().get(id);
+    }
+
+    // 요청 값으로 조회하므로 없는 tmdbId 라도 DB 를 다시 읽지 않음
+    public GenreRef genreByTmdbId(Long tmdbId) {
+        return genres().byTmdbId().get(tmdbId);
+    }
+
+    public ProviderRef providerById(Long id) {
+        ProviderRef ref = providers().byId().get(id);
+        return ref != null ? ref : reloadProviders().byId().get(id);
+    }
+
+    /**
+     * 장르 조회, 없으면 추가 (동시에 여러 인스턴스가 추가해도 한 행만 생성)
+     */
+    public GenreRef getOrCreateGenre(Long tmdbId, String genreName) {
+        GenreRef ref = genres().byTmdbId().get(tmdbId);
+        if (ref != null) {
+            return ref;
+        }
+        synchronized (this) {
+            Snapshot<GenreRef> snapshot = genres();
+            ref = snapshot.byTmdbId().get(tmdbId);
+            if (ref != null) {
+                return ref;
+            }
+            Map<String, Object> row = insertIfAbsent("genre", "genre_name", tmdbId, genreName);
+            ref = new GenreRef(((Number) row.get("id")).longValue(), tmdbId, (String) row.get("name"));
+            genres = snapshot.with(ref.id(), tmdbId, ref);
+            return ref;
+        }
+    }
+
+    /**
+     * 제공사 조회, 없으면 추가 (동시에 여러 인스턴스가 추가해도 한 행만 생성)
+     */
+    public ProviderRef getOrCreateProvider(Long tmdbId, String providerName) {
+        ProviderRef ref = providers().byTmdbId().get(tmdbId);
+        if (ref != null) {
+            return ref;
+        }
+        synchronized (this) {
+            Snapshot<ProviderRef> snapshot = providers();
+            ref = snapshot.byTmdbId().get(tmdbId);
+            if (ref != null) {
+                return ref;
+            }
+            Map<String, Object> row = insertIfAbsent("provider", "provider_name", tmdbId, providerName);
+            ref = new ProviderRef(((Number) row.get("id")).longValue(), tmdbId, (String) row.get("name"));
+            providers = snapshot.with(ref.id(), tmdbId, ref);
+            return ref;
+        }
+    }
+
+    // tmdb_id unique 제약으로 먼저 추가된 행이 있으면 무시하고, 최종 행의 id/이름을 반환
+    private Map<String, Object> insertIfAbsent(String table, String nameColumn, Long tmdbId, String name) {
+        return insertTx.execute(status -> {
+            jdbcTemplate.update("INSERT IGNORE INTO " + table + " (tmdb_id, " + nameColumn + ") VALUES (?, ?)",
+                    tmdbId, name);
+            return jdbcTemplate.queryForMap("SELECT id, " + nameColumn + " AS name FROM " + table
+                    + " WHERE tmdb_id = ?", tmdbId);
+        });
+    }
+
+    private Snapshot<GenreRef> genres() {
+        Snapshot<GenreRef> snapshot = genres;
+        return snapshot != null ? snapshot : reloadGenres();
+    }
+
+    private Snapshot<ProviderRef> providers() {
+        Snapshot<ProviderRef> snapshot = providers;
+        return snapshot != null ? snapshot : reloadProviders();
+    }
+
+    private synchronized Snapshot<GenreRef> reloadGenres() {
+        List<GenreRef> refs = genreRepository.findAll().stream()
+                .map(genre -> new GenreRef(genre.getId(), genre.getTmdbId(), genre.getGenreName()))
+                .toList();
+        genres = Snapshot.of(refs, GenreRef::id, GenreRef::tmdbId);
+        return genres;
+    }
+
+    private synchronized Snapshot<ProviderRef> reloadProviders() {
+        List<ProviderRef> refs = providerRepository.findAll().stream()
+                .map(provider -> new ProviderRef(provider.getId(), provider.getTmdbId(), provider.getProviderName()))
+                .toList();
+        providers = Snapshot.of(refs, ProviderRef::id, ProviderRef::tmdbId);
+        return providers;
+    }
+}
@@ -1,6 +1,7 @@
 package com.flipflick.backend.api.movie.controller;
 
 import com.flipflick.backend.api.movie.dto.*;
+import com.flipflick.backend.api.movie.service.BoxOfficeService;
 import com.flipflick.backend.api.movie.service.MovieService;
 import com.flipflick.backend.common.config.security.SecurityMember;
 import com.flipflick.backend.common.response.ApiResponse;
@@ -23,6 +24,7 @@ import java.util.List;
 public class MovieController {
 
     private final MovieService movieService;
+    private final BoxOfficeService boxOfficeService;
 
     @Operation(summary = "영화 상세 조회 API", description = "TMDB ID를 받아 영화 상세 데이터를 반환합니다.")
     @ApiResponses({
@@ -63,6 +65,21 @@ public class MovieController {
         return ApiResponse.success(SuccessStatus.SEND_MOVIE_BOOKMARK_LIST_SUCCESS, movieBWLHListResponseDTO);
     }
 
+    @Operation(summary = "찜한 영화 목록 조회 API (무한 스크롤)", description = "전체 개수 조회 없이 다음 페이지 존재 여부만 반환합니다. 쿼리 파라미터 memberId가 없으면 본인의 목록을 조회합니다.")
+    @GetMapping("/bookmark-list/slice")
+    public ResponseEntity<ApiResponse<MovieBWLHSliceResponseDTO>> getBookmarkedMovieSlice(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // memberId 파라미터가 없으면, 인증된 본인의 ID 사용
+        Long userId = (memberId != null) ? memberId : securityMember.getId();
+
+        MovieBWLHSliceResponseDTO movieBWLHSliceResponseDTO = movieService.getBookmarkedMovieSlice(userId, page, size);
+        return ApiResponse.success(SuccessStatus.SEND_MOVIE_BOOKMARK_LIST_SUCCESS, movieBWLHSliceResponseDTO);
+    }
+
     @Operation(summary = "영화 봤어요 토글 API", description = "봤던 영화를 기록할 수 있습니다, 다시 한번 더 호출하면 해제 됩니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "본 영화 토글 성공")
@@ -89,6 +106,21 @@ public class MovieController {
         return ApiResponse.success(SuccessStatus.SEND_MOVIE_WATCHED_LIST_SUCCESS, movieBWLHListResponseDTO);
     }
 
+    @Operation(summary = "본 영화 목록 조회 API (무한 스크롤)", description = "전체 개수 조회 없이 다음 페이지 존재 여부만 반환합니다. 쿼리 파라미터 memberId가 없으면 본인의 목록을 조회합니다.")
+    @GetMapping("/watched-list/slice")
+    public ResponseEntity<ApiResponse<MovieBWLHSliceResponseDTO>> getMovieWatchedSlice(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // memberId 파라미터가 없으면, 인증된 본인의 ID 사용
+        Long userId = (memberId != null) ? memberId : securityMember.getId();
+
+        MovieBWLHSliceResponseDTO movieBWLHSliceResponseDTO = movieService.getMovieWatchedSlice(userId, page, size);
+        return ApiResponse.success(SuccessStatus.SEND_MOVIE_WATCHED_LIST_SUCCESS, movieBWLHSliceResponseDTO);
+    }
+
     @Operation(summary = "좋아요, 싫어요 토글 API", description = "좋아요, 싫어요 토글 합니다. TYPE : LIKE / HATE")
     @PostMapping("/like-hate")
     public ResponseEntity<ApiResponse<Void>> movieLikeHate(@RequestBody MovieLikeHateRequestDTO movieLikeHateRequestDTO, @AuthenticationPrincipal SecurityMember securityMember){
@@ -97,6 +129,14 @@ public class MovieController {
         return ApiResponse.success_only(SuccessStatus.SEND_MOVIE_LIKE_HATE_SUCCESS);
     }
 
+    @Operation(summary = "영화 내 상태 일괄 조회 API", description = "TMDB ID 목록을 받아 각 영화의 찜/봤어요/좋아요/싫어요 여부를 한 번에 반환합니다. (최대 100개)")
+    @PostMapping("/my-state")
+    public ResponseEntity<ApiResponse<List<MoviePersonalFlagsDTO>>> getMyMovieStates(@RequestBody MovieMyStateRequestDTO movieMyStateRequestDTO, @AuthenticationPrincipal SecurityMember securityMember) {
+
+        List<MoviePersonalFlagsDTO> states = movieService.getMyMovieStates(securityMember.getId(), movieMyStateRequestDTO);
+        return ApiResponse.success(SuccessStatus.SEND_MOVIE_MY_STATE_SUCCESS, states);
+    }
+
     @Operation(summary = "좋아요 한 영화 목록 조회 API", description = "쿼리 파라미터 memberId가 있으면 해당 회원의 본 영화 목록, 없으면 본인의 본 영화 목록을 페이징 조회합니다.")
     @GetMapping("/like-list")
     public ResponseEntity<ApiResponse<MovieBWLHListResponseDTO>> getMovieLike(
@@ -112,16 +152,33 @@ public class MovieController {
         return ApiResponse.success(SuccessStatus.SEND_MOVIE_LIKE_LIST_SUCCESS, movieBWLHListResponseDTO);
     }
 
-    @Operation(summary = "Popcorn 점수 TOP 영화 조회", description = "Popcorn 점수 기준 상위 영화 목록을 조회합니다.")
+    @Operation(summary = "좋아요 한 영화 목록 조회 API (무한 스크롤)", description = "전체 개수 조회 없이 다음 페이지 존재 여부만 반환합니다. 쿼리 파라미터 memberId가 없으면 본인의 목록을 조회합니다.")
+    @GetMapping("/like-list/slice")
+    public ResponseEntity<ApiResponse<MovieBWLHSliceResponseDTO>> getMovieLikeSlice(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // memberId 파라미터가 없으면, 인증된 본인의 ID 사용
+        Long userId = (memberId != null) ? memberId : securityMember.getId();
+
+        MovieBWLHSliceResponseDTO movieBWLHSliceResponseDTO = movieService.getMovieLikeSlice(userId, page, size);
+        return ApiResponse.success(SuccessStatus.SEND_MOVIE_LIKE_LIST_SUCCESS, movieBWLHSliceResponseDTO);
+    }
+
+    @Operation(summary = "Popcorn 점수 TOP 영화 조회", description = "Popcorn 점수 기준 상위 영화 목록을 조회합니다. 장르로 필터링할 수 있습니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
     @GetMapping("/top-popcorn")
     public ResponseEntity<ApiResponse<List<MoviePopcornResponseDTO>>> getTopMoviesByPopcornScore(
             @Parameter(description = "조회할 영화 수", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "장르 TMDB ID (없으면 전체)", example = "28")
+            @RequestParam(required = false) Long genreId) {
 
-        List<MoviePopcornResponseDTO> result = movieService.getTopMoviesByPopcornScore(limit);
+        List<MoviePopcornResponseDTO> result = movieService.getTopMoviesByPopcornScore(limit, genreId);
 
         return ApiResponse.success(SuccessStatus.GET_MOVIE_SUCCESS, result);
     }
@@ -136,12 +193,19 @@ public class MovieController {
         return ApiResponse.success(SuccessStatus.SEND_RECOMMENDATION_SUCCESS, "Popcorn 점수 재계산이 완료되었습니다.");
     }
 
+    @Operation(summary = "변경된 영화 Popcorn 점수 수동 재계산", description = "관리자용: 리뷰/좋아요/봤어요가 바뀐 영화의 Popcorn 점수만 재계산합니다.")
+    @PostMapping("/admin/recalculate-popcorn/dirty")
+    public ResponseEntity<ApiResponse<String>> manualRecalculateDirtyPopcornScores() {
+        int count = movieService.manualRecalculateDirtyPopcornScores();
+        return ApiResponse.success(SuccessStatus.SEND_RECOMMENDATION_SUCCESS, count + "개 영화의 Popcorn 점수 재계산이 완료되었습니다.");
+    }
+
     @Operation(summary = "박스오피스 TOP10 조회 API", description = "박스오피스에서 TOP10영화를 조회하여 반환합니다.")
     @GetMapping("/boxoffice")
     public ResponseEntity<ApiResponse<BoxOfficeResponseDTO>> getBoxOffice(
             @RequestParam @Parameter(description="오늘 날짜(YYYY-MM-DD)") String today) {
 
-        BoxOfficeResponseDTO boxOfficeResponseDTO = movieService.getYesterdayBoxOffice(today);
+        BoxOfficeResponseDTO boxOfficeResponseDTO = boxOfficeService.getYesterdayBoxOffice(today);
         return ApiResponse.success(SuccessStatus.SEND_TODAY_MOVIE_SUCCESS, boxOfficeResponseDTO);
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 박스오피스 캐시 값 + 갱신 시각 (soft TTL 판단용)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoxOfficeCacheEntryDTO {
+    private BoxOfficeResponseDTO value;
+    private long refreshedAt;   // epoch millis
+    private boolean complete;   // 모든 영화 TMDB 매칭 완료 여부
+}
@@ -1,10 +1,14 @@
 package com.flipflick.backend.api.movie.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CastResponseDTO {
     private Long id;          // 배우 TMDB ID
     private String name;      // 배우 이름
@@ -0,0 +1,39 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * KOBIS 일별 박스오피스 응답 (searchDailyBoxOfficeList)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KobisDailyBoxOfficeDTO {
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private Result boxOfficeResult = new Result();
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Result {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<Item> dailyBoxOfficeList = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        private String movieCd;
+        private String movieNm;
+        private int rank;
+        private String openDt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MovieBWLHSliceResponseDTO {
+
+    private int page; // 현재 페이지(0부터 시작)
+    private int size; // 요청한 페이지 사이즈
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private List<MovieBWLHResponseDTO> content;
+}
@@ -0,0 +1,41 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 영화 상세 중 회원과 무관한 공용 데이터 (L1/L2 캐시 대상)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieDetailBaseDTO {
+
+    private Long movieId;
+    private Long tmdbId;
+    private String title;
+    private String originalTitle;
+    private String overview;
+    private String posterImg;
+    private String backgroundImg;
+    private double popcorn;
+    private double voteAverage;
+    private long likeCnt;
+    private long hateCnt;
+    private LocalDate releaseDate;
+    private int runtime;
+    private int productionYear;
+    private String productionCountry;
+    private String ageRating;
+
+    private List<GenreDTO> genres;
+    private List<String> images;
+    private List<String> videos;
+    private List<ProviderDTO> providers;
+    private List<CastResponseDTO> casts;
+    private List<RatingBucketDTO> ratingDistribution;   // 별점 분포 (0.5 ~ 5.0, 0.5 단위)
+}
@@ -36,4 +36,5 @@ public class MovieDetailResponseDTO {
     private List<String> videos;
     private List<ProviderDTO> providers;
     private List<CastResponseDTO> casts;
+    private List<RatingBucketDTO> ratingDistribution;   // 별점 분포 (0.5 ~ 5.0, 0.5 단위)
 }
@@ -0,0 +1,15 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovieMyStateRequestDTO {
+
+    private List<Long> tmdbIds;
+}
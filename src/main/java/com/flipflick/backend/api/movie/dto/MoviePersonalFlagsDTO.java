@@ -0,0 +1,19 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 영화별 내 찜/봤어요/좋아요/싫어요 상태
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoviePersonalFlagsDTO {
+    private Long tmdbId;
+    private boolean myBookmark;
+    private boolean myWatched;
+    private boolean myLike;
+    private boolean myHate;
+}
@@ -0,0 +1,16 @@
+package com.flipflick.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 별점 분포 한 칸 (star 점을 준 리뷰 수)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingBucketDTO {
+    private double star;
+    private long count;
+}
@@ -0,0 +1,22 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * TMDB 일일 ID 덤프의 한 줄 ({"adult":false,"id":3924,"original_title":"Blondie","popularity":2.3,"video":false})
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbExportEntryDTO {
+
+    private Long id;
+    private boolean adult;
+    private double popularity;
+
+    @JsonProperty("original_title")
+    private String originalTitle;
+}
@@ -0,0 +1,35 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TMDB 목록 응답 중 id 만 필요한 경우 (/movie/popular, /movie/now_playing, /movie/upcoming, /movie/changes)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbIdPageDTO {
+
+    private int page;
+
+    @JsonProperty("total_pages")
+    private int totalPages;
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<Item> results = List.of();
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        private Long id;
+        private boolean adult;
+    }
+}
@@ -0,0 +1,199 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TMDB /movie/{id} (append_to_response=videos,images,watch/providers,release_dates,credits) 응답
+ * 사용하는 필드만 선언하고 나머지(포스터/로고 이미지 배열, 한국 외 제공사 등)는 트리를 만들지 않고 건너뜀
+ * 목록/하위 객체가 명시적 null 로 오면 기본값(빈 값)으로 받음 (필드 초기값이 null 로 덮이지 않도록)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbMovieDetailDTO {
+
+    private Long id;
+    private String title;
+
+    @JsonProperty("original_title")
+    private String originalTitle;
+
+    private String overview;
+
+    @JsonProperty("poster_path")
+    private String posterPath;
+
+    @JsonProperty("backdrop_path")
+    private String backdropPath;
+
+    // 빈 문자열("")로 오는 경우가 있어 문자열로 받아서 파싱
+    @JsonProperty("release_date")
+    private String releaseDate;
+
+    private Integer runtime;
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<Genre> genres = List.of();
+
+    @JsonProperty("production_countries")
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<Country> productionCountries = List.of();
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private Images images = new Images();
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private Videos videos = new Videos();
+
+    @JsonProperty("watch/providers")
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private WatchProviders watchProviders = new WatchProviders();
+
+    @JsonProperty("release_dates")
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private ReleaseDates releaseDates = new ReleaseDates();
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private Credits credits = new Credits();
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Genre {
+        private Long id;
+        private String name;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Country {
+        private String name;
+    }
+
+    // backdrops 만 사용 (posters, logos 는 건너뜀)
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Images {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<Image> backdrops = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Image {
+        @JsonProperty("file_path")
+        private String filePath;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Videos {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<Video> results = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Video {
+        private String site;
+        private String key;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class WatchProviders {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private ProviderRegions results = new ProviderRegions();
+    }
+
+    // 한국(KR) 제공사만 매핑 (다른 국가는 건너뜀)
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ProviderRegions {
+        @JsonProperty("KR")
+        private RegionProviders kr;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RegionProviders {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<WatchProvider> flatrate = List.of();
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<WatchProvider> rent = List.of();
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<WatchProvider> buy = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class WatchProvider {
+        @JsonProperty("provider_id")
+        private Long providerId;
+
+        @JsonProperty("provider_name")
+        private String providerName;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ReleaseDates {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<CountryReleaseDates> results = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CountryReleaseDates {
+        @JsonProperty("iso_3166_1")
+        private String country;
+
+        @JsonProperty("release_dates")
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<ReleaseDate> releaseDates = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ReleaseDate {
+        private String certification;
+    }
+
+    // /movie/{id}/credits 응답도 같은 형태
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Credits {
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<CastMember> cast = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CastMember {
+        private Long id;
+        private String name;
+
+        @JsonProperty("profile_path")
+        private String profilePath;
+    }
+}
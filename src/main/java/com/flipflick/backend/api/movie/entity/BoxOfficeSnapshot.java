@@ -0,0 +1,35 @@
+package com.flipflick.backend.api.movie.entity;
+
+import com.flipflick.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 일별 박스오피스 스냅샷 (과거 날짜 조회 시 KOBIS 호출 없이 사용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "box_office_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"target_date", "movie_rank"}))
+public class BoxOfficeSnapshot extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;   // 박스오피스 기준일
+
+    @Column(name = "movie_rank", nullable = false)
+    private int movieRank;          // 순위
+
+    @Column(nullable = false, length = 20)
+    private String movieCd;         // KOBIS 영화 코드
+
+    private String title;           // KOBIS 영화명
+    private Long tmdbId;            // 매칭된 TMDB ID (매칭 실패 시 null)
+    private String posterUrl;       // TMDB 포스터 URL
+}
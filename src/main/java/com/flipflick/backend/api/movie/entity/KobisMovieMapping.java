@@ -0,0 +1,27 @@
+package com.flipflick.backend.api.movie.entity;
+
+import com.flipflick.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// KOBIS 영화 코드 → TMDB 영화 매핑 (한 번 찾은 영화는 TMDB 검색 생략)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "kobis_movie_mapping")
+public class KobisMovieMapping extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 20)
+    private String movieCd;         // KOBIS 영화 코드
+
+    @Column(nullable = false)
+    private Long tmdbId;            // TMDB 영화 ID
+
+    private String posterUrl;       // TMDB 포스터 URL
+}
@@ -4,16 +4,20 @@ import com.flipflick.backend.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate  // 바뀐 컬럼만 UPDATE - TMDB 상세 갱신이 JDBC 로 갱신된 팝콘지수/평균 평점을 옛 값으로 덮어쓰지 않도록
 @Table(name = "movie")
 public class Movie extends BaseTimeEntity {
 
@@ -37,8 +41,13 @@ public class Movie extends BaseTimeEntity {
     private double popcorn;         // 팝콘지수
     private double voteAverage;     // 우리 자체 평점 (초기 0)
 
+    // 카운터는 JDBC 배치(ReactionCounter, Popcorn 재계산)로만 갱신 - 엔티티 flush 가 옛 값으로 덮어쓰지 않도록 UPDATE 에서 제외
+    @Column(updatable = false)
     private long likeCnt;           // 좋아요
+    @Column(updatable = false)
     private long hateCnt;           // 싫어요
+    @Column(updatable = false)
+    private long reviewCnt;         // 리뷰 수 (삭제 제외, Popcorn 재계산 시 갱신)
 
     private LocalDate releaseDate;  // 개봉일
     private int runtime;            // 상영 시간
@@ -65,13 +74,51 @@ public class Movie extends BaseTimeEntity {
     @OneToMany(mappedBy = "movie", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MovieProvider> providers = new ArrayList<>();
 
+    @BatchSize(size = 50)
+    @OrderColumn(name = "cast_order")
+    @Builder.Default
+    @OneToMany(mappedBy = "movie", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<MovieCast> casts = new ArrayList<>();
+
+    private LocalDateTime castsSyncedAt; // 출연진 마지막 동기화 시각 (null 이면 미저장)
+
     public void updateVoteAverage(Double voteAverage) {
         this.voteAverage = voteAverage;
     }
 
-    public void incrementLike() { this.likeCnt++; }
-    public void decrementLike() { if(this.likeCnt>0) this.likeCnt--; }
-    public void incrementHate() { this.hateCnt++; }
-    public void decrementHate() { if(this.hateCnt>0) this.hateCnt--; }
     public void updatePopcornScore(double newScore) { this.popcorn = newScore; }
+
+    // TMDB 에서 다시 가져온 단일 값 필드 반영 (변경이 있으면 true)
+    public boolean updateDetails(Movie source) {
+        boolean changed = !Objects.equals(title, source.title)
+                || !Objects.equals(originalTitle, source.originalTitle)
+                || !Objects.equals(overview, source.overview)
+                || !Objects.equals(posterImg, source.posterImg)
+                || !Objects.equals(backgroundImg, source.backgroundImg)
+                || !Objects.equals(releaseDate, source.releaseDate)
+                || runtime != source.runtime
+                || productionYear != source.productionYear
+                || !Objects.equals(productionCountry, source.productionCountry)
+                || !Objects.equals(ageRating, source.ageRating);
+        if (changed) {
+            this.title = source.title;
+            this.originalTitle = source.originalTitle;
+            this.overview = source.overview;
+            this.posterImg = source.posterImg;
+            this.backgroundImg = source.backgroundImg;
+            this.releaseDate = source.releaseDate;
+            this.runtime = source.runtime;
+            this.productionYear = source.productionYear;
+            this.productionCountry = source.productionCountry;
+            this.ageRating = source.ageRating;
+        }
+        return changed;
+    }
+
+    // 출연진 전체 교체 (orphanRemoval 로 기존 행 삭제)
+    public void replaceCasts(List<MovieCast> newCasts) {
+        this.casts.clear();
+        this.casts.addAll(newCasts);
+        this.castsSyncedAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,26 @@
+package com.flipflick.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "movie_cast")
+@AllArgsConstructor
+public class MovieCast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long castTmdbId;        // 배우 TMDB ID
+
+    private String name;            // 배우 이름
+    private String profileImg;      // 프로필 이미지 URL
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "movie_id")
+    private Movie movie;
+}
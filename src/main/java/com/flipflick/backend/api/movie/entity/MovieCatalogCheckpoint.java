@@ -0,0 +1,52 @@
+package com.flipflick.backend.api.movie.entity;
+
+import com.flipflick.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// TMDB 목록 사전 적재 진행 위치 (중단되면 다음 실행에서 nextPage 부터 이어서 진행)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "movie_catalog_checkpoint",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"list_type"}))
+public class MovieCatalogCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "list_type", nullable = false, length = 20)
+    private MovieCatalogList listType;  // 대상 목록
+
+    @Column(nullable = false)
+    private int nextPage;               // 다음에 적재할 페이지
+
+    private int totalPages;             // 마지막으로 확인한 TMDB 전체 페이지 수
+    private LocalDateTime runStartedAt; // 현재 회차 시작 시각
+    private LocalDateTime completedAt;  // 현재 회차 완료 시각 (진행 중이면 null)
+
+    public boolean isInProgress() {
+        return runStartedAt != null && completedAt == null;
+    }
+
+    public void startRun(LocalDateTime now) {
+        this.nextPage = 1;
+        this.runStartedAt = now;
+        this.completedAt = null;
+    }
+
+    public void advance(int nextPage, int totalPages) {
+        this.nextPage = nextPage;
+        this.totalPages = totalPages;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.completedAt = now;
+    }
+}
@@ -0,0 +1,16 @@
+package com.flipflick.backend.api.movie.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사전 적재 대상 TMDB 영화 목록
+@Getter
+@RequiredArgsConstructor
+public enum MovieCatalogList {
+
+    POPULAR("/movie/popular"),
+    NOW_PLAYING("/movie/now_playing"),
+    UPCOMING("/movie/upcoming");
+
+    private final String path;
+}
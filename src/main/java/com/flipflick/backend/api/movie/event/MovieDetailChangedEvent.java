@@ -0,0 +1,28 @@
+package com.flipflick.backend.api.movie.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 영화 상세의 공용 데이터(좋아요/싫어요 수, 평균 평점, 팝콘 지수 등)가 바뀌었음을 알리는 이벤트
+ * tmdbId 가 null 이면 전체 영화 대상
+ */
+public class MovieDetailChangedEvent extends ApplicationEvent {
+    private final Long tmdbId;
+
+    public MovieDetailChangedEvent(Object source, Long tmdbId) {
+        super(source);
+        this.tmdbId = tmdbId;
+    }
+
+    public static MovieDetailChangedEvent all(Object source) {
+        return new MovieDetailChangedEvent(source, null);
+    }
+
+    public Long getTmdbId() {
+        return tmdbId;
+    }
+
+    public boolean isAll() {
+        return tmdbId == null;
+    }
+}
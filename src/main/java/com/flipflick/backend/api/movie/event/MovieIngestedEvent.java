@@ -0,0 +1,46 @@
+package com.flipflick.backend.api.movie.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+
+/**
+ * TMDB 에서 가져온 영화가 새로 저장되었거나 제목/포스터 등 기본 정보가 갱신되었음을 알리는 이벤트
+ */
+public class MovieIngestedEvent extends ApplicationEvent {
+    private final Long tmdbId;
+    private final String title;
+    private final String originalTitle;
+    private final String posterImg;
+    private final LocalDate releaseDate;
+
+    public MovieIngestedEvent(Object source, Long tmdbId, String title, String originalTitle,
+                              String posterImg, LocalDate releaseDate) {
+        super(source);
+        this.tmdbId = tmdbId;
+        this.title = title;
+        this.originalTitle = originalTitle;
+        this.posterImg = posterImg;
+        this.releaseDate = releaseDate;
+    }
+
+    public Long getTmdbId() {
+        return tmdbId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getOriginalTitle() {
+        return originalTitle;
+    }
+
+    public String getPosterImg() {
+        return posterImg;
+    }
+
+    public LocalDate getReleaseDate() {
+        return releaseDate;
+    }
+}
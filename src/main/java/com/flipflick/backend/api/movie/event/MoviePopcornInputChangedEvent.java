@@ -0,0 +1,19 @@
+package com.flipflick.backend.api.movie.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 영화의 Popcorn 점수 입력값(리뷰, 좋아요/싫어요, 봤어요)이 바뀌었음을 알리는 이벤트
+ */
+public class MoviePopcornInputChangedEvent extends ApplicationEvent {
+    private final Long movieId;
+
+    public MoviePopcornInputChangedEvent(Object source, Long movieId) {
+        super(source);
+        this.movieId = movieId;
+    }
+
+    public Long getMovieId() {
+        return movieId;
+    }
+}
@@ -1,12 +1,15 @@
 package com.flipflick.backend.api.movie.repository;
 
 import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO;
 import com.flipflick.backend.api.movie.entity.Bookmark;
 import com.flipflick.backend.api.movie.entity.Movie;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,7 +19,19 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     void deleteByMemberAndMovie(Member member, Movie movie);
     boolean existsByMemberAndMovie(Member member, Movie movie);
 
-    // Movie 연관관계를 한 번에 패치해서 N+1 방지
-    @EntityGraph(attributePaths = {"movie"})
-    Page<Bookmark> findByMember_Id(Long memberId, Pageable pageable);
+    // 찜한 영화 카드 (필요한 컬럼만 조인 조회, 페이지당 쿼리 1회 + count 1회)
+    @Query(value = "SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM Bookmark b JOIN b.movie m " +
+            "WHERE b.member.id = :memberId AND b.member.isDeleted = false " +
+            "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Bookmark b " +
+            "WHERE b.member.id = :memberId AND b.member.isDeleted = false")
+    Page<MovieBWLHResponseDTO> findMovieCardsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 무한 스크롤용 (count 쿼리 없이 size + 1 건 조회로 다음 페이지 여부 판단)
+    @Query("SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM Bookmark b JOIN b.movie m " +
+            "WHERE b.member.id = :memberId AND b.member.isDeleted = false " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<MovieBWLHResponseDTO> findMovieCardSliceByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
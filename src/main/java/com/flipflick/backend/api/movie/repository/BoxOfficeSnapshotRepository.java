@@ -0,0 +1,20 @@
+package com.flipflick.backend.api.movie.repository;
+
+import com.flipflick.backend.api.movie.entity.BoxOfficeSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BoxOfficeSnapshotRepository extends JpaRepository<BoxOfficeSnapshot, Long> {
+
+    List<BoxOfficeSnapshot> findByTargetDateOrderByMovieRankAsc(LocalDate targetDate);
+
+    /**
+     * 기준일 이전 가장 최근 스냅샷 날짜
+     */
+    @Query("SELECT MAX(s.targetDate) FROM BoxOfficeSnapshot s WHERE s.targetDate < :targetDate")
+    LocalDate findLatestTargetDateBefore(@Param("targetDate") LocalDate targetDate);
+}
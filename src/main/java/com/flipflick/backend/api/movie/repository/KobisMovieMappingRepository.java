@@ -0,0 +1,12 @@
+package com.flipflick.backend.api.movie.repository;
+
+import com.flipflick.backend.api.movie.entity.KobisMovieMapping;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface KobisMovieMappingRepository extends JpaRepository<KobisMovieMapping, Long> {
+
+    List<KobisMovieMapping> findByMovieCdIn(Collection<String> movieCds);
+}
@@ -0,0 +1,12 @@
+package com.flipflick.backend.api.movie.repository;
+
+import com.flipflick.backend.api.movie.entity.MovieCatalogCheckpoint;
+import com.flipflick.backend.api.movie.entity.MovieCatalogList;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MovieCatalogCheckpointRepository extends JpaRepository<MovieCatalogCheckpoint, Long> {
+
+    Optional<MovieCatalogCheckpoint> findByListType(MovieCatalogList listType);
+}
@@ -2,6 +2,20 @@ package com.flipflick.backend.api.movie.repository;
 
 import com.flipflick.backend.api.movie.entity.MovieGenre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MovieGenreRepository extends JpaRepository<MovieGenre, Long> {
+
+    /**
+     * 전체 영화-장르 매핑 [movieId, genreId] (genre 테이블 조인 없이 FK 만 조회)
+     */
+    @Query("SELECT mg.movie.id, mg.genre.id FROM MovieGenre mg")
+    List<Object[]> findAllGenreIds();
+
+    @Query("SELECT mg.movie.id, mg.genre.id FROM MovieGenre mg WHERE mg.movie.id IN :movieIds")
+    List<Object[]> findGenreIdsByMovieIdIn(@Param("movieIds") Collection<Long> movieIds);
 }
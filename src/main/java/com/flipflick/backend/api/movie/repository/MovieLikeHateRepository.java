@@ -1,13 +1,16 @@
 package com.flipflick.backend.api.movie.repository;
 
 import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO;
 import com.flipflick.backend.api.movie.entity.Movie;
 import com.flipflick.backend.api.movie.entity.MovieLikeHate;
 import com.flipflick.backend.api.review.entity.LikeHateType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,6 +19,19 @@ public interface MovieLikeHateRepository extends JpaRepository<MovieLikeHate, Lo
     Optional<MovieLikeHate> findByMemberAndMovie(Member member, Movie movie);
     boolean existsByMemberAndMovieAndType(Member member, Movie movie, LikeHateType type);
 
-    @EntityGraph(attributePaths = {"movie"})
-    Page<MovieLikeHate> findByMember_IdAndType(Long memberId, LikeHateType type, Pageable pageable);
+    // 좋아요/싫어요 누른 영화 카드 (필요한 컬럼만 조인 조회, 페이지당 쿼리 1회 + count 1회)
+    @Query(value = "SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM MovieLikeHate mlh JOIN mlh.movie m " +
+            "WHERE mlh.member.id = :memberId AND mlh.type = :type AND mlh.member.isDeleted = false " +
+            "ORDER BY mlh.createdAt DESC, mlh.id DESC",
+            countQuery = "SELECT COUNT(mlh) FROM MovieLikeHate mlh " +
+            "WHERE mlh.member.id = :memberId AND mlh.type = :type AND mlh.member.isDeleted = false")
+    Page<MovieBWLHResponseDTO> findMovieCardsByMemberId(@Param("memberId") Long memberId, @Param("type") LikeHateType type, Pageable pageable);
+
+    // 무한 스크롤용 (count 쿼리 없이 size + 1 건 조회로 다음 페이지 여부 판단)
+    @Query("SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM MovieLikeHate mlh JOIN mlh.movie m " +
+            "WHERE mlh.member.id = :memberId AND mlh.type = :type AND mlh.member.isDeleted = false " +
+            "ORDER BY mlh.createdAt DESC, mlh.id DESC")
+    Slice<MovieBWLHResponseDTO> findMovieCardSliceByMemberId(@Param("memberId") Long memberId, @Param("type") LikeHateType type, Pageable pageable);
 }
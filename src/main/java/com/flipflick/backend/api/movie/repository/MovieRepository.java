@@ -1,25 +1,34 @@
 package com.flipflick.backend.api.movie.repository;
 
 import com.flipflick.backend.api.movie.entity.Movie;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
+    // 장르/제공사 이름은 MovieReferenceRegistry 에서 조회하므로 매핑 행까지만 로딩
     @EntityGraph(attributePaths = {
-            "movieGenres.genre",
+            "movieGenres",
             "media",
-            "providers.provider"
+            "providers"
     })
     Optional<Movie> findWithAllByTmdbId(Long tmdbId);
     Optional<Movie> findByTmdbId(Long tmdbId);
 
+    /**
+     * 출연진이 저장되지 않았거나 오래된 영화 ID 조회 (오래된 순)
+     */
+    @Query("SELECT m.id FROM Movie m WHERE m.castsSyncedAt IS NULL OR m.castsSyncedAt < :threshold ORDER BY m.castsSyncedAt ASC")
+    List<Long> findIdsWithStaleCasts(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
     /**
      * 특정 영화의 좋아요 수 조회
      */
@@ -32,9 +41,74 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m.hateCnt FROM Movie m WHERE m.id = :movieId")
     Integer findHateCountByMovieId(@Param("movieId") Long movieId);
 
+    /**
+     * 전체 영화의 좋아요/싫어요 수와 현재 Popcorn 점수 조회 [id, likeCnt, hateCnt, popcorn, tmdbId, reviewCnt]
+     */
+    @Query("SELECT m.id, m.likeCnt, m.hateCnt, m.popcorn, m.tmdbId, m.reviewCnt FROM Movie m")
+    List<Object[]> findAllScoreInputs();
+
+    @Query("SELECT m.id, m.likeCnt, m.hateCnt, m.popcorn, m.tmdbId, m.reviewCnt FROM Movie m WHERE m.id IN :movieIds")
+    List<Object[]> findScoreInputsByIdIn(@Param("movieIds") Collection<Long> movieIds);
+
+    // 자동완성 인덱스 구성용 [tmdbId, title, originalTitle, posterImg, releaseDate, popcorn]
+    // 리뷰가 있거나 팝콘지수가 기준 이상인 영화만, 팝콘지수 높은 순으로 최대 pageable 크기까지
+    @Query("SELECT m.tmdbId, m.title, m.originalTitle, m.posterImg, m.releaseDate, m.popcorn FROM Movie m " +
+            "WHERE m.reviewCnt >= :minReviews OR m.popcorn >= :minPopcorn ORDER BY m.popcorn DESC, m.id")
+    List<Object[]> findAutocompleteRows(@Param("minReviews") long minReviews,
+                                        @Param("minPopcorn") double minPopcorn,
+                                        Pageable pageable);
+
     /**
      * Popcorn 점수 기준 TOP 영화 조회 (리뷰 수 3개 이상)
+     * 리더보드가 구성되기 전에만 사용하는 fallback
      */
     @Query("SELECT m FROM Movie m WHERE (SELECT COUNT(r) FROM Review r WHERE r.movie.id = m.id AND r.isDeleted = false) >= 3 ORDER BY m.popcorn DESC")
-    Page<Movie> findTopMoviesByPopcornScore(Pageable pageable);
+    List<Movie> findTopMoviesByPopcornScore(Pageable pageable);
+
+    @Query("SELECT m FROM Movie m JOIN m.movieGenres mg WHERE mg.genre.id = :genreId AND (SELECT COUNT(r) FROM Review r WHERE r.movie.id = m.id AND r.isDeleted = false) >= 3 ORDER BY m.popcorn DESC")
+    List<Movie> findTopMoviesByPopcornScoreAndGenre(@Param("genreId") Long genreId, Pageable pageable);
+
+    List<Movie> findByTmdbIdIn(Collection<Long> tmdbIds);
+
+    @Query("SELECT m.tmdbId FROM Movie m WHERE m.id IN :movieIds")
+    List<Long> findTmdbIdsByIdIn(@Param("movieIds") Collection<Long> movieIds);
+
+    @Query("SELECT m.tmdbId FROM Movie m WHERE m.id = :movieId")
+    Optional<Long> findTmdbIdById(@Param("movieId") Long movieId);
+
+    @Query("SELECT m.tmdbId FROM Movie m WHERE m.tmdbId IN :tmdbIds")
+    List<Long> findExistingTmdbIds(@Param("tmdbIds") Collection<Long> tmdbIds);
+
+    /**
+     * 회원 유효 여부 + 한 영화에 대한 찜/봤어요/좋아요/싫어요 여부를 한 번에 조회
+     * [memberValid, bookmark, watched, like, hate] (0/1)
+     */
+    @Query(value = """
+        SELECT
+            EXISTS(SELECT 1 FROM member mb WHERE mb.member_id = :memberId AND mb.is_deleted = false),
+            EXISTS(SELECT 1 FROM movie_bookmark b WHERE b.member_id = :memberId AND b.movie_id = :movieId),
+            EXISTS(SELECT 1 FROM movie_watched w WHERE w.member_id = :memberId AND w.movie_id = :movieId),
+            EXISTS(SELECT 1 FROM movie_like_hate l WHERE l.member_id = :memberId AND l.movie_id = :movieId AND l.type = 'LIKE'),
+            EXISTS(SELECT 1 FROM movie_like_hate l WHERE l.member_id = :memberId AND l.movie_id = :movieId AND l.type = 'HATE')
+        """, nativeQuery = true)
+    List<Object[]> findPersonalFlags(@Param("memberId") Long memberId, @Param("movieId") Long movieId);
+
+    /**
+     * 여러 영화(tmdbId)에 대한 회원의 찜/봤어요/좋아요/싫어요 상태 일괄 조회
+     * [kind(BOOKMARK/WATCHED/LIKE/HATE), tmdbId]
+     */
+    @Query(value = """
+        SELECT 'BOOKMARK' AS kind, m.tmdb_id
+        FROM movie_bookmark b JOIN movie m ON m.id = b.movie_id
+        WHERE b.member_id = :memberId AND m.tmdb_id IN (:tmdbIds)
+        UNION ALL
+        SELECT 'WATCHED' AS kind, m.tmdb_id
+        FROM movie_watched w JOIN movie m ON m.id = w.movie_id
+        WHERE w.member_id = :memberId AND m.tmdb_id IN (:tmdbIds)
+        UNION ALL
+        SELECT l.type AS kind, m.tmdb_id
+        FROM movie_like_hate l JOIN movie m ON m.id = l.movie_id
+        WHERE l.member_id = :memberId AND m.tmdb_id IN (:tmdbIds)
+        """, nativeQuery = true)
+    List<Object[]> findPersonalFlagsByTmdbIds(@Param("memberId") Long memberId, @Param("tmdbIds") Collection<Long> tmdbIds);
 }
@@ -1,15 +1,18 @@
 package com.flipflick.backend.api.movie.repository;
 
 import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO;
 import com.flipflick.backend.api.movie.entity.Movie;
 import com.flipflick.backend.api.movie.entity.Watched;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface WatchedRepository extends JpaRepository<Watched, Long> {
@@ -18,12 +21,33 @@ public interface WatchedRepository extends JpaRepository<Watched, Long> {
     void deleteByMemberAndMovie(Member member, Movie movie);
     boolean existsByMemberAndMovie(Member member, Movie movie);
 
-    // Movie 연관관계를 한 번에 패치해서 N+1 방지
-    @EntityGraph(attributePaths = {"movie"})
-    Page<Watched> findByMember_Id(Long memberId, Pageable pageable);
+    // 본 영화 카드 (필요한 컬럼만 조인 조회, 페이지당 쿼리 1회 + count 1회)
+    @Query(value = "SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM Watched w JOIN w.movie m " +
+            "WHERE w.member.id = :memberId AND w.member.isDeleted = false " +
+            "ORDER BY w.createdAt DESC, w.id DESC",
+            countQuery = "SELECT COUNT(w) FROM Watched w " +
+            "WHERE w.member.id = :memberId AND w.member.isDeleted = false")
+    Page<MovieBWLHResponseDTO> findMovieCardsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 무한 스크롤용 (count 쿼리 없이 size + 1 건 조회로 다음 페이지 여부 판단)
+    @Query("SELECT new com.flipflick.backend.api.movie.dto.MovieBWLHResponseDTO(m.tmdbId, m.posterImg, m.title, m.productionYear) " +
+            "FROM Watched w JOIN w.movie m " +
+            "WHERE w.member.id = :memberId AND w.member.isDeleted = false " +
+            "ORDER BY w.createdAt DESC, w.id DESC")
+    Slice<MovieBWLHResponseDTO> findMovieCardSliceByMemberId(@Param("memberId") Long memberId, Pageable pageable);
     /**
      * 특정 영화를 본 사용자 수 조회
      */
     @Query("SELECT COUNT(w) FROM Watched w WHERE w.movie.id = :movieId")
     Long countWatchedByMovieId(@Param("movieId") Long movieId);
+
+    /**
+     * 영화별 봤어요 수 일괄 조회 [movieId, count]
+     */
+    @Query("SELECT w.movie.id, COUNT(w) FROM Watched w GROUP BY w.movie.id")
+    List<Object[]> countWatchedGroupByMovie();
+
+    @Query("SELECT w.movie.id, COUNT(w) FROM Watched w WHERE w.movie.id IN :movieIds GROUP BY w.movie.id")
+    List<Object[]> countWatchedGroupByMovieIn(@Param("movieIds") Collection<Long> movieIds);
 }
@@ -2,10 +2,13 @@ package com.flipflick.backend.api.movie.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import com.flipflick.backend.api.movie.service.MovieService;
+import com.flipflick.backend.api.movie.service.BoxOfficeService;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 
@@ -14,21 +17,44 @@ import java.time.ZoneId;
 @Slf4j
 public class BoxOfficeCacheScheduler {
 
-    private final MovieService movieService;
+    private static final int MAX_ATTEMPTS = 6;
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+
+    private final BoxOfficeService boxOfficeService;
+    private final TaskScheduler taskScheduler;
 
     /**
      * 매일 새벽 00:01 (Asia/Seoul) 에 어제 날짜 박스오피스 API를 미리 캐싱
+     * 실패(또는 TMDB 매칭 미완료) 시 1, 2, 4, 8, 16분 간격으로 재시도
      * cron: second(0) minute(1) hour(0) day(*) month(*) weekday(*)
      */
     @Scheduled(cron = "0 1 0 * * *", zone = "Asia/Seoul")
     public void preCacheDailyBoxOffice() {
         // 오늘 날짜 (YYYY-MM-DD)
         String today = LocalDate.now(ZoneId.of("Asia/Seoul")).toString();
+        runWithRetry(today, 1);
+    }
+
+    private void runWithRetry(String today, int attempt) {
+        boolean complete;
         try {
-            movieService.getYesterdayBoxOffice(today);
-            log.info("[Scheduler] BoxOffice 캐시 성공: {}", today);
+            complete = boxOfficeService.refreshWithLock(today);
         } catch (Exception e) {
-            log.error("[Scheduler] BoxOffice 캐시 실패", e);
+            log.error("[Scheduler] BoxOffice 캐시 실패 ({}회차)", attempt, e);
+            complete = false;
         }
+
+        if (complete) {
+            log.info("[Scheduler] BoxOffice 캐시 성공: {} ({}회차)", today, attempt);
+            return;
+        }
+        if (attempt >= MAX_ATTEMPTS) {
+            log.error("[Scheduler] BoxOffice 캐시 재시도 횟수 초과: {}", today);
+            return;
+        }
+
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << (attempt - 1));
+        log.warn("[Scheduler] BoxOffice 캐시 미완료, {}분 후 재시도: {}", backoff.toMinutes(), today);
+        taskScheduler.schedule(() -> runWithRetry(today, attempt + 1), Instant.now().plus(backoff));
     }
-}
\ No newline at end of file
+}
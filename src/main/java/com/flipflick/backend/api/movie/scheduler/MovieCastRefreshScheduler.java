@@ -0,0 +1,32 @@
+package com.flipflick.backend.api.movie.scheduler;
+
+import com.flipflick.backend.api.movie.service.MovieCastService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieCastRefreshScheduler {
+
+    private final MovieCastService movieCastService;
+    private final Executor batchTaskExecutor;
+
+    /**
+     * 매일 새벽 04:30 (Asia/Seoul) 에 출연진이 없거나 오래된 영화의 출연진을 갱신
+     */
+    @Scheduled(cron = "${flipflick.movie.cast-refresh.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void refreshStaleCasts() {
+        batchTaskExecutor.execute(() -> {
+            try {
+                movieCastService.refreshStaleCasts();
+            } catch (Exception e) {
+                log.error("[Scheduler] 출연진 갱신 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.flipflick.backend.api.movie.scheduler;
+
+import com.flipflick.backend.api.movie.service.MovieCatalogIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieCatalogIngestScheduler {
+
+    private final MovieCatalogIngestService movieCatalogIngestService;
+    private final Executor batchTaskExecutor;
+
+    /**
+     * 매일 새벽 05:00 (Asia/Seoul) 에 TMDB 인기/상영중/개봉예정 영화를 미리 적재
+     * 오래 걸리는 작업이므로 다른 스케줄러를 막지 않도록 배치 스레드에서 실행
+     */
+    @Scheduled(cron = "${flipflick.movie.catalog-ingest.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void ingestCatalog() {
+        batchTaskExecutor.execute(() -> {
+            try {
+                movieCatalogIngestService.ingestAll();
+            } catch (Exception e) {
+                log.error("[Scheduler] 영화 사전 적재 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.flipflick.backend.api.movie.scheduler;
+
+import com.flipflick.backend.api.movie.service.MovieChangeSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieChangeSyncScheduler {
+
+    private final MovieChangeSyncService movieChangeSyncService;
+    private final Executor batchTaskExecutor;
+
+    /**
+     * 매시 15분에 TMDB 변경 피드로 저장된 영화 정보(제공사 등) 갱신
+     */
+    @Scheduled(cron = "${flipflick.movie.changes-sync.cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void syncChanges() {
+        batchTaskExecutor.execute(() -> {
+            try {
+                movieChangeSyncService.syncChanges();
+            } catch (Exception e) {
+                log.error("[Scheduler] TMDB 변경 영화 갱신 실패", e);
+            }
+        });
+    }
+}
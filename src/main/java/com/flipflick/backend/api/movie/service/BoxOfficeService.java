@@ -0,0 +1,375 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.dto.BoxOfficeCacheEntryDTO;
+import com.flipflick.backend.api.movie.dto.BoxOfficeMovieDTO;
+import com.flipflick.backend.api.movie.dto.BoxOfficeResponseDTO;
+import com.flipflick.backend.api.movie.dto.KobisDailyBoxOfficeDTO;
+import com.flipflick.backend.api.movie.entity.BoxOfficeSnapshot;
+import com.flipflick.backend.api.movie.entity.KobisMovieMapping;
+import com.flipflick.backend.api.movie.repository.BoxOfficeSnapshotRepository;
+import com.flipflick.backend.api.movie.repository.KobisMovieMappingRepository;
+import com.flipflick.backend.api.search.dto.TmdbMovieSearchResponseDTO;
+import com.flipflick.backend.common.exception.InternalServerException;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import com.flipflick.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoxOfficeService {
+
+    private static final String CACHE_KEY_PREFIX = "boxoffice:swr:";
+    private static final String REFRESH_LOCK_PREFIX = "boxoffice:refresh:lock:";
+    private static final String KOBIS_DAILY_URL = "/kobisopenapi/webservice/rest/boxoffice/searchDailyBoxOfficeList.json";
+    private static final int TOP_N = 10;
+
+    @Value("${tmdb.api.key}")
+    private String apiKey;
+
+    @Value("${tmdb.api.image-base-url}")
+    private String imageBaseUrl;
+
+    @Value("${kobis.api.key}")
+    private String kobisKey;
+
+    @Value("${flipflick.boxoffice.tmdb-concurrency:4}")
+    private int tmdbConcurrency;
+
+    @Value("${flipflick.boxoffice.tmdb-timeout:3s}")
+    private Duration tmdbTimeout;
+
+    @Value("${flipflick.boxoffice.kobis-timeout:5s}")
+    private Duration kobisTimeout;
+
+    @Value("${flipflick.boxoffice.soft-ttl:6h}")
+    private Duration softTtl;
+
+    @Value("${flipflick.boxoffice.incomplete-soft-ttl:5m}")
+    private Duration incompleteSoftTtl;
+
+    @Value("${flipflick.boxoffice.hard-ttl:48h}")
+    private Duration hardTtl;
+
+    @Value("${flipflick.boxoffice.refresh-lock-ttl:2m}")
+    private Duration refreshLockTtl;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final WebClient tmdbWebClient;
+    private final WebClient kobisClient;
+    private final RedisTemplate<String, Object> redis;
+    private final KobisMovieMappingRepository kobisMovieMappingRepository;
+    private final BoxOfficeSnapshotRepository boxOfficeSnapshotRepository;
+    private final RedisLockManager redisLockManager;
+    private final Executor backgroundTaskExecutor;
+
+    // 박스오피스 TOP10 조회 (today 기준 전날)
+    // 외부 API 는 호출하지 않음: 캐시 → DB 스냅샷 → 최근 스냅샷 순으로 응답하고, 갱신은 백그라운드에서 수행
+    public BoxOfficeResponseDTO getYesterdayBoxOffice(String today) {
+        LocalDate targetDate = LocalDate.parse(today).minusDays(1);
+
+        BoxOfficeCacheEntryDTO entry = readCache(today);
+        // 빈 목록은 캐시에 넣지 않지만, 이전에 저장된 빈 값이 남아 있으면 miss 로 처리
+        if (entry != null && !isEmpty(entry.getValue())) {
+            // soft TTL 이 지났으면 기존 값을 주고 한 인스턴스만 갱신
+            if (isStale(entry)) {
+                refreshInBackground(today);
+            }
+            return entry.getValue();
+        }
+
+        List<BoxOfficeSnapshot> snapshot = boxOfficeSnapshotRepository.findByTargetDateOrderByMovieRankAsc(targetDate);
+        if (!snapshot.isEmpty()) {
+            BoxOfficeResponseDTO boxOfficeResponseDTO = new BoxOfficeResponseDTO(toBoxOfficeMovies(snapshot));
+            writeCache(today, boxOfficeResponseDTO, true);
+            return boxOfficeResponseDTO;
+        }
+
+        // 아직 집계 전 → 갱신을 요청하고 가장 최근 스냅샷으로 응답 (없으면 빈 목록)
+        refreshInBackground(today);
+        LocalDate latest = boxOfficeSnapshotRepository.findLatestTargetDateBefore(targetDate);
+        return new BoxOfficeResponseDTO(latest == null
+                ? new ArrayList<>()
+                : toBoxOfficeMovies(boxOfficeSnapshotRepository.findByTargetDateOrderByMovieRankAsc(latest)));
+    }
+
+    // 박스오피스를 다시 구성해 캐시에 저장 (모든 영화 매칭 완료 시 true)
+    public boolean refresh(String today) {
+        LocalDate targetDate = LocalDate.parse(today).minusDays(1);
+        BoxOfficeLoad load = loadBoxOffice(targetDate);
+        if (load.movies().isEmpty()) {
+            // KOBIS 집계 전: 빈 목록을 캐시하면 최근 스냅샷 대체 응답까지 막히므로 저장하지 않고 재시도
+            return false;
+        }
+        writeCache(today, new BoxOfficeResponseDTO(load.movies()), load.complete());
+        return load.complete();
+    }
+
+    // 분산 락을 잡은 인스턴스만 갱신 (다른 인스턴스가 갱신 중이면 true 로 간주)
+    public boolean refreshWithLock(String today) {
+        String lockKey = REFRESH_LOCK_PREFIX + today;
+        Optional<String> token = redisLockManager.tryLock(lockKey, refreshLockTtl);
+        if (token.isEmpty()) {
+            return true;
+        }
+        try {
+            return refresh(today);
+        } finally {
+            redisLockManager.unlock(lockKey, token.get());
+        }
+    }
+
+    private void refreshInBackground(String today) {
+        // 같은 인스턴스 내 중복 갱신 요청 방지
+        if (!refreshing.add(today)) {
+            return;
+        }
+        try {
+            backgroundTaskExecutor.execute(() -> {
+                try {
+                    refreshWithLock(today);
+                } catch (Exception e) {
+                    log.error("박스오피스 백그라운드 갱신 실패 - 날짜: {}", today, e);
+                } finally {
+                    refreshing.remove(today);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(today);
+            log.warn("박스오피스 백그라운드 갱신 요청 거부 - 날짜: {}", today);
+        }
+    }
+
+    // 저장된 스냅샷이 있으면 DB에서, 없으면 KOBIS + TMDB 매칭 후 스냅샷 저장
+    private BoxOfficeLoad loadBoxOffice(LocalDate targetDate) {
+        List<BoxOfficeSnapshot> snapshot = boxOfficeSnapshotRepository.findByTargetDateOrderByMovieRankAsc(targetDate);
+        if (!snapshot.isEmpty()) {
+            return new BoxOfficeLoad(toBoxOfficeMovies(snapshot), true);
+        }
+
+        return buildSnapshot(targetDate);
+    }
+
+    private BoxOfficeCacheEntryDTO readCache(String today) {
+        try {
+            Object cached = redis.opsForValue().get(CACHE_KEY_PREFIX + today);
+            return cached instanceof BoxOfficeCacheEntryDTO entry ? entry : null;
+        } catch (RuntimeException e) {
+            log.warn("박스오피스 캐시 조회 실패 - 날짜: {}, 원인: {}", today, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String today, BoxOfficeResponseDTO value, boolean complete) {
+        // hard TTL 까지는 stale 값이라도 응답에 사용
+        redis.opsForValue().set(CACHE_KEY_PREFIX + today,
+                new BoxOfficeCacheEntryDTO(value, System.currentTimeMillis(), complete), hardTtl);
+    }
+
+    private boolean isEmpty(BoxOfficeResponseDTO value) {
+        return value == null || value.getMovies() == null || value.getMovies().isEmpty();
+    }
+
+    private boolean isStale(BoxOfficeCacheEntryDTO entry) {
+        // 매칭이 덜 된 값은 짧은 주기로 재시도
+        Duration ttl = entry.isComplete() ? softTtl : incompleteSoftTtl;
+        return System.currentTimeMillis() - entry.getRefreshedAt() > ttl.toMillis();
+    }
+
+    private BoxOfficeLoad buildSnapshot(LocalDate targetDate) {
+        List<KobisItem> items = fetchKobisDaily(targetDate);
+        if (items.isEmpty()) {
+            // 아직 집계되지 않은 날짜
+            return new BoxOfficeLoad(new ArrayList<>(), false);
+        }
+
+        // 이전에 매칭된 영화 코드는 TMDB 검색 생략
+        Map<String, KobisMovieMapping> known = kobisMovieMappingRepository
+                .findByMovieCdIn(items.stream().map(KobisItem::movieCd).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(KobisMovieMapping::getMovieCd, m -> m));
+
+        List<KobisItem> unknown = items.stream()
+                .filter(item -> !known.containsKey(item.movieCd()))
+                .collect(Collectors.toList());
+
+        // 새 영화만 병렬(동시성 제한) TMDB 검색, 개별 호출 timeout
+        Map<String, TmdbMatch> matched = unknown.isEmpty()
+                ? Map.of()
+                : Flux.fromIterable(unknown)
+                        .flatMap(item -> searchTmdb(item).map(match -> Map.entry(item.movieCd(), match)), tmdbConcurrency)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                        .block();
+
+        boolean incomplete = false;
+        List<BoxOfficeSnapshot> rows = new ArrayList<>();
+        for (KobisItem item : items) {
+            Long tmdbId = null;
+            String posterUrl = null;
+
+            KobisMovieMapping mapping = known.get(item.movieCd());
+            if (mapping != null) {
+                tmdbId = mapping.getTmdbId();
+                posterUrl = mapping.getPosterUrl();
+            } else {
+                TmdbMatch match = matched.getOrDefault(item.movieCd(), TmdbMatch.error());
+                if (match.failed()) {
+                    incomplete = true;
+                } else if (match.tmdbId() != null) {
+                    tmdbId = match.tmdbId();
+                    posterUrl = match.posterUrl();
+                    saveMapping(item.movieCd(), tmdbId, posterUrl);
+                }
+            }
+
+            rows.add(BoxOfficeSnapshot.builder()
+                    .targetDate(targetDate)
+                    .movieRank(item.rank())
+                    .movieCd(item.movieCd())
+                    .title(item.title())
+                    .tmdbId(tmdbId)
+                    .posterUrl(posterUrl)
+                    .build());
+        }
+
+        // TMDB 호출 실패가 있으면 다음 조회 때 다시 매칭하도록 스냅샷을 남기지 않음
+        if (!incomplete) {
+            saveSnapshot(rows);
+        }
+        return new BoxOfficeLoad(toBoxOfficeMovies(rows), !incomplete);
+    }
+
+    // KOBIS 일별 박스오피스 호출
+    private List<KobisItem> fetchKobisDaily(LocalDate targetDate) {
+        String targetDt = targetDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        KobisDailyBoxOfficeDTO kobisRoot = kobisClient.get()
+                .uri(uri -> uri
+                        .path(KOBIS_DAILY_URL)
+                        .queryParam("key", kobisKey)
+                        .queryParam("targetDt", targetDt)
+                        .build())
+                .retrieve()
+                .bodyToMono(KobisDailyBoxOfficeDTO.class)
+                .timeout(kobisTimeout)
+                .block();
+
+        if (kobisRoot == null) {
+            throw new InternalServerException(ErrorStatus.NO_RESPONSE_TMDB_EXCEPTION.getMessage());
+        }
+
+        List<KobisItem> items = new ArrayList<>();
+        for (KobisDailyBoxOfficeDTO.Item item : kobisRoot.getBoxOfficeResult().getDailyBoxOfficeList()) {
+            if (items.size() >= TOP_N) break;
+
+            String openDt = item.getOpenDt() == null ? "" : item.getOpenDt().trim();
+            Integer openYear = openDt.length() >= 4 ? Integer.valueOf(openDt.substring(0, 4)) : null;
+            items.add(new KobisItem(
+                    item.getMovieCd(),
+                    item.getMovieNm(),
+                    item.getRank(),
+                    openYear));
+        }
+        return items;
+    }
+
+    // TMDB 제목+개봉연도 검색 (실패/timeout 은 error 로 표시)
+    private Mono<TmdbMatch> searchTmdb(KobisItem item) {
+        return tmdbWebClient.get()
+                .uri(uri -> {
+                    uri.path("/search/movie")
+                            .queryParam("api_key", apiKey)
+                            .queryParam("language", "ko-KR")
+                            .queryParam("query", item.title());
+                    if (item.openYear() != null) {
+                        uri.queryParam("year", item.openYear());
+                    }
+                    return uri.build();
+                })
+                .retrieve()
+                .bodyToMono(TmdbMovieSearchResponseDTO.class)
+                .timeout(tmdbTimeout)
+                .map(this::toMatch)
+                .defaultIfEmpty(TmdbMatch.none())
+                .onErrorResume(e -> {
+                    log.warn("박스오피스 TMDB 매칭 실패 - 영화: {}, 원인: {}", item.title(), e.toString());
+                    return Mono.just(TmdbMatch.error());
+                });
+    }
+
+    private TmdbMatch toMatch(TmdbMovieSearchResponseDTO search) {
+        List<TmdbMovieSearchResponseDTO.TmdbMovie> results = search.getResults();
+        if (results == null || results.isEmpty()) {
+            return TmdbMatch.none();
+        }
+
+        TmdbMovieSearchResponseDTO.TmdbMovie first = results.get(0);
+        String posterUrl = first.getImagePath() != null
+                ? imageBaseUrl + first.getImagePath()
+                : null;
+        return new TmdbMatch(first.getTmdbId(), posterUrl, false);
+    }
+
+    private void saveMapping(String movieCd, Long tmdbId, String posterUrl) {
+        try {
+            kobisMovieMappingRepository.save(KobisMovieMapping.builder()
+                    .movieCd(movieCd)
+                    .tmdbId(tmdbId)
+                    .posterUrl(posterUrl)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.debug("KOBIS 매핑 중복 저장 무시 - movieCd: {}", movieCd);
+        }
+    }
+
+    private void saveSnapshot(List<BoxOfficeSnapshot> rows) {
+        try {
+            boxOfficeSnapshotRepository.saveAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("박스오피스 스냅샷 중복 저장 무시 - 날짜: {}", rows.get(0).getTargetDate());
+        }
+    }
+
+    // 매칭된 영화만 응답 (Redis 직렬화를 위해 ArrayList 사용)
+    private List<BoxOfficeMovieDTO> toBoxOfficeMovies(List<BoxOfficeSnapshot> rows) {
+        return rows.stream()
+                .filter(row -> row.getTmdbId() != null)
+                .map(row -> new BoxOfficeMovieDTO(row.getTmdbId(), row.getPosterUrl(), row.getTitle(), row.getMovieRank()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private record BoxOfficeLoad(List<BoxOfficeMovieDTO> movies, boolean complete) {
+    }
+
+    private record KobisItem(String movieCd, String title, int rank, Integer openYear) {
+    }
+
+    private record TmdbMatch(Long tmdbId, String posterUrl, boolean failed) {
+        static TmdbMatch none() {
+            return new TmdbMatch(null, null, false);
+        }
+
+        static TmdbMatch error() {
+            return new TmdbMatch(null, null, true);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.dto.TmdbMovieDetailDTO;
+import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.event.MovieIngestedEvent;
+import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.http.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 영화의 TMDB 상세를 한꺼번에 가져와 저장 (사전 적재/덤프 가져오기 공용)
+ * - 상세 조회는 제한된 동시성 + 작업 전용 초당 호출 수로 실행 (사용자 요청용 TMDB 한도를 남겨둠)
+ * - 신규 영화: MovieService 매핑으로 묶음 단위 트랜잭션 저장, 실패 시 영화 단위로 재시도
+ * - 변경된 영화: 단일 값 필드만 JDBC 배치 UPDATE, 커밋 후 영화별로 상세 캐시/자동완성 인덱스 갱신 이벤트 발행
+ */
+@Component
+@Slf4j
+public class MovieBulkHydrator {
+
+    private static final String UPDATE_SQL = "UPDATE movie SET title = ?, original_title = ?, overview = ?, "
+            + "poster_img = ?, background_img = ?, release_date = ?, runtime = ?, production_year = ?, "
+            + "production_country = ?, age_rating = ?, updated_at = ? WHERE tmdb_id = ?";
+    private static final Duration THROTTLE_MAX_WAIT = Duration.ofMinutes(1);
+    private static final int THROTTLE_MAX_ATTEMPTS = 3;
+
+    private final MovieService movieService;
+    private final MovieIngestCoordinator movieIngestCoordinator;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTx;
+    private final TokenBucket tokenBucket;
+    private final int concurrency;
+
+    public record Result(int inserted, int updated, int unreleased, int failed) {
+
+        public static final Result EMPTY = new Result(0, 0, 0, 0);
+
+        public Result plus(Result other) {
+            return new Result(inserted + other.inserted, updated + other.updated,
+                    unreleased + other.unreleased, failed + other.failed);
+        }
+    }
+
+    public MovieBulkHydrator(MovieService movieService,
+                             MovieIngestCoordinator movieIngestCoordinator,
+                             JdbcTemplate jdbcTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${flipflick.movie.bulk-hydrate.concurrency:4}") int concurrency,
+                             @Value("${flipflick.movie.bulk-hydrate.rate-per-second:10}") int ratePerSecond) {
+        this.movieService = movieService;
+        this.movieIngestCoordinator = movieIngestCoordinator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.concurrency = concurrency;
+        this.tokenBucket = new TokenBucket(ratePerSecond, ratePerSecond);
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.writeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param missing DB 에 없는 영화 tmdbId (새로 저장)
+     * @param changed DB 에 있지만 내용이 바뀐 영화 tmdbId (단일 값 필드 갱신)
+     */
+    public Result hydrate(Collection<Long> missing, Collection<Long> changed) {
+        Set<Long> requested = new LinkedHashSet<>(missing);
+        requested.addAll(changed);
+        if (requested.isEmpty()) {
+            return Result.EMPTY;
+        }
+
+        Map<Long, TmdbMovieDetailDTO> fetched = fetch(requested);
+        int failed = requested.size() - fetched.size();
+
+        List<TmdbMovieDetailDTO> inserts = new ArrayList<>();
+        List<TmdbMovieDetailDTO> updates = new ArrayList<>();
+        for (Long tmdbId : missing) {
+            TmdbMovieDetailDTO detail = fetched.get(tmdbId);
+            if (detail != null) {
+                inserts.add(detail);
+            }
+        }
+        for (Long tmdbId : changed) {
+            TmdbMovieDetailDTO detail = fetched.get(tmdbId);
+            if (detail != null) {
+                updates.add(detail);
+            }
+        }
+
+        return new Result(0, 0, 0, failed)
+                .plus(insert(inserts))
+                .plus(update(updates));
+    }
+
+    /**
+     * 여러 영화의 TMDB 상세를 제한된 동시성으로 조회 (실패한 영화는 결과에서 빠짐)
+     */
+    public Map<Long, TmdbMovieDetailDTO> fetch(Collection<Long> tmdbIds) {
+        Map<Long, TmdbMovieDetailDTO> fetched = Flux.fromIterable(tmdbIds)
+                .flatMap(tmdbId -> throttle()
+                        .then(movieService.requestMovieDetail(tmdbId))
+                        .map(detail -> Map.entry(tmdbId, detail))
+                        .onErrorResume(e -> {
+                            log.warn("[BulkHydrate] 영화 상세 조회 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+        return fetched == null ? Map.of() : fetched;
+    }
+
+    // 묶음 전체를 하나의 트랜잭션으로 저장, 실패하면(다른 요청이 먼저 저장한 경우 등) 영화 단위로 다시 저장
+    private Result insert(List<TmdbMovieDetailDTO> details) {
+        if (details.isEmpty()) {
+            return Result.EMPTY;
+        }
+        int[] unreleased = new int[1];
+        try {
+            writeTx.executeWithoutResult(status -> {
+                unreleased[0] = 0;
+                for (TmdbMovieDetailDTO detail : details) {
+                    try {
+                        movieService.saveMovie(detail);
+                    } catch (BadRequestException e) {
+                        // 개봉일 없는 영화는 저장 전에 걸러지므로 트랜잭션에 영향 없음
+                        unreleased[0]++;
+                    }
+                }
+            });
+            return new Result(details.size() - unreleased[0], 0, unreleased[0], 0);
+        } catch (RuntimeException e) {
+            log.warn("[BulkHydrate] 일괄 저장 실패, 개별 저장으로 재시도: {}", e.getMessage());
+            Result result = Result.EMPTY;
+            for (TmdbMovieDetailDTO detail : details) {
+                result = result.plus(insertOne(detail));
+            }
+            return result;
+        }
+    }
+
+    private Result insertOne(TmdbMovieDetailDTO detail) {
+        long tmdbId = detail.getId();
+        try {
+            movieIngestCoordinator.getOrIngest(tmdbId, () -> movieService.saveMovie(detail));
+            return new Result(1, 0, 0, 0);
+        } catch (BadRequestException e) {
+            return new Result(0, 0, 1, 0);
+        } catch (Exception e) {
+            log.warn("[BulkHydrate] 영화 저장 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+            return new Result(0, 0, 0, 1);
+        }
+    }
+
+    private Result update(List<TmdbMovieDetailDTO> details) {
+        if (details.isEmpty()) {
+            return Result.EMPTY;
+        }
+        List<Movie> movies = new ArrayList<>();
+        int unreleased = 0;
+        for (TmdbMovieDetailDTO detail : details) {
+            try {
+                movies.add(movieService.mapMovie(detail));
+            } catch (BadRequestException e) {
+                unreleased++;
+            }
+        }
+        if (movies.isEmpty()) {
+            return new Result(0, 0, unreleased, 0);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            writeTx.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, movies, movies.size(), (ps, movie) -> {
+                    ps.setString(1, movie.getTitle());
+                    ps.setString(2, movie.getOriginalTitle());
+                    ps.setString(3, movie.getOverview());
+                    ps.setString(4, movie.getPosterImg());
+                    ps.setString(5, movie.getBackgroundImg());
+                    ps.setDate(6, Date.valueOf(movie.getReleaseDate()));
+                    ps.setInt(7, movie.getRuntime());
+                    ps.setInt(8, movie.getProductionYear());
+                    ps.setString(9, movie.getProductionCountry());
+                    ps.setString(10, movie.getAgeRating());
+                    ps.setTimestamp(11, now);
+                    ps.setLong(12, movie.getTmdbId());
+                });
+                // AFTER_COMMIT 리스너가 받으므로 커밋된 뒤에만 캐시 무효화/인덱스 반영
+                for (Movie movie : movies) {
+                    eventPublisher.publishEvent(new MovieDetailChangedEvent(this, movie.getTmdbId()));
+                    eventPublisher.publishEvent(new MovieIngestedEvent(this, movie.getTmdbId(), movie.getTitle(),
+                            movie.getOriginalTitle(), movie.getPosterImg(), movie.getReleaseDate()));
+                }
+            });
+            return new Result(0, movies.size(), unreleased, 0);
+        } catch (RuntimeException e) {
+            log.warn("[BulkHydrate] 영화 일괄 갱신 실패 - 영화 수: {}: {}", movies.size(), e.getMessage());
+            return new Result(0, 0, unreleased, movies.size());
+        }
+    }
+
+    // 작업 전용 토큰 버킷으로 호출 간격 조절 (동시 요청 수가 작아 대기 시간은 짧음)
+    private Mono<Void> throttle() {
+        return throttle(1);
+    }
+
+    // 0 이면 바로 진행, 양수면 그만큼 대기
+    // -1 이면 토큰을 예약하지 못한 것이므로 THROTTLE_MAX_WAIT 만큼 기다렸다가 다시 예약, 끝내 못 하면 이 영화는 실패 처리
+    private Mono<Void> throttle(int attempt) {
+        return Mono.defer(() -> {
+            long waitNanos = tokenBucket.reserve(THROTTLE_MAX_WAIT);
+            if (waitNanos == 0L) {
+                return Mono.empty();
+            }
+            if (waitNanos > 0L) {
+                return Mono.delay(Duration.ofNanos(waitNanos)).then();
+            }
+            if (attempt >= THROTTLE_MAX_ATTEMPTS) {
+                return Mono.error(new IllegalStateException("TMDB 요청 속도 제한 대기 시간 초과"));
+            }
+            return Mono.delay(THROTTLE_MAX_WAIT).then(throttle(attempt + 1));
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.dto.CastResponseDTO;
+import com.flipflick.backend.api.movie.dto.TmdbMovieDetailDTO;
+import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.entity.MovieCast;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.common.exception.InternalServerException;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import com.flipflick.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MovieCastService {
+
+    @Value("${tmdb.api.key}")
+    private String apiKey;
+
+    @Value("${tmdb.api.image-base-url}")
+    private String imageBaseUrl;
+
+    @Value("${flipflick.movie.cast-refresh-days:30}")
+    private int refreshDays;
+
+    // 하루 갱신량 = 전체 영화 수 / refreshDays (min-batch ~ max-batch 범위)
+    @Value("${flipflick.movie.cast-refresh.min-batch:200}")
+    private int minBatch;
+
+    @Value("${flipflick.movie.cast-refresh.max-batch:20000}")
+    private int maxBatch;
+
+    @Value("${flipflick.movie.cast-refresh.lock-ttl:3h}")
+    private Duration lockTtl;
+
+    private static final String LOCK_KEY = "movie:cast-refresh:lock";
+
+    private final WebClient tmdbWebClient;
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisLockManager redisLockManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Executor backgroundTaskExecutor;
+
+    // 요청 경로에서 넘겨받아 대기/진행 중인 영화 ID (같은 영화를 중복으로 올리지 않음)
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+
+    // TMDB credits.cast 배열을 영화 출연진으로 저장
+    public void applyCredits(Movie movie, List<TmdbMovieDetailDTO.CastMember> castList) {
+        List<MovieCast> casts = new ArrayList<>();
+        for (TmdbMovieDetailDTO.CastMember c : castList) {
+            casts.add(MovieCast.builder()
+                    .castTmdbId(c.getId())
+                    .name(c.getName())
+                    .profileImg(c.getProfilePath() == null
+                            ? null
+                            : imageBaseUrl + c.getProfilePath())
+                    .movie(movie)
+                    .build());
+        }
+        movie.replaceCasts(casts);
+    }
+
+    // 저장된 출연진을 응답 DTO 로 변환
+    public List<CastResponseDTO> toCastResponses(Movie movie) {
+        return movie.getCasts().stream()
+                .map(c -> CastResponseDTO.builder()
+                        .id(c.getCastTmdbId())
+                        .name(c.getName())
+                        .profileImg(c.getProfileImg())
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // 배우 정보 호출
+    public List<TmdbMovieDetailDTO.CastMember> fetchCredits(Long tmdbId) {
+        TmdbMovieDetailDTO.Credits credits = tmdbWebClient.get()
+                .uri(builder -> builder
+                        .path("/movie/{id}/credits")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "ko-KR")
+                        .build(tmdbId))
+                .retrieve()
+                .bodyToMono(TmdbMovieDetailDTO.Credits.class)
+                .block();
+
+        if (credits == null) {
+            throw new InternalServerException(ErrorStatus.NO_RESPONSE_TMDB_EXCEPTION.getMessage());
+        }
+        return credits.getCast();
+    }
+
+    /**
+     * 출연진이 없거나 오래된 영화의 출연진 갱신 (다른 태스크가 실행 중이면 건너뜀)
+     * 카탈로그 전체가 refreshDays 안에 한 번씩 돌도록 전체 영화 수에 맞춰 처리량을 정함
+     */
+    public void refreshStaleCasts() {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, lockTtl);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            long catalogSize = movieRepository.count();
+            int limit = (int) Math.min(maxBatch, Math.max(minBatch, (catalogSize + refreshDays - 1) / refreshDays));
+
+            LocalDateTime threshold = LocalDateTime.now().minusDays(refreshDays);
+            List<Long> movieIds = movieRepository.findIdsWithStaleCasts(threshold, PageRequest.of(0, limit));
+            int refreshed = 0;
+            for (Long movieId : movieIds) {
+                try {
+                    refreshCasts(movieId);
+                    refreshed++;
+                } catch (Exception e) {
+                    log.error("[CastRefresh] 영화 ID {} 출연진 갱신 실패: {}", movieId, e.getMessage());
+                }
+            }
+            log.info("[CastRefresh] 출연진 갱신 완료: {}/{} (전체 영화 수: {})", refreshed, movieIds.size(), catalogSize);
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    /**
+     * 출연진 미저장(기존) 영화의 출연진을 요청 스레드 밖에서 갱신
+     * 대기열이 가득 차면 건너뛰고 야간 갱신에 맡김
+     */
+    public void requestRefresh(Long movieId) {
+        if (!pendingRefresh.add(movieId)) {
+            return;
+        }
+        try {
+            backgroundTaskExecutor.execute(() -> {
+                try {
+                    refreshCasts(movieId);
+                } catch (Exception e) {
+                    log.warn("영화 ID {} 출연진 백그라운드 갱신 실패: {}", movieId, e.getMessage());
+                } finally {
+                    pendingRefresh.remove(movieId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRefresh.remove(movieId);
+            log.warn("출연진 갱신 대기열이 가득 차 건너뜀 movieId={}", movieId);
+        }
+    }
+
+    // 특정 영화 출연진을 TMDB 기준으로 갱신 (TMDB 호출은 트랜잭션 밖에서)
+    public void refreshCasts(Long movieId) {
+        Long tmdbId = movieRepository.findTmdbIdById(movieId)
+                .orElseThrow(() -> new InternalServerException(ErrorStatus.MOVIE_NOT_FOUND.getMessage()));
+        List<TmdbMovieDetailDTO.CastMember> credits = fetchCredits(tmdbId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Movie movie = movieRepository.findById(movieId)
+                    .orElseThrow(() -> new InternalServerException(ErrorStatus.MOVIE_NOT_FOUND.getMessage()));
+            applyCredits(movie, credits);
+            eventPublisher.publishEvent(new MovieDetailChangedEvent(this, tmdbId));
+        });
+    }
+}
@@ -0,0 +1,179 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.dto.TmdbIdPageDTO;
+import com.flipflick.backend.api.movie.entity.MovieCatalogCheckpoint;
+import com.flipflick.backend.api.movie.entity.MovieCatalogList;
+import com.flipflick.backend.api.movie.repository.MovieCatalogCheckpointRepository;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TMDB 인기/상영중/개봉예정 목록의 영화를 미리 적재해 첫 상세 조회의 TMDB 호출을 없앰
+ * - 목록 페이지 단위로 DB 에 없는 영화만 MovieBulkHydrator 로 상세 조회 후 저장
+ * - 페이지를 마칠 때마다 체크포인트를 기록해 중단되어도 다음 실행에서 이어서 진행
+ */
+@Service
+@Slf4j
+public class MovieCatalogIngestService {
+
+    private static final String LOCK_KEY = "movie:catalog-ingest:lock";
+
+    private final WebClient tmdbWebClient;
+    private final MovieRepository movieRepository;
+    private final MovieCatalogCheckpointRepository checkpointRepository;
+    private final MovieBulkHydrator movieBulkHydrator;
+    private final RedisLockManager redisLockManager;
+    private final MeterRegistry meterRegistry;
+    private final String apiKey;
+    private final int maxPages;
+    private final Duration lockTtl;
+
+    public MovieCatalogIngestService(WebClient tmdbWebClient,
+                                     MovieRepository movieRepository,
+                                     MovieCatalogCheckpointRepository checkpointRepository,
+                                     MovieBulkHydrator movieBulkHydrator,
+                                     RedisLockManager redisLockManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${tmdb.api.key}") String apiKey,
+                                     @Value("${flipflick.movie.catalog-ingest.max-pages:20}") int maxPages,
+                                     @Value("${flipflick.movie.catalog-ingest.lock-ttl:2h}") Duration lockTtl) {
+        this.tmdbWebClient = tmdbWebClient;
+        this.movieRepository = movieRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.movieBulkHydrator = movieBulkHydrator;
+        this.redisLockManager = redisLockManager;
+        this.meterRegistry = meterRegistry;
+        this.apiKey = apiKey;
+        this.maxPages = maxPages;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * 모든 대상 목록 적재 (다른 태스크가 실행 중이면 건너뜀)
+     */
+    public void ingestAll() {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, lockTtl);
+        if (token.isEmpty()) {
+            log.info("[CatalogIngest] 다른 태스크에서 실행 중이므로 건너뜀");
+            return;
+        }
+        try {
+            for (MovieCatalogList list : MovieCatalogList.values()) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String outcome = "success";
+                try {
+                    ingestList(list);
+                } catch (Exception e) {
+                    // 체크포인트가 남아 있으므로 다음 실행에서 이어서 진행
+                    outcome = "error";
+                    log.error("[CatalogIngest] {} 적재 실패", list, e);
+                } finally {
+                    sample.stop(meterRegistry.timer("movie.catalog.ingest.run",
+                            "list", tag(list), "outcome", outcome));
+                }
+            }
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    private void ingestList(MovieCatalogList list) {
+        MovieCatalogCheckpoint checkpoint = checkpointRepository.findByListType(list)
+                .orElseGet(() -> MovieCatalogCheckpoint.builder()
+                        .listType(list)
+                        .nextPage(1)
+                        .build());
+
+        if (checkpoint.isInProgress()) {
+            log.info("[CatalogIngest] {} {} 페이지부터 이어서 적재", list, checkpoint.getNextPage());
+        } else {
+            checkpoint.startRun(LocalDateTime.now());
+        }
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        int page = checkpoint.getNextPage();
+        int lastPage = checkpoint.getTotalPages() > 0 ? Math.min(maxPages, checkpoint.getTotalPages()) : maxPages;
+
+        while (page <= lastPage) {
+            TmdbIdPageDTO body = requestListPage(list, page).block();
+            if (body == null) {
+                throw new IllegalStateException("TMDB 목록 응답 없음: " + list + " page=" + page);
+            }
+            int totalPages = body.getTotalPages();
+            lastPage = Math.min(maxPages, totalPages);
+
+            List<Long> tmdbIds = new ArrayList<>();
+            for (TmdbIdPageDTO.Item item : body.getResults()) {
+                if (item.getId() != null) {
+                    tmdbIds.add(item.getId());
+                }
+            }
+            ingestPage(list, tmdbIds);
+
+            checkpoint.advance(page + 1, totalPages);
+            checkpoint = checkpointRepository.save(checkpoint);
+            page++;
+        }
+
+        checkpoint.complete(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        log.info("[CatalogIngest] {} 적재 완료 - 페이지 수: {}", list, lastPage);
+    }
+
+    private void ingestPage(MovieCatalogList list, List<Long> tmdbIds) {
+        if (tmdbIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new LinkedHashSet<>(tmdbIds);
+        Set<Long> existing = new HashSet<>(movieRepository.findExistingTmdbIds(missing));
+        missing.removeAll(existing);
+        count(list, "existing", existing.size());
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        MovieBulkHydrator.Result result = movieBulkHydrator.hydrate(missing, List.of());
+        count(list, "ingested", result.inserted());
+        count(list, "unreleased", result.unreleased());
+        count(list, "failed", result.failed());
+    }
+
+    private Mono<TmdbIdPageDTO> requestListPage(MovieCatalogList list, int page) {
+        return tmdbWebClient.get()
+                .uri(builder -> builder
+                        .path(list.getPath())
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "ko-KR")
+                        .queryParam("region", "KR")
+                        .queryParam("page", page)
+                        .build())
+                .retrieve()
+                .bodyToMono(TmdbIdPageDTO.class);
+    }
+
+    private void count(MovieCatalogList list, String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("movie.catalog.ingest", "list", tag(list), "result", result).increment(amount);
+        }
+    }
+
+    private static String tag(MovieCatalogList list) {
+        return list.name().toLowerCase();
+    }
+}
@@ -0,0 +1,218 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.dto.TmdbIdPageDTO;
+import com.flipflick.backend.api.movie.dto.TmdbMovieDetailDTO;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TMDB 변경 피드(/movie/changes) 기반 영화 정보 갱신
+ * - 어제~오늘(UTC) 변경된 tmdbId 중 DB 에 있는 영화만 다시 조회
+ * - 최근 dedupe-window 안에 이미 갱신한 영화는 건너뜀 (movie:changes:synced ZSET, score = 갱신 시각)
+ * - 장르/이미지·비디오/제공사는 바뀐 항목만 추가/삭제하므로 매시간 실행해도 쓰기량이 작음
+ */
+@Service
+@Slf4j
+public class MovieChangeSyncService {
+
+    private static final String LOCK_KEY = "movie:changes:lock";
+    private static final String SYNCED_KEY = "movie:changes:synced";
+    private static final int EXISTING_CHUNK = 1000;
+
+    private final WebClient tmdbWebClient;
+    private final MovieService movieService;
+    private final MovieRepository movieRepository;
+    private final MovieBulkHydrator movieBulkHydrator;
+    private final RedisLockManager redisLockManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate refreshTx;
+    private final String apiKey;
+    private final int maxPages;
+    private final int chunkSize;
+    private final Duration dedupeWindow;
+    private final Duration lockTtl;
+
+    public MovieChangeSyncService(WebClient tmdbWebClient,
+                                  MovieService movieService,
+                                  MovieRepository movieRepository,
+                                  MovieBulkHydrator movieBulkHydrator,
+                                  RedisLockManager redisLockManager,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${tmdb.api.key}") String apiKey,
+                                  @Value("${flipflick.movie.changes-sync.max-pages:100}") int maxPages,
+                                  @Value("${flipflick.movie.changes-sync.chunk-size:50}") int chunkSize,
+                                  @Value("${flipflick.movie.changes-sync.dedupe-window:6h}") Duration dedupeWindow,
+                                  @Value("${flipflick.movie.changes-sync.lock-ttl:50m}") Duration lockTtl) {
+        this.tmdbWebClient = tmdbWebClient;
+        this.movieService = movieService;
+        this.movieRepository = movieRepository;
+        this.movieBulkHydrator = movieBulkHydrator;
+        this.redisLockManager = redisLockManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.apiKey = apiKey;
+        this.maxPages = maxPages;
+        this.chunkSize = chunkSize;
+        this.dedupeWindow = dedupeWindow;
+        this.lockTtl = lockTtl;
+
+        // 영화 하나의 실패가 다른 영화 갱신에 영향을 주지 않도록 영화 단위 트랜잭션
+        this.refreshTx = new TransactionTemplate(transactionManager);
+        this.refreshTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 변경된 영화 갱신 (다른 태스크가 실행 중이면 건너뜀)
+     */
+    public void syncChanges() {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, lockTtl);
+        if (token.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            syncLocked();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("movie.changes.sync.run", "outcome", outcome));
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    private void syncLocked() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Set<Long> changed = fetchChangedIds(today.minusDays(1), today);
+        List<Long> targets = filterTargets(changed);
+        count("changed", changed.size());
+        count("skipped", changed.size() - targets.size());
+
+        int updated = 0;
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Long> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            Map<Long, TmdbMovieDetailDTO> fetched = movieBulkHydrator.fetch(chunk);
+            count("failed", chunk.size() - fetched.size());
+
+            for (Map.Entry<Long, TmdbMovieDetailDTO> entry : fetched.entrySet()) {
+                if (refresh(entry.getKey(), entry.getValue())) {
+                    updated++;
+                }
+            }
+        }
+
+        // 기간이 지난 갱신 기록 정리
+        long cutoff = System.currentTimeMillis() - Duration.ofDays(2).toMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(SYNCED_KEY, 0, cutoff);
+
+        log.info("[ChangeSync] TMDB 변경 영화 갱신 완료 - 변경: {}, 대상: {}, 갱신: {}",
+                changed.size(), targets.size(), updated);
+    }
+
+    private boolean refresh(Long tmdbId, TmdbMovieDetailDTO detail) {
+        try {
+            boolean updated = Boolean.TRUE.equals(refreshTx.execute(status -> movieService.refreshMovie(detail)));
+            count(updated ? "updated" : "unchanged", 1);
+            markSynced(tmdbId);
+            return updated;
+        } catch (BadRequestException e) {
+            // 개봉일이 사라진 영화 등은 기존 값을 유지
+            count("unreleased", 1);
+            markSynced(tmdbId);
+        } catch (Exception e) {
+            log.warn("[ChangeSync] 영화 갱신 실패 tmdbId={}: {}", tmdbId, e.getMessage());
+            count("failed", 1);
+        }
+        return false;
+    }
+
+    private Set<Long> fetchChangedIds(LocalDate startDate, LocalDate endDate) {
+        Set<Long> ids = new LinkedHashSet<>();
+        int page = 1;
+        int totalPages = 1;
+        while (page <= Math.min(totalPages, maxPages)) {
+            int current = page;
+            TmdbIdPageDTO body = tmdbWebClient.get()
+                    .uri(builder -> builder
+                            .path("/movie/changes")
+                            .queryParam("api_key", apiKey)
+                            .queryParam("start_date", startDate)
+                            .queryParam("end_date", endDate)
+                            .queryParam("page", current)
+                            .build())
+                    .retrieve()
+                    .bodyToMono(TmdbIdPageDTO.class)
+                    .block();
+            if (body == null) {
+                break;
+            }
+            for (TmdbIdPageDTO.Item item : body.getResults()) {
+                if (!item.isAdult() && item.getId() != null) {
+                    ids.add(item.getId());
+                }
+            }
+            totalPages = body.getTotalPages();
+            page++;
+        }
+        return ids;
+    }
+
+    // DB 에 있고 최근에 갱신하지 않은 영화만 남김
+    private List<Long> filterTargets(Set<Long> changed) {
+        List<Long> ids = new ArrayList<>(changed);
+        List<Long> targets = new ArrayList<>();
+        long threshold = System.currentTimeMillis() - dedupeWindow.toMillis();
+
+        for (int from = 0; from < ids.size(); from += EXISTING_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + EXISTING_CHUNK, ids.size()));
+            List<Long> existing = movieRepository.findExistingTmdbIds(chunk);
+            if (existing.isEmpty()) {
+                continue;
+            }
+            List<Double> syncedAt = stringRedisTemplate.opsForZSet()
+                    .score(SYNCED_KEY, existing.stream().map(String::valueOf).toArray());
+            for (int i = 0; i < existing.size(); i++) {
+                Double score = syncedAt == null ? null : syncedAt.get(i);
+                if (score == null || score < threshold) {
+                    targets.add(existing.get(i));
+                }
+            }
+        }
+        return targets;
+    }
+
+    private void markSynced(Long tmdbId) {
+        stringRedisTemplate.opsForZSet().add(SYNCED_KEY, String.valueOf(tmdbId), System.currentTimeMillis());
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("movie.changes.sync", "result", result).increment(amount);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipflick.backend.api.movie.dto.TmdbExportEntryDTO;
+import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import com.flipflick.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * TMDB 일일 ID 덤프(movie_ids_MM_DD_YYYY.json.gz, 한 줄에 영화 하나인 JSON) 가져오기
+ * - 파일은 한 줄씩 스트리밍으로 읽고, 기존 영화는 정렬된 tmdbId / 원제목 해시 배열로만 들고 있음
+ * - DB 에 없는 영화는 신규 저장, 원제목이 달라진 영화는 변경으로 보고 MovieBulkHydrator 로 다시 가져옴
+ * - batchSize 개씩 모아서 처리하므로 메모리 사용량은 파일 크기와 무관
+ * - 락은 짧은 TTL 로 잡고 진행 중에 주기적으로 연장 (인스턴스가 죽으면 TTL 후 다시 실행 가능)
+ */
+@Service
+@Slf4j
+public class MovieExportImportService {
+
+    private static final String LOCK_KEY = "movie:export-import:lock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MovieBulkHydrator movieBulkHydrator;
+    private final RedisLockManager redisLockManager;
+    private final MeterRegistry meterRegistry;
+    private final Executor batchTaskExecutor;
+    private final Path importDir;
+    private final int batchSize;
+    private final Duration lockTtl;
+
+    public record ImportResult(long scanned, long skipped, long missing, long changed,
+                               MovieBulkHydrator.Result hydrated) {
+    }
+
+    public MovieExportImportService(JdbcTemplate jdbcTemplate,
+                                    ObjectMapper objectMapper,
+                                    MovieBulkHydrator movieBulkHydrator,
+                                    RedisLockManager redisLockManager,
+                                    MeterRegistry meterRegistry,
+                                    Executor batchTaskExecutor,
+                                    @Value("${flipflick.movie.export-import.dir:/tmp/tmdb-export}") String importDir,
+                                    @Value("${flipflick.movie.export-import.batch-size:100}") int batchSize,
+                                    @Value("${flipflick.movie.export-import.lock-ttl:10m}") Duration lockTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.movieBulkHydrator = movieBulkHydrator;
+        this.redisLockManager = redisLockManager;
+        this.meterRegistry = meterRegistry;
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.importDir = Paths.get(importDir).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * 가져오기 디렉터리의 덤프 파일을 백그라운드에서 가져옴 (관리자 요청용)
+     */
+    public void startImport(String fileName, double minPopularity) {
+        Path file = resolve(fileName);
+        if (redisLockManager.isLocked(LOCK_KEY)) {
+            throw new BadRequestException(ErrorStatus.EXPORT_IMPORT_ALREADY_RUNNING.getMessage());
+        }
+        batchTaskExecutor.execute(() -> {
+            try {
+                importFile(file, minPopularity);
+            } catch (Exception e) {
+                log.error("[ExportImport] 덤프 가져오기 실패 - 파일: {}", file, e);
+            }
+        });
+    }
+
+    /**
+     * 로컬 덤프 파일 가져오기 (.gz 가 아니면 압축되지 않은 파일로 읽음)
+     * @param minPopularity 이 값보다 popularity 가 낮은 영화는 건너뜀
+     */
+    public ImportResult importFile(Path file, double minPopularity) {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, lockTtl);
+        if (token.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.EXPORT_IMPORT_ALREADY_RUNNING.getMessage());
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            ImportResult result = importLocked(file, minPopularity, new LockRenewal(token.get()));
+            log.info("[ExportImport] 덤프 가져오기 완료 - 파일: {}, 읽은 줄: {}, 건너뜀: {}, 신규: {}, 변경: {}, 결과: {}",
+                    file.getFileName(), result.scanned(), result.skipped(), result.missing(), result.changed(),
+                    result.hydrated());
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("movie.export.import.run", "outcome", outcome));
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    private ImportResult importLocked(Path file, double minPopularity, LockRenewal lock) {
+        ExistingMovies existing = loadExisting();
+        lock.renew();
+
+        long scanned = 0;
+        long skipped = 0;
+        long missingCount = 0;
+        long changedCount = 0;
+        MovieBulkHydrator.Result hydrated = MovieBulkHydrator.Result.EMPTY;
+        List<Long> missing = new ArrayList<>(batchSize);
+        List<Long> changed = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = open(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lock.renewIfDue();
+                if (line.isBlank()) {
+                    continue;
+                }
+                scanned++;
+
+                TmdbExportEntryDTO entry;
+                try {
+                    entry = objectMapper.readValue(line, TmdbExportEntryDTO.class);
+                } catch (IOException e) {
+                    log.warn("[ExportImport] 잘못된 줄 건너뜀 ({}번째): {}", scanned, e.getMessage());
+                    skipped++;
+                    continue;
+                }
+
+                long tmdbId = entry.getId() == null ? 0L : entry.getId();
+                if (tmdbId <= 0 || entry.isAdult() || entry.getPopularity() < minPopularity) {
+                    skipped++;
+                    continue;
+                }
+
+                int index = existing.indexOf(tmdbId);
+                if (index < 0) {
+                    missing.add(tmdbId);
+                    missingCount++;
+                } else if (existing.titleHashes[index] != titleHash(entry.getOriginalTitle())) {
+                    changed.add(tmdbId);
+                    changedCount++;
+                } else {
+                    continue;
+                }
+
+                if (missing.size() + changed.size() >= batchSize) {
+                    hydrated = hydrated.plus(flush(missing, changed));
+                    lock.renew();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("TMDB 덤프 파일 읽기 실패: " + file, e);
+        }
+        hydrated = hydrated.plus(flush(missing, changed));
+
+        meterRegistry.counter("movie.export.import", "result", "scanned").increment(scanned);
+        meterRegistry.counter("movie.export.import", "result", "skipped").increment(skipped);
+        return new ImportResult(scanned, skipped, missingCount, changedCount, hydrated);
+    }
+
+    private MovieBulkHydrator.Result flush(List<Long> missing, List<Long> changed) {
+        if (missing.isEmpty() && changed.isEmpty()) {
+            return MovieBulkHydrator.Result.EMPTY;
+        }
+        MovieBulkHydrator.Result result = movieBulkHydrator.hydrate(missing, changed);
+        missing.clear();
+        changed.clear();
+
+        count("inserted", result.inserted());
+        count("updated", result.updated());
+        count("unreleased", result.unreleased());
+        count("failed", result.failed());
+        return result;
+    }
+
+    private BufferedReader open(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    // 가져오기 디렉터리 밖의 경로는 허용하지 않음
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new BadRequestException(ErrorStatus.EXPORT_FILE_NOT_FOUND.getMessage());
+        }
+        Path file = importDir.resolve(fileName).normalize();
+        if (!file.startsWith(importDir) || !Files.isRegularFile(file)) {
+            throw new BadRequestException(ErrorStatus.EXPORT_FILE_NOT_FOUND.getMessage());
+        }
+        return file;
+    }
+
+    // 기존 영화 [tmdbId 오름차순, 원제목 해시] (영화 수만큼의 long/int 배열만 사용)
+    private ExistingMovies loadExisting() {
+        ExistingMovies existing = new ExistingMovies();
+        jdbcTemplate.query("SELECT tmdb_id, original_title FROM movie ORDER BY tmdb_id",
+                rs -> {
+                    existing.add(rs.getLong(1), titleHash(rs.getString(2)));
+                });
+        return existing;
+    }
+
+    private static int titleHash(String originalTitle) {
+        return Objects.hashCode(originalTitle == null ? null : originalTitle.strip());
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("movie.export.import", "result", result).increment(amount);
+        }
+    }
+
+    // TTL 의 1/3 이 지날 때마다 락 연장, 다른 실행이 락을 가져갔으면 중단
+    private class LockRenewal {
+        private final String token;
+        private long renewedAt = System.nanoTime();
+
+        LockRenewal(String token) {
+            this.token = token;
+        }
+
+        void renewIfDue() {
+            if (System.nanoTime() - renewedAt >= lockTtl.toNanos() / 3) {
+                renew();
+            }
+        }
+
+        void renew() {
+            if (!redisLockManager.extend(LOCK_KEY, token, lockTtl)) {
+                throw new IllegalStateException("덤프 가져오기 락을 잃어 중단합니다: " + LOCK_KEY);
+            }
+            renewedAt = System.nanoTime();
+        }
+    }
+
+    private static class ExistingMovies {
+        private long[] tmdbIds = new long[1024];
+        private int[] titleHashes = new int[1024];
+        private int size;
+
+        void add(long tmdbId, int titleHash) {
+            if (size == tmdbIds.length) {
+                tmdbIds = Arrays.copyOf(tmdbIds, size * 2);
+                titleHashes = Arrays.copyOf(titleHashes, size * 2);
+            }
+            tmdbIds[size] = tmdbId;
+            titleHashes[size] = titleHash;
+            size++;
+        }
+
+        int indexOf(long tmdbId) {
+            int index = Arrays.binarySearch(tmdbIds, 0, size, tmdbId);
+            return index < 0 ? -1 : index;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import com.flipflick.backend.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * DB에 없는 영화(cold miss)의 TMDB 적재를 tmdbId 단위로 한 번만 수행하도록 조율
+ * - 같은 인스턴스 내 동시 요청: SingleFlight 로 하나의 호출 결과를 공유
+ * - ECS 태스크 간 동시 요청: Redis 락 보유자만 적재하고 나머지는 락 해제 후 DB 재조회
+ * - 적재/재조회는 REQUIRES_NEW 트랜잭션이므로 호출 측 트랜잭션 밖에서 호출해야 함 (안에서 부르면 요청당 커넥션 2개 점유)
+ */
+@Component
+@Slf4j
+public class MovieIngestCoordinator {
+
+    private static final String LOCK_KEY_PREFIX = "movie:ingest:lock:";
+
+    private final SingleFlight<Long, Movie> localFlight = new SingleFlight<>();
+    private final RedisLockManager redisLockManager;
+    private final MovieRepository movieRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate ingestTx;
+    private final TransactionTemplate reloadTx;
+    private final Counter remoteCoalescedCounter;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public MovieIngestCoordinator(RedisLockManager redisLockManager,
+                                  MovieRepository movieRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${flipflick.movie.ingest.lock-ttl:30s}") Duration lockTtl,
+                                  @Value("${flipflick.movie.ingest.wait-timeout:15s}") Duration waitTimeout,
+                                  @Value("${flipflick.movie.ingest.poll-interval:100ms}") Duration pollInterval) {
+        this.redisLockManager = redisLockManager;
+        this.movieRepository = movieRepository;
+        this.meterRegistry = meterRegistry;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+
+        // 호출한 트랜잭션과 분리해 커밋해야 다른 요청/태스크가 바로 조회할 수 있음
+        this.ingestTx = new TransactionTemplate(transactionManager);
+        this.ingestTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadTx = new TransactionTemplate(transactionManager);
+        this.reloadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadTx.setReadOnly(true);
+
+        FunctionCounter.builder("movie.ingest.coalesced", localFlight, SingleFlight::coalescedCount)
+                .description("다른 요청의 영화 적재 결과를 기다린 요청 수")
+                .tag("scope", "local")
+                .register(meterRegistry);
+        this.remoteCoalescedCounter = Counter.builder("movie.ingest.coalesced")
+                .description("다른 요청의 영화 적재 결과를 기다린 요청 수")
+                .tag("scope", "remote")
+                .register(meterRegistry);
+        Gauge.builder("movie.ingest.inflight", localFlight, SingleFlight::inFlightCount)
+                .description("진행 중인 영화 적재 수")
+                .register(meterRegistry);
+    }
+
+    // tmdbId 당 하나의 적재만 실행하고, 나머지 호출은 같은 결과를 받음
+    public Movie getOrIngest(Long tmdbId, Supplier<Movie> ingest) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("트랜잭션 안에서 영화 적재 호출 - 커넥션을 추가로 점유함 tmdbId={}", tmdbId);
+        }
+        return localFlight.execute(tmdbId, () -> ingestAcrossTasks(tmdbId, ingest));
+    }
+
+    private Movie ingestAcrossTasks(Long tmdbId, Supplier<Movie> ingest) {
+        String lockKey = LOCK_KEY_PREFIX + tmdbId;
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean waited = false;
+
+        while (true) {
+            Optional<String> token;
+            try {
+                token = redisLockManager.tryLock(lockKey, lockTtl);
+            } catch (DataAccessException e) {
+                // Redis 장애 시에는 인스턴스 내 합치기만 적용
+                log.warn("영화 적재 락 획득 실패, 로컬 적재로 진행 tmdbId={}: {}", tmdbId, e.getMessage());
+                return persist(tmdbId, ingest);
+            }
+
+            if (token.isPresent()) {
+                try {
+                    // 대기 중 다른 태스크가 이미 저장했을 수 있으므로 재확인
+                    return reload(tmdbId).orElseGet(() -> persist(tmdbId, ingest));
+                } finally {
+                    redisLockManager.unlock(lockKey, token.get());
+                }
+            }
+
+            if (!waited) {
+                remoteCoalescedCounter.increment();
+                waited = true;
+            }
+
+            if (System.nanoTime() >= deadline) {
+                log.warn("영화 적재 대기 시간 초과, 직접 적재 tmdbId={}", tmdbId);
+                return persist(tmdbId, ingest);
+            }
+
+            sleep(pollInterval);
+
+            // 락이 풀렸으면 저장된 영화를 조회, 없으면(보유자 실패) 다시 락 시도
+            if (!redisLockManager.isLocked(lockKey)) {
+                Optional<Movie> loaded = reload(tmdbId);
+                if (loaded.isPresent()) {
+                    return loaded.get();
+                }
+            }
+        }
+    }
+
+    private Movie persist(Long tmdbId, Supplier<Movie> ingest) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return ingestTx.execute(status -> ingest.get());
+        } catch (DataIntegrityViolationException e) {
+            // 락 밖에서 동시에 저장되어 unique(tmdbId) 충돌 → 저장된 행을 사용
+            outcome = "duplicate";
+            return reload(tmdbId).orElseThrow(() -> e);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("movie.ingest.fetch", "outcome", outcome));
+        }
+    }
+
+    // 트랜잭션 밖에서 사용되므로 지연 로딩 컬렉션(출연진)까지 초기화해서 반환
+    private Optional<Movie> reload(Long tmdbId) {
+        return reloadTx.execute(status -> movieRepository.findWithAllByTmdbId(tmdbId)
+                .map(movie -> {
+                    Hibernate.initialize(movie.getCasts());
+                    return movie;
+                }));
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("영화 적재 대기 중 인터럽트", e);
+        }
+    }
+}
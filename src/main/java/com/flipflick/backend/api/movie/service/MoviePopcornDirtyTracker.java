@@ -0,0 +1,92 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.event.MoviePopcornInputChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Popcorn 점수 재계산이 필요한 영화 id 집합 (Redis SET popcorn:dirty)
+ * - 리뷰/좋아요/봤어요 변경이 커밋되면 영화 id 를 추가
+ * - 재계산은 SPOP 으로 꺼내 가므로 여러 인스턴스가 동시에 돌아도 같은 영화를 중복 처리하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoviePopcornDirtyTracker {
+
+    private static final String DIRTY_KEY = "popcorn:dirty";
+
+    private final RedisTemplate<String, Object> redis;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInputChanged(MoviePopcornInputChangedEvent event) {
+        if (event.getMovieId() == null) {
+            return;
+        }
+        try {
+            redis.opsForSet().add(DIRTY_KEY, event.getMovieId());
+        } catch (Exception e) {
+            // 누락된 영화는 다음 전체 재계산에서 반영됨
+            log.warn("Popcorn dirty 등록 실패 - 영화 ID: {}", event.getMovieId(), e);
+        }
+    }
+
+    /**
+     * dirty 영화 id 를 최대 limit 개 꺼냄 (꺼낸 id 는 집합에서 제거됨)
+     */
+    public List<Long> pop(int limit) {
+        List<Object> popped = redis.opsForSet().pop(DIRTY_KEY, limit);
+        return toIds(popped);
+    }
+
+    /**
+     * 재계산에 실패한 영화 id 를 다시 dirty 로 되돌림
+     */
+    public void restore(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        redis.opsForSet().add(DIRTY_KEY, movieIds.toArray());
+    }
+
+    /**
+     * 현재 dirty 영화 id 전체 (전체 재계산 전에 스냅샷으로 사용)
+     */
+    public List<Long> snapshot() {
+        Set<Object> members = redis.opsForSet().members(DIRTY_KEY);
+        return toIds(members);
+    }
+
+    /**
+     * 전체 재계산으로 반영된 영화 id 를 제거 (재계산 중 새로 추가된 id 는 유지)
+     */
+    public void remove(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        redis.opsForSet().remove(DIRTY_KEY, movieIds.toArray());
+    }
+
+    private List<Long> toIds(Collection<Object> values) {
+        List<Long> ids = new ArrayList<>();
+        if (values == null) {
+            return ids;
+        }
+        for (Object value : values) {
+            // JSON 직렬화 특성상 작은 값은 Integer 로 역직렬화됨
+            if (value instanceof Number number) {
+                ids.add(number.longValue());
+            }
+        }
+        return ids;
+    }
+}
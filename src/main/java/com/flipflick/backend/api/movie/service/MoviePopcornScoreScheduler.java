@@ -14,16 +14,30 @@ public class MoviePopcornScoreScheduler {
 
     /**
      * 매일 새벽 12시에 Popcorn 점수 재계산
+     * 회원 수/전체 평균 평점이 기준값에서 벗어난 경우에만 전체 재계산, 그 외에는 dirty 영화만 재계산
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void recalculatePopcornScores() {
         log.info("스케줄러: Popcorn 점수 재계산 시작");
 
         try {
-            moviePopcornScoreService.recalculateAllPopcornScores();
+            moviePopcornScoreService.recalculatePopcornScores();
             log.info("스케줄러: Popcorn 점수 재계산 완료");
         } catch (Exception e) {
             log.error("스케줄러: Popcorn 점수 재계산 실패", e);
         }
     }
+
+    /**
+     * 리뷰/좋아요/봤어요가 바뀐 영화만 주기적으로 재계산 (기본 5분)
+     */
+    @Scheduled(fixedDelayString = "${flipflick.popcorn.dirty-interval-ms:300000}",
+            initialDelayString = "${flipflick.popcorn.dirty-interval-ms:300000}")
+    public void recalculateDirtyPopcornScores() {
+        try {
+            moviePopcornScoreService.recalculateDirtyPopcornScores();
+        } catch (Exception e) {
+            log.error("스케줄러: Popcorn dirty 재계산 실패", e);
+        }
+    }
 }
\ No newline at end of file
@@ -1,70 +1,205 @@
 package com.flipflick.backend.api.movie.service;
 
 import com.flipflick.backend.api.member.repository.MemberRepository;
+import com.flipflick.backend.api.movie.cache.MoviePopcornLeaderboard;
+import com.flipflick.backend.api.movie.cache.MovieReferenceRegistry;
 import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.repository.MovieGenreRepository;
 import com.flipflick.backend.api.movie.repository.MovieRepository;
 import com.flipflick.backend.api.movie.repository.WatchedRepository;
 import com.flipflick.backend.api.review.repository.ReviewRepository;
-import lombok.RequiredArgsConstructor;
+import com.flipflick.backend.common.lock.RedisLockManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MoviePopcornScoreService {
 
+    private static final String UPDATE_POPCORN_SQL = "UPDATE movie SET popcorn = ?, review_cnt = ?, updated_at = ? WHERE id = ?";
+    private static final String FULL_LOCK_KEY = "popcorn:rescore:lock";
+    private static final String BASELINE_MEMBER_COUNT_KEY = "popcorn:baseline:member-count";
+    private static final String BASELINE_AVG_RATING_KEY = "popcorn:baseline:avg-rating";
+
     private final MovieRepository movieRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final WatchedRepository watchedRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MovieReferenceRegistry movieReferenceRegistry;
+    private final MoviePopcornLeaderboard leaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTx;
+    private final MoviePopcornDirtyTracker dirtyTracker;
+    private final RedisLockManager redisLockManager;
+    private final RedisTemplate<String, Object> redis;
+    private final int batchSize;
+    private final int dirtyBatchSize;
+    private final double memberCountTolerance;
+    private final double avgRatingTolerance;
 
     // 최소 신뢰 리뷰 수 (m 값)
     private static final int MIN_CONFIDENCE_REVIEWS = 100;
 
+    public MoviePopcornScoreService(MovieRepository movieRepository,
+                                    ReviewRepository reviewRepository,
+                                    MemberRepository memberRepository,
+                                    WatchedRepository watchedRepository,
+                                    MovieGenreRepository movieGenreRepository,
+                                    MovieReferenceRegistry movieReferenceRegistry,
+                                    MoviePopcornLeaderboard leaderboard,
+                                    ApplicationEventPublisher eventPublisher,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    MoviePopcornDirtyTracker dirtyTracker,
+                                    RedisLockManager redisLockManager,
+                                    RedisTemplate<String, Object> redis,
+                                    @Value("${flipflick.popcorn.batch-size:1000}") int batchSize,
+                                    @Value("${flipflick.popcorn.dirty-batch-size:500}") int dirtyBatchSize,
+                                    @Value("${flipflick.popcorn.full-rescore.member-count-tolerance:0.01}") double memberCountTolerance,
+                                    @Value("${flipflick.popcorn.full-rescore.avg-rating-tolerance:0.01}") double avgRatingTolerance) {
+        this.movieRepository = movieRepository;
+        this.reviewRepository = reviewRepository;
+        this.memberRepository = memberRepository;
+        this.watchedRepository = watchedRepository;
+        this.movieGenreRepository = movieGenreRepository;
+        this.movieReferenceRegistry = movieReferenceRegistry;
+        this.leaderboard = leaderboard;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.dirtyTracker = dirtyTracker;
+        this.redisLockManager = redisLockManager;
+        this.redis = redis;
+        this.batchSize = batchSize;
+        this.dirtyBatchSize = dirtyBatchSize;
+        this.memberCountTolerance = memberCountTolerance;
+        this.avgRatingTolerance = avgRatingTolerance;
+    }
+
+    /**
+     * 정기 재계산
+     * - 전체 입력값(회원 수, 전체 평균 평점)이 기준값에서 벗어났으면 전체 재계산
+     * - 그렇지 않으면 dirty 영화만 재계산
+     */
+    public void recalculatePopcornScores() {
+        GlobalInputs current = currentGlobalInputs();
+        GlobalInputs baseline = loadBaseline();
+
+        if (baseline == null || globalInputsMoved(baseline, current)) {
+            log.info("Popcorn 전체 입력값 변경 - 기준: {}, 현재: {} → 전체 재계산", baseline, current);
+            recalculateAllPopcornScores();
+        } else {
+            recalculateDirtyPopcornScores();
+        }
+    }
+
     /**
      * 모든 영화의 Popcorn 점수를 재계산하고 업데이트
+     * - 리뷰/봤어요/좋아요 집계를 테이블당 한 번의 GROUP BY 조회로 가져와 메모리에서 계산
+     * - 점수가 바뀐 영화만 청크 단위 JDBC 배치로 반영하고 청크마다 커밋
      */
-    @Transactional
     public void recalculateAllPopcornScores() {
-        log.info("Popcorn 점수 재계산 시작");
+        Optional<String> token = redisLockManager.tryLock(FULL_LOCK_KEY, Duration.ofMinutes(30));
+        if (token.isEmpty()) {
+            log.info("다른 인스턴스에서 Popcorn 전체 재계산 진행 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            // 이번 재계산에 반영될 dirty 영화 (재계산 중 새로 추가되는 영화는 다음 dirty 재계산 대상)
+            List<Long> coveredDirtyIds = dirtyTracker.snapshot();
+            GlobalInputs global = currentGlobalInputs();
+
+            List<Object[]> movies = movieRepository.findAllScoreInputs();
+            List<ScoredMovie> scored = computeScores(movies,
+                    loadReviewStats(reviewRepository.findReviewStatsGroupByMovie()),
+                    loadSeenCounts(watchedRepository.countWatchedGroupByMovie()),
+                    global);
+            List<ScoredMovie> updates = scored.stream().filter(ScoredMovie::changed).toList();
+
+            int failedCount = applyUpdates(updates);
+            if (failedCount == 0) {
+                saveBaseline(global);
+            }
+            dirtyTracker.remove(coveredDirtyIds);
+            rebuildLeaderboard(scored, loadGenreTmdbIds(movieGenreRepository.findAllGenreIds()));
 
-        // 전체 회원 수 조회
-        long totalUserCount = memberRepository.count();
-        log.info("전체 회원 수: {}", totalUserCount);
+            log.info("Popcorn 점수 재계산 완료 - 영화 수: {}, 변경: {}, 실패: {}, 회원 수: {}, 전체 평균 평점: {}, 소요: {}ms",
+                    movies.size(), updates.size() - failedCount, failedCount, global.memberCount(), global.avgRating(),
+                    System.currentTimeMillis() - startedAt);
 
-        // 전체 영화 평균 평점 조회
-        Double globalAvgRating = reviewRepository.findGlobalAverageRating();
-        if (globalAvgRating == null) {
-            globalAvgRating = 3.0; // 기본값
+            // 전체 영화 점수 변경 → 영화 상세 캐시 전체 무효화
+            if (!updates.isEmpty()) {
+                eventPublisher.publishEvent(MovieDetailChangedEvent.all(this));
+            }
+        } finally {
+            redisLockManager.unlock(FULL_LOCK_KEY, token.get());
         }
-        log.info("전체 평균 평점: {}", globalAvgRating);
-
-        // 모든 영화 조회
-        List<Movie> movies = movieRepository.findAll();
-        log.info("총 영화 수: {}", movies.size());
+    }
 
-        int updatedCount = 0;
+    /**
+     * 리뷰/좋아요/봤어요가 바뀐 영화만 재계산
+     * 전체 입력값은 마지막 전체 재계산 기준값을 사용해 다른 영화 점수와 같은 기준을 유지
+     * @return 재계산한 영화 수
+     */
+    public int recalculateDirtyPopcornScores() {
+        GlobalInputs baseline = loadBaseline();
+        if (baseline == null || !leaderboard.isReady()) {
+            // 기준값/리더보드가 없으면 (최초 배포, Redis 초기화) 전체 재계산으로 함께 반영
+            recalculateAllPopcornScores();
+            return 0;
+        }
 
-        for (Movie movie : movies) {
+        int processed = 0;
+        List<Long> movieIds;
+        while (!(movieIds = dirtyTracker.pop(dirtyBatchSize)).isEmpty()) {
             try {
-                double newScore = calculatePopcornScore(movie, totalUserCount, globalAvgRating);
-                movie.updatePopcornScore(newScore);
-                updatedCount++;
-
-                if (updatedCount % 100 == 0) {
-                    log.info("진행률: {}/{} ({}%)", updatedCount, movies.size(),
-                            (updatedCount * 100 / movies.size()));
+                List<ScoredMovie> scored = computeScores(movieRepository.findScoreInputsByIdIn(movieIds),
+                        loadReviewStats(reviewRepository.findReviewStatsGroupByMovieIn(movieIds)),
+                        loadSeenCounts(watchedRepository.countWatchedGroupByMovieIn(movieIds)),
+                        baseline);
+                List<ScoredMovie> updates = scored.stream().filter(ScoredMovie::changed).toList();
+
+                if (applyUpdates(updates) > 0) {
+                    dirtyTracker.restore(movieIds);
+                    break;
                 }
+                updateLeaderboard(updates,
+                        loadGenreTmdbIds(movieGenreRepository.findGenreIdsByMovieIdIn(movieIds)));
+                updates.forEach(update ->
+                        eventPublisher.publishEvent(new MovieDetailChangedEvent(this, update.tmdbId())));
+                processed += movieIds.size();
             } catch (Exception e) {
-                log.error("영화 ID {} Popcorn 점수 계산 실패: {}", movie.getId(), e.getMessage());
+                dirtyTracker.restore(movieIds);
+                throw e;
             }
         }
 
-        log.info("Popcorn 점수 재계산 완료. 업데이트된 영화 수: {}", updatedCount);
+        if (processed > 0) {
+            log.info("Popcorn dirty 재계산 완료 - 영화 수: {}", processed);
+        }
+        return processed;
     }
 
     /**
@@ -75,189 +210,234 @@ public class MoviePopcornScoreService {
         Movie movie = movieRepository.findById(movieId)
                 .orElseThrow(() -> new RuntimeException("영화를 찾을 수 없습니다: " + movieId));
 
-        long totalUserCount = memberRepository.count();
-        Double globalAvgRating = reviewRepository.findGlobalAverageRating();
-        if (globalAvgRating == null) {
-            globalAvgRating = 3.0;
-        }
+        // 다른 영화와 같은 기준으로 계산되도록 마지막 전체 재계산 기준값을 우선 사용
+        GlobalInputs global = Optional.ofNullable(loadBaseline()).orElseGet(this::currentGlobalInputs);
 
-        double newScore = calculatePopcornScore(movie, totalUserCount, globalAvgRating);
+        Long reviewCount = reviewRepository.countReviewsByMovieId(movieId);
+        Double movieAvgRating = reviewRepository.findAverageRatingByMovieId(movieId);
+        Long seenCount = watchedRepository.countWatchedByMovieId(movieId);
+
+        double newScore = calculatePopcornScore(
+                reviewCount == null ? 0L : reviewCount,
+                movieAvgRating == null ? 0.0 : movieAvgRating,
+                movie.getLikeCnt(), movie.getHateCnt(),
+                seenCount == null ? 0L : seenCount,
+                global.memberCount(), global.avgRating());
         movie.updatePopcornScore(newScore);
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(this, movie.getTmdbId()));
 
         log.info("영화 ID {} Popcorn 점수 업데이트: {}", movieId, newScore);
     }
 
     /**
-     * Bayesian 평균 계산
+     * 변경된 점수를 청크 단위로 반영 (청크마다 별도 트랜잭션으로 커밋)
+     * @return 반영에 실패한 영화 수
      */
-    private double calculateBayesianAverage(long reviewCount, double movieAvgRating, double globalAvgRating) {
-        if (reviewCount == 0) {
-            return globalAvgRating;
+    private int applyUpdates(List<ScoredMovie> updates) {
+        int failedCount = 0;
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            List<ScoredMovie> chunk = updates.subList(from, Math.min(from + batchSize, updates.size()));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                chunkTx.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(UPDATE_POPCORN_SQL, chunk, chunk.size(), (ps, update) -> {
+                            ps.setDouble(1, update.score());
+                            ps.setLong(2, update.reviewCnt());
+                            ps.setTimestamp(3, now);
+                            ps.setLong(4, update.movieId());
+                        }));
+            } catch (Exception e) {
+                failedCount += chunk.size();
+                log.error("Popcorn 점수 청크 반영 실패 - 시작 인덱스: {}, 크기: {}", from, chunk.size(), e);
+            }
         }
-
-        return ((reviewCount * movieAvgRating) + (MIN_CONFIDENCE_REVIEWS * globalAvgRating))
-                / (reviewCount + MIN_CONFIDENCE_REVIEWS);
+        return failedCount;
     }
 
     /**
-     * 좋아요 비율 계산
+     * 집계값으로 점수 계산 (점수 또는 리뷰 수가 저장된 값과 다르면 changed)
      */
-    private double calculateLikeRatio(long likes, long hates) {
-        long total = likes + hates;
-        if (total == 0) {
-            return 0.5; // 중립값
+    private List<ScoredMovie> computeScores(List<Object[]> movies, Map<Long, ReviewStats> reviewStats,
+                                            Map<Long, Long> seenCounts, GlobalInputs global) {
+        List<ScoredMovie> scored = new ArrayList<>(movies.size());
+        for (Object[] row : movies) {
+            Long movieId = ((Number) row[0]).longValue();
+            long likes = row[1] == null ? 0L : ((Number) row[1]).longValue();
+            long hates = row[2] == null ? 0L : ((Number) row[2]).longValue();
+            double currentScore = row[3] == null ? 0.0 : ((Number) row[3]).doubleValue();
+            Long tmdbId = (Long) row[4];
+            long currentReviewCnt = row[5] == null ? 0L : ((Number) row[5]).longValue();
+
+            ReviewStats review = reviewStats.getOrDefault(movieId, ReviewStats.EMPTY);
+            double newScore = calculatePopcornScore(review.count(), review.average(), likes, hates,
+                    seenCounts.getOrDefault(movieId, 0L), global.memberCount(), global.avgRating());
+
+            boolean changed = Double.compare(newScore, currentScore) != 0 || review.count() != currentReviewCnt;
+            scored.add(new ScoredMovie(movieId, tmdbId, newScore, review.count(), changed));
         }
-        return (double) likes / total;
+        return scored;
     }
 
-    /**
-     * 봤어요 비율 계산
-     */
-    private double calculateSeenRatio(long seenCount, long totalUserCount) {
-        if (totalUserCount == 0) {
-            return 0.0;
+    // 리더보드 갱신 실패는 점수 반영에 영향을 주지 않음 (다음 전체 재계산에서 재구성)
+    private void rebuildLeaderboard(List<ScoredMovie> scored, Map<Long, List<Long>> genreTmdbIds) {
+        try {
+            leaderboard.rebuild(toLeaderboardEntries(scored, genreTmdbIds));
+        } catch (Exception e) {
+            log.warn("Popcorn 리더보드 재구성 실패", e);
         }
-        return Math.min(1.0, (double) seenCount / totalUserCount); // 최대 1.0으로 제한
     }
 
-    /**
-     * 최종 점수 계산
-     */
-    private double calculateFinalScore(double bayesianAvg, double likeRatio, double seenRatio) {
-        // 각 요소를 0-1 범위로 정규화하고 가중치 적용
-        double normalizedRating = bayesianAvg / 5.0; // 5점 만점을 1로 정규화
+    private void updateLeaderboard(List<ScoredMovie> updates, Map<Long, List<Long>> genreTmdbIds) {
+        try {
+            leaderboard.update(toLeaderboardEntries(updates, genreTmdbIds));
+        } catch (Exception e) {
+            log.warn("Popcorn 리더보드 갱신 실패", e);
+        }
+    }
 
-        return (normalizedRating * 0.5 + likeRatio * 0.3 + seenRatio * 0.2) * 100;
+    private List<MoviePopcornLeaderboard.Entry> toLeaderboardEntries(List<ScoredMovie> scored,
+                                                                     Map<Long, List<Long>> genreTmdbIds) {
+        List<MoviePopcornLeaderboard.Entry> entries = new ArrayList<>(scored.size());
+        for (ScoredMovie movie : scored) {
+            entries.add(new MoviePopcornLeaderboard.Entry(movie.tmdbId(), movie.score(), movie.reviewCnt(),
+                    genreTmdbIds.getOrDefault(movie.movieId(), List.of())));
+        }
+        return entries;
     }
 
     /**
-     * 리뷰 통계 조회 (개별 쿼리)
+     * 영화-장르 FK 행 [movieId, genreId] 를 영화 ID 별 장르 tmdbId 목록으로 변환
+     * genreId → tmdbId 는 MovieReferenceRegistry 에서 찾고, 레지스트리에 없는 장르는 건너뜀
      */
-    private ReviewStats getReviewStats(Long movieId) {
-        try {
-            Long count = reviewRepository.countReviewsByMovieId(movieId);
-            Double average = reviewRepository.findAverageRatingByMovieId(movieId);
+    private Map<Long, List<Long>> loadGenreTmdbIds(List<Object[]> rows) {
+        Map<Long, List<Long>> genres = new HashMap<>();
+        for (Object[] row : rows) {
+            MovieReferenceRegistry.GenreRef genre = movieReferenceRegistry.genreById(((Number) row[1]).longValue());
+            if (genre == null) {
+                continue;
+            }
+            genres.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>())
+                    .add(genre.tmdbId());
+        }
+        return genres;
+    }
 
-            if (count == null) count = 0L;
-            if (average == null) average = 0.0;
+    private GlobalInputs currentGlobalInputs() {
+        return new GlobalInputs(memberRepository.count(), globalAverageRating());
+    }
 
-            log.debug("영화 ID {}: 리뷰 수={}, 평균 평점={}", movieId, count, average);
-            return new ReviewStats(count, average);
+    private double globalAverageRating() {
+        Double globalAvgRating = reviewRepository.findGlobalAverageRating();
+        return globalAvgRating == null ? 3.0 : globalAvgRating; // 기본값
+    }
 
-        } catch (Exception e) {
-            log.error("리뷰 통계 조회 실패 - 영화 ID: {}", movieId, e);
-            return new ReviewStats(0L, 0.0);
+    private boolean globalInputsMoved(GlobalInputs baseline, GlobalInputs current) {
+        long base = Math.max(1L, baseline.memberCount());
+        double memberDrift = Math.abs(current.memberCount() - baseline.memberCount()) / (double) base;
+        double avgDrift = Math.abs(current.avgRating() - baseline.avgRating());
+        return memberDrift > memberCountTolerance || avgDrift > avgRatingTolerance;
+    }
+
+    private GlobalInputs loadBaseline() {
+        Object memberCount = redis.opsForValue().get(BASELINE_MEMBER_COUNT_KEY);
+        Object avgRating = redis.opsForValue().get(BASELINE_AVG_RATING_KEY);
+        if (!(memberCount instanceof Number count) || !(avgRating instanceof Number avg)) {
+            return null;
         }
+        return new GlobalInputs(count.longValue(), avg.doubleValue());
+    }
+
+    private void saveBaseline(GlobalInputs global) {
+        redis.opsForValue().set(BASELINE_MEMBER_COUNT_KEY, global.memberCount());
+        redis.opsForValue().set(BASELINE_AVG_RATING_KEY, global.avgRating());
     }
 
     /**
-     * 좋아요/싫어요 통계 조회 (개별 쿼리)
+     * 영화별 리뷰 수/평균 평점 (삭제된 리뷰 제외)
      */
-    private LikeHateStats getLikeHateStats(Long movieId) {
-        try {
-            Integer likes = movieRepository.findLikeCountByMovieId(movieId);
-            Integer hates = movieRepository.findHateCountByMovieId(movieId);
-
-            if (likes == null) likes = 0;
-            if (hates == null) hates = 0;
-
-            log.debug("영화 ID {}: 좋아요={}, 싫어요={}", movieId, likes, hates);
-            return new LikeHateStats(likes.longValue(), hates.longValue());
-
-        } catch (Exception e) {
-            log.error("좋아요/싫어요 통계 조회 실패 - 영화 ID: {}", movieId, e);
-            return new LikeHateStats(0L, 0L);
+    private Map<Long, ReviewStats> loadReviewStats(List<Object[]> rows) {
+        Map<Long, ReviewStats> stats = new HashMap<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            double average = row[2] == null ? 0.0 : ((Number) row[2]).doubleValue();
+            stats.put(((Number) row[0]).longValue(), new ReviewStats(count, average));
         }
+        return stats;
     }
 
     /**
-     * 봤어요 수 조회
+     * 영화별 봤어요 수
      */
-    private long getSeenCount(Long movieId) {
-        try {
-            Long seenCount = watchedRepository.countWatchedByMovieId(movieId);
-            if (seenCount == null) seenCount = 0L;
-
-            log.debug("영화 ID {}: 봤어요 수={}", movieId, seenCount);
-            return seenCount;
-
-        } catch (Exception e) {
-            log.error("봤어요 수 조회 실패 - 영화 ID: {}", movieId, e);
-            return 0L;
+    private Map<Long, Long> loadSeenCounts(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
         }
+        return counts;
     }
 
     /**
-     * Popcorn 점수 계산 로직 (에러 처리 강화)
+     * Popcorn 점수 계산 (소수점 첫째 자리까지)
      */
-    private double calculatePopcornScore(Movie movie, long totalUserCount, double globalAvgRating) {
-        try {
-            log.debug("영화 ID {} Popcorn 점수 계산 시작", movie.getId());
-
-            // 1. 리뷰 데이터 조회
-            ReviewStats reviewStats = getReviewStats(movie.getId());
-
-            // 2. 좋아요/싫어요 데이터 조회
-            LikeHateStats likeHateStats = getLikeHateStats(movie.getId());
-
-            // 3. 봤어요 데이터 조회
-            long seenCount = getSeenCount(movie.getId());
-
-            // 4. Bayesian 평균 계산
-            double bayesianAvg = calculateBayesianAverage(
-                    reviewStats.getCount(),
-                    reviewStats.getAverage(),
-                    globalAvgRating
-            );
-
-            // 5. 좋아요 비율 계산
-            double likeRatio = calculateLikeRatio(
-                    likeHateStats.getLikes(),
-                    likeHateStats.getHates()
-            );
-
-            // 6. 봤어요 비율 계산
-            double seenRatio = calculateSeenRatio(seenCount, totalUserCount);
-
-            // 7. 최종 Popcorn 점수 계산
-            double score = calculateFinalScore(bayesianAvg, likeRatio, seenRatio);
+    static double calculatePopcornScore(long reviewCount, double movieAvgRating, long likes, long hates,
+                                        long seenCount, long totalUserCount, double globalAvgRating) {
+        double bayesianAvg = calculateBayesianAverage(reviewCount, movieAvgRating, globalAvgRating);
+        double likeRatio = calculateLikeRatio(likes, hates);
+        double seenRatio = calculateSeenRatio(seenCount, totalUserCount);
+        double score = calculateFinalScore(bayesianAvg, likeRatio, seenRatio);
+        return Math.round(score * 10.0) / 10.0;
+    }
 
-            log.info("영화 ID {}: 리뷰수={}, 평점={}, 좋아요비율={}, 봤어요비율={}, 최종점수={}",
-                    movie.getId(), reviewStats.getCount(), reviewStats.getAverage(),
-                    likeRatio, seenRatio, score);
+    /**
+     * Bayesian 평균 계산
+     */
+    private static double calculateBayesianAverage(long reviewCount, double movieAvgRating, double globalAvgRating) {
+        if (reviewCount == 0) {
+            return globalAvgRating;
+        }
 
-            return Math.round(score * 10.0) / 10.0; // 소수점 첫째 자리까지
+        return ((reviewCount * movieAvgRating) + (MIN_CONFIDENCE_REVIEWS * globalAvgRating))
+                / (reviewCount + MIN_CONFIDENCE_REVIEWS);
+    }
 
-        } catch (Exception e) {
-            log.error("영화 ID {} Popcorn 점수 계산 중 예외 발생", movie.getId(), e);
-            return 0.0; // 기본값 반환
+    /**
+     * 좋아요 비율 계산
+     */
+    private static double calculateLikeRatio(long likes, long hates) {
+        long total = likes + hates;
+        if (total == 0) {
+            return 0.5; // 중립값
         }
+        return (double) likes / total;
     }
 
-    // 내부 클래스들
-    private static class ReviewStats {
-        private final long count;
-        private final double average;
-
-        public ReviewStats(long count, double average) {
-            this.count = count;
-            this.average = average;
+    /**
+     * 봤어요 비율 계산
+     */
+    private static double calculateSeenRatio(long seenCount, long totalUserCount) {
+        if (totalUserCount == 0) {
+            return 0.0;
         }
+        return Math.min(1.0, (double) seenCount / totalUserCount); // 최대 1.0으로 제한
+    }
 
-        public long getCount() { return count; }
-        public double getAverage() { return average; }
+    /**
+     * 최종 점수 계산
+     */
+    private static double calculateFinalScore(double bayesianAvg, double likeRatio, double seenRatio) {
+        // 각 요소를 0-1 범위로 정규화하고 가중치 적용
+        double normalizedRating = bayesianAvg / 5.0; // 5점 만점을 1로 정규화
+
+        return (normalizedRating * 0.5 + likeRatio * 0.3 + seenRatio * 0.2) * 100;
     }
 
-    private static class LikeHateStats {
-        private final long likes;
-        private final long hates;
+    private record ReviewStats(long count, double average) {
+        static final ReviewStats EMPTY = new ReviewStats(0L, 0.0);
+    }
 
-        public LikeHateStats(long likes, long hates) {
-            this.likes = likes;
-            this.hates = hates;
-        }
+    private record ScoredMovie(Long movieId, Long tmdbId, double score, long reviewCnt, boolean changed) {
+    }
 
-        public long getLikes() { return likes; }
-        public long getHates() { return hates; }
+    private record GlobalInputs(long memberCount, double avgRating) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.event.MoviePopcornInputChangedEvent;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.common.reaction.ReactionFlushedEvent;
+import com.flipflick.backend.common.reaction.ReactionTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영화 좋아요/싫어요 수가 DB 에 반영되면 상세 캐시 무효화 + Popcorn 재계산 대상으로 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieReactionSyncListener {
+
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onReactionFlushed(ReactionFlushedEvent event) {
+        if (event.getTarget() != ReactionTarget.MOVIE || event.getIds().isEmpty()) {
+            return;
+        }
+        for (Long movieId : event.getIds()) {
+            eventPublisher.publishEvent(new MoviePopcornInputChangedEvent(this, movieId));
+        }
+        for (Long tmdbId : movieRepository.findTmdbIdsByIdIn(event.getIds())) {
+            eventPublisher.publishEvent(new MovieDetailChangedEvent(this, tmdbId));
+        }
+    }
+}
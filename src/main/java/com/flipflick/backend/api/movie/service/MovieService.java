@@ -1,50 +1,60 @@
 package com.flipflick.backend.api.movie.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
+import com.flipflick.backend.api.movie.cache.MovieDetailCache;
+import com.flipflick.backend.api.movie.cache.MoviePopcornLeaderboard;
+import com.flipflick.backend.api.movie.cache.MovieReferenceRegistry;
 import com.flipflick.backend.api.movie.dto.*;
 import com.flipflick.backend.api.movie.entity.*;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.event.MovieIngestedEvent;
+import com.flipflick.backend.api.movie.event.MoviePopcornInputChangedEvent;
 import com.flipflick.backend.api.movie.repository.*;
 import com.flipflick.backend.api.review.entity.LikeHateType;
+import com.flipflick.backend.api.review.service.MovieReviewStatsService;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.InternalServerException;
+import com.flipflick.backend.common.reaction.ReactionCounter;
+import com.flipflick.backend.common.reaction.ReactionCounts;
+import com.flipflick.backend.common.reaction.ReactionTarget;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MovieService {
 
+    // 내 상태 일괄 조회 최대 영화 수
+    private static final int MAX_MY_STATE_SIZE = 100;
+
     @Value("${tmdb.api.key}")
     private String apiKey;
 
     @Value("${tmdb.api.image-base-url}")
     private String imageBaseUrl;
 
-    @Value("${kobis.api.key}")
-    private String kobisKey;
-
     private final WebClient tmdbWebClient;
     private final MovieRepository movieRepository;
     private final GenreRepository genreRepository;
@@ -54,19 +64,23 @@ public class MovieService {
     private final WatchedRepository watchedRepository;
     private final MovieLikeHateRepository movieLikeHateRepository;
     private final MoviePopcornScoreService moviePopcornScoreService;
-    private final WebClient kobisClient;
-    private final RedisTemplate<String,Object> redis;
+    private final MovieIngestCoordinator movieIngestCoordinator;
+    private final MovieDetailCache movieDetailCache;
+    private final MovieReferenceRegistry movieReferenceRegistry;
+    private final MoviePopcornLeaderboard moviePopcornLeaderboard;
+    private final MovieCastService movieCastService;
+    private final ReactionCounter reactionCounter;
+    private final MovieReviewStatsService movieReviewStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     // 영화 상세 조회 메서드(DB에 영화데이터가 없으면 TMDB호출 및 저장후 반환)
-    @Transactional
+    // cold miss 적재는 MovieIngestCoordinator 가 별도 트랜잭션으로 커밋하므로 바깥 트랜잭션 없이 실행 (요청당 커넥션 1개)
     public MovieDetailResponseDTO viewMovieDetail(SearchRequestIdDTO searchRedquestIdDTO, Long memberId) {
         Long tmdbId = searchRedquestIdDTO.getTmdbId();
 
-        // 페치 조인으로 genre, media, provider 모두 미리 가져옴
-        Movie movie = movieRepository.findWithAllByTmdbId(tmdbId)
-                .orElseGet(() -> fetchAndSaveMovie(tmdbId));
-
-        List<CastResponseDTO> casts = fetchCasts(tmdbId);
+        // 회원과 무관한 공용 데이터는 L1/L2 캐시에서 조회
+        MovieDetailBaseDTO base = movieDetailCache.get(tmdbId, () -> loadMovieDetailBase(tmdbId));
 
         boolean myBookmark  = false;
         boolean myWatched   = false;
@@ -74,16 +88,125 @@ public class MovieService {
         boolean myHate      = false;
 
         if (memberId != null) {
-            Member member = memberRepository.findByIdAndIsDeletedFalse(memberId)
-                    .orElseThrow(() -> new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage()));
+            // 회원 검증과 4개 상태를 한 번의 쿼리로 조회
+            Object[] flags = movieRepository.findPersonalFlags(memberId, base.getMovieId()).get(0);
+            if (!isTrue(flags[0])) {
+                throw new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage());
+            }
 
-            myBookmark = bookmarkRepository.existsByMemberAndMovie(member, movie);
-            myWatched = watchedRepository.existsByMemberAndMovie(member, movie);
-            myLike = movieLikeHateRepository.existsByMemberAndMovieAndType(member, movie, LikeHateType.LIKE);
-            myHate = movieLikeHateRepository.existsByMemberAndMovieAndType(member, movie, LikeHateType.HATE);
+            myBookmark = isTrue(flags[1]);
+            myWatched = isTrue(flags[2]);
+            myLike = isTrue(flags[3]);
+            myHate = isTrue(flags[4]);
         }
 
         return MovieDetailResponseDTO.builder()
+                .movieId(base.getMovieId())
+                .tmdbId(base.getTmdbId())
+                .title(base.getTitle())
+                .originalTitle(base.getOriginalTitle())
+                .overview(base.getOverview())
+                .posterImg(base.getPosterImg())
+                .backgroundImg(base.getBackgroundImg())
+                .voteAverage(base.getVoteAverage())
+                .popcorn(base.getPopcorn())
+                .likeCnt(base.getLikeCnt())
+                .hateCnt(base.getHateCnt())
+                .releaseDate(base.getReleaseDate())
+                .productionYear(base.getProductionYear())
+                .productionCountry(base.getProductionCountry())
+                .ageRating(base.getAgeRating())
+                .runtime(base.getRuntime())
+                .genres(base.getGenres())
+                .images(base.getImages())
+                .videos(base.getVideos())
+                .providers(base.getProviders())
+                .casts(base.getCasts())
+                .ratingDistribution(base.getRatingDistribution())
+                .myBookmark(myBookmark)
+                .myWatched(myWatched)
+                .myLike(myLike)
+                .myHate(myHate)
+                .build();
+    }
+
+    // 여러 영화에 대한 내 찜/봤어요/좋아요/싫어요 상태 일괄 조회
+    @Transactional(readOnly = true)
+    public List<MoviePersonalFlagsDTO> getMyMovieStates(Long memberId, MovieMyStateRequestDTO movieMyStateRequestDTO) {
+        List<Long> tmdbIds = movieMyStateRequestDTO.getTmdbIds();
+        if (tmdbIds == null || tmdbIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (tmdbIds.size() > MAX_MY_STATE_SIZE) {
+            throw new BadRequestException(ErrorStatus.MOVIE_MY_STATE_LIMIT_EXCEEDED.getMessage());
+        }
+
+        Set<Long> bookmarked = new HashSet<>();
+        Set<Long> watched = new HashSet<>();
+        Set<Long> liked = new HashSet<>();
+        Set<Long> hated = new HashSet<>();
+
+        for (Object[] row : movieRepository.findPersonalFlagsByTmdbIds(memberId, new HashSet<>(tmdbIds))) {
+            Long tmdbId = ((Number) row[1]).longValue();
+            switch (String.valueOf(row[0])) {
+                case "BOOKMARK" -> bookmarked.add(tmdbId);
+                case "WATCHED" -> watched.add(tmdbId);
+                case "LIKE" -> liked.add(tmdbId);
+                case "HATE" -> hated.add(tmdbId);
+                default -> log.warn("알 수 없는 영화 상태 종류: {}", row[0]);
+            }
+        }
+
+        // 요청 순서 유지
+        return tmdbIds.stream()
+                .distinct()
+                .map(tmdbId -> MoviePersonalFlagsDTO.builder()
+                        .tmdbId(tmdbId)
+                        .myBookmark(bookmarked.contains(tmdbId))
+                        .myWatched(watched.contains(tmdbId))
+                        .myLike(liked.contains(tmdbId))
+                        .myHate(hated.contains(tmdbId))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> work.get());
+    }
+
+    private boolean isTrue(Object flag) {
+        return flag instanceof Number n ? n.intValue() != 0 : Boolean.TRUE.equals(flag);
+    }
+
+    // 캐시 miss 시 영화 상세 공용 데이터 구성
+    private MovieDetailBaseDTO loadMovieDetailBase(Long tmdbId) {
+        // 페치 조인으로 genre, media, provider 모두 미리 가져옴
+        MovieDetailBaseDTO stored = inReadOnlyTransaction(() -> movieRepository.findWithAllByTmdbId(tmdbId)
+                .map(this::toMovieDetailBase)
+                .orElse(null));
+        if (stored != null) {
+            return stored;
+        }
+
+        // DB에 없으면 동시 요청 중 하나만 TMDB 호출 및 저장하고 나머지는 그 결과를 공유
+        // 적재 트랜잭션(REQUIRES_NEW)이 커넥션을 하나 더 잡지 않도록 트랜잭션 밖에서 호출
+        movieIngestCoordinator.getOrIngest(tmdbId, () -> fetchAndSaveMovie(tmdbId));
+        return inReadOnlyTransaction(() -> movieRepository.findWithAllByTmdbId(tmdbId)
+                .map(this::toMovieDetailBase)
+                .orElseThrow(() -> new InternalServerException(ErrorStatus.MOVIE_NOT_FOUND.getMessage())));
+    }
+
+    private MovieDetailBaseDTO toMovieDetailBase(Movie movie) {
+        // 출연진 미저장(기존) 영화는 백그라운드에서 TMDB 출연진을 저장 (저장 후 상세 캐시 무효화)
+        if (movie.getCastsSyncedAt() == null) {
+            movieCastService.requestRefresh(movie.getId());
+        }
+        List<CastResponseDTO> casts = movieCastService.toCastResponses(movie);
+
+        // 캐시 직렬화를 위해 컬렉션은 모두 ArrayList 로 구성
+        return MovieDetailBaseDTO.builder()
                 .movieId(movie.getId())
                 .tmdbId(movie.getTmdbId())
                 .title(movie.getTitle())
@@ -100,37 +223,47 @@ public class MovieService {
                 .productionCountry(movie.getProductionCountry())
                 .ageRating(movie.getAgeRating())
                 .runtime(movie.getRuntime())
+                // 장르/제공사 이름은 지연 로딩 대신 레지스트리에서 조회 (프록시 id 만 사용)
                 .genres(movie.getMovieGenres().stream()
-                        .map(mg -> GenreDTO.builder()
-                                .tmdbId(mg.getGenre().getTmdbId())
-                                .genreName(mg.getGenre().getGenreName())
+                        .map(mg -> movieReferenceRegistry.genreById(mg.getGenre().getId()))
+                        .filter(Objects::nonNull)
+                        .map(genre -> GenreDTO.builder()
+                                .tmdbId(genre.tmdbId())
+                                .genreName(genre.genreName())
                                 .build())
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
                 .images(movie.getMedia().stream()
                         .filter(mv -> mv.getMovieMediaType() == MovieMediaType.IMAGE)
                         .map(MovieImageVideo::getUrl)
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
                 .videos(movie.getMedia().stream()
                         .filter(mv -> mv.getMovieMediaType() == MovieMediaType.VIDEO)
                         .map(MovieImageVideo::getUrl)
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
                 .providers(movie.getProviders().stream()
                         .map(mp -> ProviderDTO.builder()
-                                .providerName(mp.getProvider().getProviderName())
+                                .providerName(providerName(mp))
                                 .providerType(mp.getProviderType().name())
                                 .build())
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
                 .casts(casts)
-                .myBookmark(myBookmark)
-                .myWatched(myWatched)
-                .myLike(myLike)
-                .myHate(myHate)
+                .ratingDistribution(movieReviewStatsService.getDistribution(movie.getId()))
                 .build();
     }
 
     // TMDB API 호출 및 DB 저장
     private Movie fetchAndSaveMovie(Long tmdbId) {
-        JsonNode root = tmdbWebClient.get()
+        TmdbMovieDetailDTO detail = requestMovieDetail(tmdbId).block();
+
+        if (detail == null) {
+            throw new InternalServerException(ErrorStatus.NO_RESPONSE_TMDB_EXCEPTION.getMessage());
+        }
+        return saveMovie(detail);
+    }
+
+    // TMDB 영화 상세 조회 (장르/이미지/비디오/제공사/등급/출연진을 한 번에, 사용하는 필드만 디코딩)
+    public Mono<TmdbMovieDetailDTO> requestMovieDetail(Long tmdbId) {
+        return tmdbWebClient.get()
                 .uri(builder -> builder
                         .path("/movie/{id}")
                         .queryParam("api_key", apiKey)
@@ -141,17 +274,31 @@ public class MovieService {
                 .retrieve()
                 .onStatus(status -> status == HttpStatus.NOT_FOUND,
                         resp -> Mono.error(new BadRequestException(ErrorStatus.NOT_REGISTER_MOVIE_EXCEPTION.getMessage())))
-                .bodyToMono(JsonNode.class)
-                .block();
+                .bodyToMono(TmdbMovieDetailDTO.class);
+    }
 
-        if (root == null) {
-            throw new InternalServerException(ErrorStatus.NO_RESPONSE_TMDB_EXCEPTION.getMessage());
-        }
+    // TMDB 상세 응답을 영화 엔티티로 매핑해 저장 (호출한 트랜잭션 안에서 실행)
+    public Movie saveMovie(TmdbMovieDetailDTO detail) {
+        Movie movie = mapMovie(detail);
 
-        // 개봉일 추출
-        String releaseDateText = root.path("release_date").asText(null);
+        // 장르, 이미지/비디오, 제공사(한국기준) 저장
+        movie.getMovieGenres().addAll(buildGenres(movie, detail));
+        movie.getMedia().addAll(buildMedia(movie, detail));
+        movie.getProviders().addAll(buildProviders(movie, detail));
 
-        LocalDate relDate = parseDate(releaseDateText);
+        // 출연진 저장 (append_to_response 의 credits 사용)
+        movieCastService.applyCredits(movie, detail.getCredits().getCast());
+
+        Movie saved = movieRepository.save(movie);
+        eventPublisher.publishEvent(new MovieIngestedEvent(this, saved.getTmdbId(), saved.getTitle(),
+                saved.getOriginalTitle(), saved.getPosterImg(), saved.getReleaseDate()));
+        return saved;
+    }
+
+    // TMDB 상세 응답의 단일 값 필드를 영화 엔티티로 매핑 (개봉일이 없으면 미개봉으로 간주)
+    public Movie mapMovie(TmdbMovieDetailDTO detail) {
+        // 개봉일 추출
+        LocalDate relDate = parseDate(detail.getReleaseDate());
         if (relDate == null) {
             throw new BadRequestException(ErrorStatus.NOT_RELEASE_MOVIE_EXCEPTION.getMessage());
         }
@@ -160,159 +307,163 @@ public class MovieService {
 
         // 한국 연령 등급 추출
         String ageCert = "";
-        for (JsonNode node : root.path("release_dates").path("results")) {
-            if ("KR".equals(node.path("iso_3166_1").asText())) {
-                ageCert = node.path("release_dates").get(0).path("certification").asText();
+        for (TmdbMovieDetailDTO.CountryReleaseDates country : detail.getReleaseDates().getResults()) {
+            if ("KR".equals(country.getCountry())) {
+                if (!country.getReleaseDates().isEmpty()) {
+                    ageCert = Objects.toString(country.getReleaseDates().get(0).getCertification(), "");
+                }
                 break;
             }
         }
 
         // 제작국가 추출 (첫번째)
         String prodCountry = "";
-        JsonNode pcArr = root.path("production_countries");
-        if (pcArr.isArray() && pcArr.size() > 0) {
-            prodCountry = pcArr.get(0).path("name").asText();
+        if (!detail.getProductionCountries().isEmpty()) {
+            prodCountry = Objects.toString(detail.getProductionCountries().get(0).getName(), "");
         }
 
         // 영화 엔티티 필드
-        Movie movie = Movie.builder()
-                .tmdbId(root.get("id").asLong())
-                .title(root.get("title").asText())
-                .originalTitle(root.get("original_title").asText())
-                .overview(root.get("overview").asText())
-                .posterImg(root.path("poster_path").isNull()
+        return Movie.builder()
+                .tmdbId(detail.getId())
+                .title(detail.getTitle())
+                .originalTitle(detail.getOriginalTitle())
+                .overview(detail.getOverview())
+                .posterImg(detail.getPosterPath() == null
                         ? null
-                        : imageBaseUrl + root.path("poster_path").asText())
-                .backgroundImg(root.path("backdrop_path").isNull()
+                        : imageBaseUrl + detail.getPosterPath())
+                .backgroundImg(detail.getBackdropPath() == null
                         ? null
-                        : imageBaseUrl + root.path("backdrop_path").asText())
+                        : imageBaseUrl + detail.getBackdropPath())
                 .popcorn(0.0)
                 .voteAverage(0.0)
                 .releaseDate(relDate)
                 .productionYear(productionYear)
                 .productionCountry(prodCountry)
                 .ageRating(ageCert)
-                .runtime(root.get("runtime").asInt())
+                .runtime(detail.getRuntime() == null ? 0 : detail.getRuntime())
                 .build();
+    }
 
-        // 장르 조회 및 저장
-        List<Long> genreIds = new ArrayList<>();
-        root.path("genres").forEach(g -> genreIds.add(g.get("id").asLong()));
-        Map<Long, Genre> existingGenres = genreRepository.findByTmdbIdIn(genreIds)
-                .stream().collect(Collectors.toMap(Genre::getTmdbId, g -> g));
-        for (JsonNode g : root.path("genres")) {
-            long gid = g.get("id").asLong();
-            Genre genre = existingGenres.computeIfAbsent(gid, id ->
-                    genreRepository.save(Genre.builder()
-                            .tmdbId(id)
-                            .genreName(g.get("name").asText())
-                            .build()));
-            movie.getMovieGenres().add(
-                    MovieGenre.builder().movie(movie).genre(genre).build()
-            );
+    private LocalDate parseDate(String text) {
+        if (text == null || text.isBlank()) return null;
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
         }
+    }
 
-        // 이미지 저장
-        root.path("images").path("backdrops")
-                .forEach(img -> addImage(movie, img.path("file_path").asText(null)));
-
-        // 비디오 저장
-        root.path("videos").path("results").forEach(v -> {
-            if ("YouTube".equals(v.path("site").asText())) {
-                movie.getMedia().add(
-                        MovieImageVideo.builder()
-                                .url("https://www.youtube.com/watch?v=" + v.path("key").asText())
-                                .movieMediaType(MovieMediaType.VIDEO)
-                                .movie(movie)
-                                .build()
-                );
-            }
-        });
-
-        // 제공사 조회 및 저장 (한국기준)
-        JsonNode kr = root.path("watch/providers").path("results").path("KR");
-        if (!kr.isMissingNode()) {
-            List<Long> pidList = new ArrayList<>();
-            kr.path("flatrate").forEach(p -> pidList.add(p.get("provider_id").asLong()));
-            kr.path("rent").forEach(p -> pidList.add(p.get("provider_id").asLong()));
-            kr.path("buy").forEach(p -> pidList.add(p.get("provider_id").asLong()));
-
-            Map<Long, Provider> existingProvs = providerRepository.findByTmdbIdIn(pidList)
-                    .stream().collect(Collectors.toMap(Provider::getTmdbId, p -> p));
-
-            kr.path("flatrate").forEach(p -> addProvider(movie, p, ProviderType.FLATRATE, existingProvs));
-            kr.path("rent").forEach(p -> addProvider(movie, p, ProviderType.RENT, existingProvs));
-            kr.path("buy").forEach(p -> addProvider(movie, p, ProviderType.BUY, existingProvs));
+    /**
+     * 저장된 영화를 TMDB 상세 응답 기준으로 갱신 (호출한 트랜잭션 안에서 실행)
+     * 장르/이미지·비디오/제공사는 다시 만들지 않고 바뀐 항목만 추가/삭제
+     * @return 변경된 내용이 있으면 true
+     */
+    public boolean refreshMovie(TmdbMovieDetailDTO detail) {
+        Movie movie = movieRepository.findWithAllByTmdbId(detail.getId()).orElse(null);
+        if (movie == null) {
+            return false;
         }
 
-        return movieRepository.save(movie);
+        boolean changed = movie.updateDetails(mapMovie(detail));
+        if (changed) {
+            // 제목/포스터가 바뀌었을 수 있으므로 자동완성 인덱스에도 반영 (커밋 후)
+            eventPublisher.publishEvent(new MovieIngestedEvent(this, movie.getTmdbId(), movie.getTitle(),
+                    movie.getOriginalTitle(), movie.getPosterImg(), movie.getReleaseDate()));
+        }
+
+        changed |= syncCollection(movie.getMovieGenres(), buildGenres(movie, detail),
+                mg -> mg.getGenre().getId());
+        changed |= syncCollection(movie.getMedia(), buildMedia(movie, detail),
+                mv -> mv.getMovieMediaType() + ":" + mv.getUrl());
+        changed |= syncCollection(movie.getProviders(), buildProviders(movie, detail),
+                mp -> mp.getProviderType() + ":" + mp.getProvider().getId());
+
+        if (changed) {
+            eventPublisher.publishEvent(new MovieDetailChangedEvent(this, movie.getTmdbId()));
+        }
+        return changed;
     }
 
-    private void addImage(Movie movie, String path) {
-        if (path != null) {
-            movie.getMedia().add(
-                    MovieImageVideo.builder()
-                            .url(imageBaseUrl + path)
-                            .movieMediaType(MovieMediaType.IMAGE)
-                            .movie(movie)
-                            .build()
-            );
+    // 현재 컬렉션에서 사라진 항목은 삭제(orphanRemoval), 새로 생긴 항목만 추가
+    private <T> boolean syncCollection(List<T> current, List<T> desired, Function<T, Object> keyOf) {
+        Set<Object> desiredKeys = desired.stream().map(keyOf).collect(Collectors.toSet());
+        Set<Object> currentKeys = current.stream().map(keyOf).collect(Collectors.toSet());
+
+        boolean removed = current.removeIf(item -> !desiredKeys.contains(keyOf.apply(item)));
+        boolean added = false;
+        for (T item : desired) {
+            if (currentKeys.add(keyOf.apply(item))) {
+                current.add(item);
+                added = true;
+            }
         }
+        return removed || added;
     }
 
-    private LocalDate parseDate(String text) {
-        if (text == null || text.isBlank()) return null;
-        try {
-            return LocalDate.parse(text);
-        } catch (DateTimeParseException e) {
-            return null;
+    // 장르 (처음 보는 장르는 레지스트리가 저장)
+    private List<MovieGenre> buildGenres(Movie movie, TmdbMovieDetailDTO detail) {
+        List<MovieGenre> genres = new ArrayList<>();
+        for (TmdbMovieDetailDTO.Genre g : detail.getGenres()) {
+            MovieReferenceRegistry.GenreRef genre = movieReferenceRegistry.getOrCreateGenre(g.getId(), g.getName());
+            genres.add(MovieGenre.builder()
+                    .movie(movie)
+                    .genre(genreRepository.getReferenceById(genre.id()))
+                    .build());
         }
+        return genres;
     }
 
-    private void addProvider(Movie movie, JsonNode p, ProviderType type, Map<Long, Provider> cache) {
-        long pid = p.get("provider_id").asLong();
-        Provider prov = cache.computeIfAbsent(pid, id ->
-                providerRepository.save(
-                        Provider.builder()
-                                .tmdbId(id)
-                                .providerName(p.get("provider_name").asText())
-                                .build()
-                )
-        );
-        movie.getProviders().add(
-                MovieProvider.builder()
+    // 배경 이미지 + 유튜브 비디오
+    private List<MovieImageVideo> buildMedia(Movie movie, TmdbMovieDetailDTO detail) {
+        List<MovieImageVideo> media = new ArrayList<>();
+        for (TmdbMovieDetailDTO.Image img : detail.getImages().getBackdrops()) {
+            if (img.getFilePath() != null) {
+                media.add(MovieImageVideo.builder()
+                        .url(imageBaseUrl + img.getFilePath())
+                        .movieMediaType(MovieMediaType.IMAGE)
                         .movie(movie)
-                        .provider(prov)
-                        .providerType(type)
-                        .build()
-        );
+                        .build());
+            }
+        }
+        for (TmdbMovieDetailDTO.Video v : detail.getVideos().getResults()) {
+            if ("YouTube".equals(v.getSite())) {
+                media.add(MovieImageVideo.builder()
+                        .url("https://www.youtube.com/watch?v=" + v.getKey())
+                        .movieMediaType(MovieMediaType.VIDEO)
+                        .movie(movie)
+                        .build());
+            }
+        }
+        return media;
     }
 
-    // 배우 정보 호출
-    private List<CastResponseDTO> fetchCasts(Long tmdbId) {
-        JsonNode root = tmdbWebClient.get()
-                .uri(builder -> builder
-                        .path("/movie/{id}/credits")
-                        .queryParam("api_key", apiKey)
-                        .queryParam("language", "ko-KR")
-                        .build(tmdbId))
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block();
-
-        if (root == null || !root.has("cast")) {
-            return Collections.emptyList();
+    // 한국 기준 제공사 (처음 보는 제공사는 레지스트리가 저장)
+    private List<MovieProvider> buildProviders(Movie movie, TmdbMovieDetailDTO detail) {
+        List<MovieProvider> providers = new ArrayList<>();
+        TmdbMovieDetailDTO.RegionProviders kr = detail.getWatchProviders().getResults().getKr();
+        if (kr == null) {
+            return providers;
         }
 
-        return StreamSupport.stream(root.get("cast").spliterator(), false)
-                .map(c -> CastResponseDTO.builder()
-                        .id(c.get("id").asLong())
-                        .name(c.get("name").asText())
-                        .profileImg(c.path("profile_path").isNull()
-                                ? null
-                                : imageBaseUrl + c.get("profile_path").asText())
-                        .build())
-                .collect(Collectors.toList());
+        kr.getFlatrate().forEach(p -> providers.add(buildProvider(movie, p, ProviderType.FLATRATE)));
+        kr.getRent().forEach(p -> providers.add(buildProvider(movie, p, ProviderType.RENT)));
+        kr.getBuy().forEach(p -> providers.add(buildProvider(movie, p, ProviderType.BUY)));
+        return providers;
+    }
+
+    private MovieProvider buildProvider(Movie movie, TmdbMovieDetailDTO.WatchProvider p, ProviderType type) {
+        MovieReferenceRegistry.ProviderRef provider =
+                movieReferenceRegistry.getOrCreateProvider(p.getProviderId(), p.getProviderName());
+        return MovieProvider.builder()
+                .movie(movie)
+                .provider(providerRepository.getReferenceById(provider.id()))
+                .providerType(type)
+                .build();
+    }
+
+    private String providerName(MovieProvider movieProvider) {
+        MovieReferenceRegistry.ProviderRef provider = movieReferenceRegistry.providerById(movieProvider.getProvider().getId());
+        return provider == null ? null : provider.providerName();
     }
 
     // 영화 찜 토글
@@ -343,37 +494,15 @@ public class MovieService {
     // 내가 찜한 영화들 조회
     @Transactional(readOnly = true)
     public MovieBWLHListResponseDTO getBookmarkedMovies(Long memberId, int page, int size) {
+        Page<MovieBWLHResponseDTO> cards = bookmarkRepository.findMovieCardsByMemberId(memberId, PageRequest.of(page, size));
+        return toMovieCardList(memberId, cards);
+    }
 
-        // 회원 검증
-        if (!memberRepository.existsByIdAndIsDeletedFalse(memberId)) {
-            throw new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage());
-        }
-
-        // 내림차순 정렬
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<Bookmark> bmPage = bookmarkRepository.findByMember_Id(memberId, pageRequest);
-
-        var content = bmPage.getContent().stream()
-                .map(bm -> {
-                    var m = bm.getMovie();
-                    return new MovieBWLHResponseDTO(
-                            m.getTmdbId(),
-                            m.getPosterImg(),
-                            m.getTitle(),
-                            m.getReleaseDate().getYear()
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return MovieBWLHListResponseDTO.builder()
-                .totalElements(bmPage.getTotalElements())
-                .totalPages(bmPage.getTotalPages())
-                .page(bmPage.getNumber())
-                .size(bmPage.getSize())
-                .isLast(bmPage.isLast())
-                .content(content)
-                .build();
+    // 내가 찜한 영화들 조회 (무한 스크롤, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public MovieBWLHSliceResponseDTO getBookmarkedMovieSlice(Long memberId, int page, int size) {
+        Slice<MovieBWLHResponseDTO> cards = bookmarkRepository.findMovieCardSliceByMemberId(memberId, PageRequest.of(page, size));
+        return toMovieCardSlice(memberId, cards);
     }
 
     // 영화 봤어요 토글
@@ -399,42 +528,23 @@ public class MovieService {
                             watchedRepository.save(watched);
                         }
                 );
+
+        // 봤어요 수 변경 → Popcorn 재계산 대상
+        eventPublisher.publishEvent(new MoviePopcornInputChangedEvent(this, movie.getId()));
     }
 
-    // 내가 찜한 영화들 조회
+    // 내가 본 영화들 조회
     @Transactional(readOnly = true)
     public MovieBWLHListResponseDTO getMovieWatched(Long memberId, int page, int size) {
+        Page<MovieBWLHResponseDTO> cards = watchedRepository.findMovieCardsByMemberId(memberId, PageRequest.of(page, size));
+        return toMovieCardList(memberId, cards);
+    }
 
-        // 회원 검증
-        if (!memberRepository.existsByIdAndIsDeletedFalse(memberId)) {
-            throw new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage());
-        }
-
-        // 내림차순 정렬
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<Watched> watchedPage = watchedRepository.findByMember_Id(memberId, pageRequest);
-
-        var content = watchedPage.getContent().stream()
-                .map(watched -> {
-                    var w = watched.getMovie();
-                    return new MovieBWLHResponseDTO(
-                            w.getTmdbId(),
-                            w.getPosterImg(),
-                            w.getTitle(),
-                            w.getReleaseDate().getYear()
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return MovieBWLHListResponseDTO.builder()
-                .totalElements(watchedPage.getTotalElements())
-                .totalPages(watchedPage.getTotalPages())
-                .page(watchedPage.getNumber())
-                .size(watchedPage.getSize())
-                .isLast(watchedPage.isLast())
-                .content(content)
-                .build();
+    // 내가 본 영화들 조회 (무한 스크롤, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public MovieBWLHSliceResponseDTO getMovieWatchedSlice(Long memberId, int page, int size) {
+        Slice<MovieBWLHResponseDTO> cards = watchedRepository.findMovieCardSliceByMemberId(memberId, PageRequest.of(page, size));
+        return toMovieCardSlice(memberId, cards);
     }
 
     // 좋아요 싫어요 토글
@@ -449,6 +559,10 @@ public class MovieService {
 
         LikeHateType requested = movieLikeHateRequestDTO.getLikeHateType();
 
+        // 영화 행은 갱신하지 않고 증감분만 누적 (커밋 후 Redis 에 반영, 주기적으로 DB flush)
+        long likeDelta = 0;
+        long hateDelta = 0;
+
         // 기존 토글 상태 조회
         Optional<MovieLikeHate> opt = movieLikeHateRepository.findByMemberAndMovie(member, movie);
 
@@ -459,16 +573,16 @@ public class MovieService {
 
                 // 같은 버튼 연타
                 movieLikeHateRepository.delete(existing);
-                if (requested == LikeHateType.LIKE)   movie.decrementLike();
-                else                                    movie.decrementHate();
+                if (requested == LikeHateType.LIKE)   likeDelta--;
+                else                                    hateDelta--;
             } else {
                 // LIKE → HATE 또는 HATE → LIKE 전환
                 // 기존 레코드 삭제 + 카운트 감소
                 movieLikeHateRepository.delete(existing);
                 if (existing.getType() == LikeHateType.LIKE) {
-                    movie.decrementLike();
+                    likeDelta--;
                 } else {
-                    movie.decrementHate();
+                    hateDelta--;
                 }
 
                 // 새 레코드 생성 + 카운트 증가
@@ -478,8 +592,8 @@ public class MovieService {
                         .type(requested)
                         .build();
                 movieLikeHateRepository.save(fresh);
-                if (requested == LikeHateType.LIKE)   movie.incrementLike();
-                else                                    movie.incrementHate();
+                if (requested == LikeHateType.LIKE)   likeDelta++;
+                else                                    hateDelta++;
             }
         } else {
             // 처음 누르는 경우
@@ -489,55 +603,85 @@ public class MovieService {
                     .type(requested)
                     .build();
             movieLikeHateRepository.save(fresh);
-            if (requested == LikeHateType.LIKE)   movie.incrementLike();
-            else                                    movie.incrementHate();
+            if (requested == LikeHateType.LIKE)   likeDelta++;
+            else                                    hateDelta++;
         }
+
+        // 상세 캐시 무효화/Popcorn 재계산 등록은 DB 반영 시점에 수행 (MovieReactionSyncListener)
+        reactionCounter.apply(ReactionTarget.MOVIE, movie.getId(),
+                new ReactionCounts(movie.getLikeCnt(), movie.getHateCnt()), likeDelta, hateDelta);
     }
 
-    // 좋아요 누른 영화 리스트 조회
+    // 좋아요 누른 영화 리스트 조회 (최신 좋아요 순)
     @Transactional(readOnly = true)
     public MovieBWLHListResponseDTO getMovieLike(Long memberId, int page, int size) {
+        Page<MovieBWLHResponseDTO> cards = movieLikeHateRepository
+                .findMovieCardsByMemberId(memberId, LikeHateType.LIKE, PageRequest.of(page, size));
+        return toMovieCardList(memberId, cards);
+    }
 
-        if (!memberRepository.existsByIdAndIsDeletedFalse(memberId)) {
-            throw new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage());
-        }
+    // 좋아요 누른 영화 리스트 조회 (무한 스크롤, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public MovieBWLHSliceResponseDTO getMovieLikeSlice(Long memberId, int page, int size) {
+        Slice<MovieBWLHResponseDTO> cards = movieLikeHateRepository
+                .findMovieCardSliceByMemberId(memberId, LikeHateType.LIKE, PageRequest.of(page, size));
+        return toMovieCardSlice(memberId, cards);
+    }
 
-        // 최신 좋아요 순
-        PageRequest pr = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<MovieLikeHate> pageLH = movieLikeHateRepository
-                .findByMember_IdAndType(memberId, LikeHateType.LIKE, pr);
-
-        var content = pageLH.getContent().stream()
-                .map(mh -> {
-                    Movie m = mh.getMovie();
-                    return new MovieBWLHResponseDTO(
-                            m.getTmdbId(),
-                            m.getPosterImg(),
-                            m.getTitle(),
-                            m.getReleaseDate().getYear()
-                    );
-                })
-                .collect(Collectors.toList());
+    private MovieBWLHListResponseDTO toMovieCardList(Long memberId, Page<MovieBWLHResponseDTO> cards) {
+        validateMemberIfEmpty(memberId, cards);
 
         return MovieBWLHListResponseDTO.builder()
-                .totalElements(pageLH.getTotalElements())
-                .totalPages(pageLH.getTotalPages())
-                .page(pageLH.getNumber())
-                .size(pageLH.getSize())
-                .isLast(pageLH.isLast())
-                .content(content)
+                .totalElements(cards.getTotalElements())
+                .totalPages(cards.getTotalPages())
+                .page(cards.getNumber())
+                .size(cards.getSize())
+                .isLast(cards.isLast())
+                .content(cards.getContent())
+                .build();
+    }
+
+    private MovieBWLHSliceResponseDTO toMovieCardSlice(Long memberId, Slice<MovieBWLHResponseDTO> cards) {
+        validateMemberIfEmpty(memberId, cards);
+
+        return MovieBWLHSliceResponseDTO.builder()
+                .page(cards.getNumber())
+                .size(cards.getSize())
+                .hasNext(cards.hasNext())
+                .content(cards.getContent())
                 .build();
     }
 
+    // 목록 쿼리가 탈퇴 회원을 걸러내므로, 결과가 비었을 때만 회원 검증 쿼리 실행
+    private void validateMemberIfEmpty(Long memberId, Slice<MovieBWLHResponseDTO> cards) {
+        if (!cards.hasContent() && !memberRepository.existsByIdAndIsDeletedFalse(memberId)) {
+            throw new BadRequestException(ErrorStatus.INCORRECT_USER_EXCEPTION.getMessage());
+        }
+    }
+
     /**
      * Popcorn 점수 기준 TOP 영화 조회
      */
     @Transactional(readOnly = true)
-    public List<MoviePopcornResponseDTO> getTopMoviesByPopcornScore(int limit) {
+    public List<MoviePopcornResponseDTO> getTopMoviesByPopcornScore(int limit, Long genreTmdbId) {
         PageRequest pageRequest = PageRequest.of(0, limit);
-        Page<Movie> topMovies = movieRepository.findTopMoviesByPopcornScore(pageRequest);
 
-        return topMovies.getContent().stream()
+        // 리더보드(Redis ZSET)에서 순위만 가져오고 영화 정보는 tmdbId 로 조회
+        List<Movie> topMovies = moviePopcornLeaderboard.top(limit, genreTmdbId)
+                .map(tmdbIds -> {
+                    Map<Long, Movie> byTmdbId = movieRepository.findByTmdbIdIn(tmdbIds).stream()
+                            .collect(Collectors.toMap(Movie::getTmdbId, Function.identity()));
+                    return tmdbIds.stream()
+                            .map(byTmdbId::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                })
+                // 리더보드가 아직 구성되지 않은 경우에만 DB 정렬 조회
+                .orElseGet(() -> genreTmdbId == null
+                        ? movieRepository.findTopMoviesByPopcornScore(pageRequest)
+                        : findTopMoviesByGenre(genreTmdbId, pageRequest));
+
+        return topMovies.stream()
                 .map(movie -> new MoviePopcornResponseDTO(
                         movie.getTmdbId(),
                         movie.getPosterImg(),
@@ -547,87 +691,24 @@ public class MovieService {
                 .collect(Collectors.toList());
     }
 
+    private List<Movie> findTopMoviesByGenre(Long genreTmdbId, PageRequest pageRequest) {
+        MovieReferenceRegistry.GenreRef genre = movieReferenceRegistry.genreByTmdbId(genreTmdbId);
+        return genre == null
+                ? Collections.emptyList()
+                : movieRepository.findTopMoviesByPopcornScoreAndGenre(genre.id(), pageRequest);
+    }
+
     /**
      * 수동으로 Popcorn 점수 재계산 (관리자용)
      */
-    @Transactional
     public void manualRecalculatePopcornScores() {
         moviePopcornScoreService.recalculateAllPopcornScores();
     }
 
-    // 박스오피스 TOP10 조회
-    public BoxOfficeResponseDTO getYesterdayBoxOffice(String today) {
-        String cacheKey = "boxoffice:" + today;
-
-        // 캐시 체크
-        var cached = redis.opsForValue().get(cacheKey);
-        if (cached != null) {
-            return (BoxOfficeResponseDTO) cached;
-        }
-
-        // 어제 날짜 계산
-        LocalDate date = LocalDate.parse(today);
-        String targetDt = date.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // KOBIS 호출
-        String kobisUrl = "/kobisopenapi/webservice/rest/boxoffice/searchDailyBoxOfficeList.json";
-        JsonNode kobisRoot = kobisClient.get()
-                .uri(uri -> uri
-                        .path(kobisUrl)
-                        .queryParam("key", kobisKey)
-                        .queryParam("targetDt", targetDt)
-                        .build())
-                .retrieve().bodyToMono(JsonNode.class).block();
-
-        List<JsonNode> list = kobisRoot
-                .path("boxOfficeResult")
-                .path("dailyBoxOfficeList")
-                .elements()
-                .hasNext()
-                ? StreamSupport.stream(
-                        kobisRoot
-                                .path("boxOfficeResult")
-                                .path("dailyBoxOfficeList")
-                                .spliterator(), false)
-                .limit(10)
-                .collect(Collectors.toList())
-                : List.of();
-
-        // TMDb 매핑
-        List<BoxOfficeMovieDTO> result = new ArrayList<>();
-        for (JsonNode item : list) {
-            String name = item.get("movieNm").asText();
-            int rank  = item.get("rank").asInt();
-            int year  = Integer.parseInt(item.get("openDt").asText().substring(0,4));
-
-            JsonNode search = tmdbWebClient.get()
-                    .uri(uri -> uri
-                            .path("/search/movie")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", "ko-KR")
-                            .queryParam("query", name)
-                            .queryParam("year", year)
-                            .build())
-                    .retrieve().bodyToMono(JsonNode.class).block();
-
-            JsonNode first = search.path("results").isArray() && search.path("results").size()>0
-                    ? search.path("results").get(0)
-                    : null;
-            if (first == null) continue;
-
-            Long tmdbId = first.get("id").asLong();
-            String posterPath = first.path("poster_path").isNull()
-                    ? null
-                    : imageBaseUrl + first.get("poster_path").asText();
-
-            result.add(new BoxOfficeMovieDTO(tmdbId, posterPath, name, rank));
-        }
-
-        BoxOfficeResponseDTO boxOfficeResponseDTO = new BoxOfficeResponseDTO(result);
-        // Redis에 캐싱 (TTL: 24시간)
-        redis.opsForValue().set(cacheKey, boxOfficeResponseDTO, Duration.ofHours(24));
-
-        return boxOfficeResponseDTO;
+    /**
+     * 수동으로 변경된 영화의 Popcorn 점수만 재계산 (관리자용)
+     */
+    public int manualRecalculateDirtyPopcornScores() {
+        return moviePopcornScoreService.recalculateDirtyPopcornScores();
     }
-
 }
@@ -4,6 +4,7 @@ import com.flipflick.backend.api.playlist.dto.PlayListRequestDto;
 import com.flipflick.backend.api.playlist.dto.PlayListResponseDto;
 import com.flipflick.backend.api.playlist.service.PlayListService;
 import com.flipflick.backend.common.config.security.SecurityMember;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,6 +45,23 @@ public class PlayListController {
         return ApiResponse.success(SuccessStatus.SEND_PLAYLIST_LIST_SUCCESS, result);
     }
 
+    @Operation(summary = "전체 플레이리스트 커서 조회", description = "공개된 전체 플레이리스트를 커서 기반으로 조회합니다. 최신순/오래된순만 지원합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 플레이리스트 조회 성공")
+    })
+    @GetMapping("/all/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PlayListResponseDto.Summary>>> getAllPlayListsCursor(
+            @Parameter(description = "정렬 기준 (latest: 최신순, oldest: 오래된순)", example = "latest")
+            @RequestParam(defaultValue = "latest") String sortBy,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<PlayListResponseDto.Summary> result = playListService.getAllPlayListsCursor(sortBy, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_PLAYLIST_LIST_SUCCESS, result);
+    }
+
     @Operation(summary = "내가 찜한 플레이리스트 조회", description = "사용자가 북마크한 플레이리스트를 페이지네이션으로 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "찜한 플레이리스트 조회 성공")
@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "play_list")
+@Table(name = "play_list", indexes = {
+        @Index(name = "idx_play_list_public_created", columnList = "hidden, is_deleted, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlayList extends BaseTimeEntity {
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,28 @@ public interface PlayListRepository extends JpaRepository<PlayList, Long> {
     """)
     Page<PlayList> findAllByHiddenFalseAndIsDeletedFalse(@Param("sortBy") String sortBy, Pageable pageable);
 
+    // 전체 플레이리스트 커서 조회 (최신순, (createdAt, id) 키셋)
+    @Query("""
+        SELECT p FROM PlayList p
+        WHERE p.hidden = false AND p.isDeleted = false AND p.member.isDeleted = false
+          AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PlayList> findLatestAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 전체 플레이리스트 커서 조회 (오래된순, (createdAt, id) 키셋)
+    @Query("""
+        SELECT p FROM PlayList p
+        WHERE p.hidden = false AND p.isDeleted = false AND p.member.isDeleted = false
+          AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id))
+        ORDER BY p.createdAt ASC, p.id ASC
+    """)
+    List<PlayList> findOldestAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
 
     // 사용자가 만든 플레이리스트 조회 (페이지네이션)
     @Query("SELECT p FROM PlayList p " +
@@ -13,6 +13,8 @@ import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.NotFoundException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +48,24 @@ public class PlayListService {
         return PlayListResponseDto.PlaylistPageResponse.from(summaryPage);
     }
 
+    // 1-1. 전체 플레이리스트 커서 조회 (latest, oldest 만 지원 - 인기순은 북마크 수 집계 정렬이라 키셋 불가)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PlayListResponseDto.Summary> getAllPlayListsCursor(String sortBy, String cursor, int size) {
+        List<PlayList> rows;
+        if ("latest".equals(sortBy)) {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = playListRepository.findLatestAfterCursor(after.createdAt(), after.id(), CursorPageResponse.limit(size));
+        } else if ("oldest".equals(sortBy)) {
+            PageCursor after = PageCursor.decodeAscending(cursor);
+            rows = playListRepository.findOldestAfterCursor(after.createdAt(), after.id(), CursorPageResponse.limit(size));
+        } else {
+            throw new BadRequestException(ErrorStatus.CURSOR_SORT_NOT_SUPPORTED.getMessage());
+        }
+
+        return CursorPageResponse.of(rows, size, this::convertToSummary,
+                playList -> PageCursor.of(playList.getCreatedAt(), playList.getId()));
+    }
+
     // 2. 내가 찜한 플레이리스트 조회
     @Transactional(readOnly = true)
     public PlayListResponseDto.PlaylistPageResponse getBookmarkedPlayLists(Long userId, int page, int size) {
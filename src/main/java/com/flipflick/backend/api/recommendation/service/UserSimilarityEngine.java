@@ -0,0 +1,271 @@
+package com.flipflick.backend.api.recommendation.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 사용자-사용자 유사도 계산 (메모리 내 계산, 스프링 의존성 없음)
+ * - 회원 x 영화 평점 행렬을 CSR(회원 기준)/CSC(영화 기준) 원시 타입 배열로 보관
+ * - 회원마다 자신이 평가한 영화의 평가자 목록만 훑어 내적을 누적 (공통 평가 영화가 없는 쌍은 건너뜀)
+ * - 회원 범위를 fork-join 으로 나눠 병렬 계산하고, 회원별 상위 K 명만 크기 K 의 최소 힙으로 유지
+ */
+public final class UserSimilarityEngine {
+
+    public enum Metric {
+        COSINE,
+        PEARSON     // 회원별 평균 평점을 뺀 뒤 코사인 (평점을 후하게/짜게 주는 성향 보정)
+    }
+
+    /**
+     * 계산 결과: 회원 u 의 유사 회원은 similarIndexes/scores 의 [u * topK, u * topK + counts[u]) 구간 (유사도 내림차순)
+     * 인덱스는 입력의 memberIds 배열 기준
+     */
+    public record Result(long[] memberIds, int topK, int[] counts, int[] similarIndexes, float[] scores) {
+
+        public int pairCount() {
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    private final Metric metric;
+    private final int topK;
+    private final int minOverlap;
+
+    public UserSimilarityEngine(Metric metric, int topK, int minOverlap) {
+        this.metric = metric;
+        this.topK = topK;
+        this.minOverlap = Math.max(1, minOverlap);
+    }
+
+    /**
+     * @param memberIds     회원 ID (오름차순, 평점 행마다 하나씩 - 같은 회원은 연속)
+     * @param movieIds      영화 ID (같은 회원 안에서 중복 없음)
+     * @param ratings       평점
+     * @param size          유효한 평점 행 수
+     */
+    public Result compute(long[] memberIds, long[] movieIds, float[] ratings, int size, ForkJoinPool pool) {
+        // 회원 기준 CSR
+        int memberCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || memberIds[i] != memberIds[i - 1]) {
+                memberCount++;
+            }
+        }
+        long[] members = new long[memberCount];
+        int[] rowStart = new int[memberCount + 1];
+        for (int i = 0, m = -1; i < size; i++) {
+            if (i == 0 || memberIds[i] != memberIds[i - 1]) {
+                members[++m] = memberIds[i];
+                rowStart[m] = i;
+            }
+        }
+        rowStart[memberCount] = size;
+
+        // 영화 ID → 0 부터 시작하는 연속 인덱스
+        long[] movies = Arrays.copyOf(movieIds, size);
+        Arrays.sort(movies);
+        int movieCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || movies[i] != movies[i - 1]) {
+                movies[movieCount++] = movies[i];
+            }
+        }
+        int[] rowMovies = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowMovies[i] = Arrays.binarySearch(movies, 0, movieCount, movieIds[i]);
+        }
+
+        // 평점 보정 (Pearson 이면 회원 평균 중심화) 및 회원별 벡터 크기
+        float[] values = Arrays.copyOf(ratings, size);
+        double[] norms = new double[memberCount];
+        for (int m = 0; m < memberCount; m++) {
+            if (metric == Metric.PEARSON) {
+                double sum = 0;
+                for (int i = rowStart[m]; i < rowStart[m + 1]; i++) {
+                    sum += values[i];
+                }
+                float mean = (float) (sum / (rowStart[m + 1] - rowStart[m]));
+                for (int i = rowStart[m]; i < rowStart[m + 1]; i++) {
+                    values[i] -= mean;
+                }
+            }
+            double squares = 0;
+            for (int i = rowStart[m]; i < rowStart[m + 1]; i++) {
+                squares += (double) values[i] * values[i];
+            }
+            norms[m] = Math.sqrt(squares);
+        }
+
+        // 영화 기준 CSC (평가한 회원 목록)
+        int[] colStart = new int[movieCount + 1];
+        for (int i = 0; i < size; i++) {
+            colStart[rowMovies[i] + 1]++;
+        }
+        for (int c = 0; c < movieCount; c++) {
+            colStart[c + 1] += colStart[c];
+        }
+        int[] colMembers = new int[size];
+        float[] colValues = new float[size];
+        int[] fill = Arrays.copyOf(colStart, movieCount);
+        for (int m = 0; m < memberCount; m++) {
+            for (int i = rowStart[m]; i < rowStart[m + 1]; i++) {
+                int slot = fill[rowMovies[i]]++;
+                colMembers[slot] = m;
+                colValues[slot] = values[i];
+            }
+        }
+
+        Matrix matrix = new Matrix(memberCount, rowStart, rowMovies, values, norms, colStart, colMembers, colValues);
+        int[] counts = new int[memberCount];
+        int[] similarIndexes = new int[memberCount * topK];
+        float[] scores = new float[memberCount * topK];
+
+        int threshold = Math.max(16, memberCount / (pool.getParallelism() * 8));
+        pool.invoke(new RangeTask(matrix, 0, memberCount, threshold, counts, similarIndexes, scores));
+
+        return new Result(members, topK, counts, similarIndexes, scores);
+    }
+
+    private record Matrix(int memberCount, int[] rowStart, int[] rowMovies, float[] values, double[] norms,
+                          int[] colStart, int[] colMembers, float[] colValues) {
+    }
+
+    private final class RangeTask extends RecursiveAction {
+
+        private final Matrix matrix;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final int[] counts;
+        private final int[] similarIndexes;
+        private final float[] scores;
+
+        private RangeTask(Matrix matrix, int from, int to, int threshold,
+                          int[] counts, int[] similarIndexes, float[] scores) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.counts = counts;
+            this.similarIndexes = similarIndexes;
+            this.scores = scores;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                computeRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(matrix, from, mid, threshold, counts, similarIndexes, scores),
+                    new RangeTask(matrix, mid, to, threshold, counts, similarIndexes, scores));
+        }
+
+        private void computeRange() {
+            // 구간 단위로 한 번만 할당하고, 다녀간 회원만 골라 초기화
+            double[] dots = new double[matrix.memberCount()];
+            int[] overlaps = new int[matrix.memberCount()];
+            int[] touched = new int[matrix.memberCount()];
+            int[] heapIndexes = new int[topK];
+            float[] heapScores = new float[topK];
+
+            for (int u = from; u < to; u++) {
+                int touchedCount = 0;
+                for (int i = matrix.rowStart()[u]; i < matrix.rowStart()[u + 1]; i++) {
+                    int movie = matrix.rowMovies()[i];
+                    float value = matrix.values()[i];
+                    for (int j = matrix.colStart()[movie]; j < matrix.colStart()[movie + 1]; j++) {
+                        int v = matrix.colMembers()[j];
+                        if (v == u) {
+                            continue;
+                        }
+                        if (overlaps[v]++ == 0) {
+                            touched[touchedCount++] = v;
+                        }
+                        dots[v] += (double) value * matrix.colValues()[j];
+                    }
+                }
+
+                int heapSize = 0;
+                double normU = matrix.norms()[u];
+                for (int t = 0; t < touchedCount; t++) {
+                    int v = touched[t];
+                    double normV = matrix.norms()[v];
+                    if (overlaps[v] >= minOverlap && normU > 0 && normV > 0) {
+                        float score = (float) (dots[v] / (normU * normV));
+                        // 비슷하지 않은(0 이하) 회원은 추천 근거로 쓰지 않음
+                        if (score > 0) {
+                            heapSize = offer(heapIndexes, heapScores, heapSize, v, score);
+                        }
+                    }
+                    dots[v] = 0;
+                    overlaps[v] = 0;
+                }
+
+                // 힙을 비우면 오름차순이므로 뒤에서부터 채워 내림차순으로 저장
+                int base = u * topK;
+                counts[u] = heapSize;
+                for (int k = heapSize - 1; k >= 0; k--) {
+                    similarIndexes[base + k] = heapIndexes[0];
+                    scores[base + k] = heapScores[0];
+                    heapIndexes[0] = heapIndexes[k];
+                    heapScores[0] = heapScores[k];
+                    siftDown(heapIndexes, heapScores, 0, k);
+                }
+            }
+        }
+    }
+
+    // 크기 topK 최소 힙 (루트가 현재 K 명 중 가장 낮은 유사도)
+    private int offer(int[] heapIndexes, float[] heapScores, int heapSize, int index, float score) {
+        if (heapSize < topK) {
+            int child = heapSize;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (heapScores[parent] <= score) {
+                    break;
+                }
+                heapIndexes[child] = heapIndexes[parent];
+                heapScores[child] = heapScores[parent];
+                child = parent;
+            }
+            heapIndexes[child] = index;
+            heapScores[child] = score;
+            return heapSize + 1;
+        }
+        if (score > heapScores[0]) {
+            heapIndexes[0] = index;
+            heapScores[0] = score;
+            siftDown(heapIndexes, heapScores, 0, heapSize);
+        }
+        return heapSize;
+    }
+
+    private static void siftDown(int[] heapIndexes, float[] heapScores, int parent, int heapSize) {
+        int index = heapIndexes[parent];
+        float score = heapScores[parent];
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapScores[child + 1] < heapScores[child]) {
+                child++;
+            }
+            if (score <= heapScores[child]) {
+                break;
+            }
+            heapIndexes[parent] = heapIndexes[child];
+            heapScores[parent] = heapScores[child];
+            parent = child;
+        }
+        heapIndexes[parent] = index;
+        heapScores[parent] = score;
+    }
+}
@@ -0,0 +1,201 @@
+package com.flipflick.backend.api.recommendation.service;
+
+import com.flipflick.backend.common.lock.RedisLockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 사용자 유사도 재계산 (user_similarity)
+ * - 평점 전체를 원시 타입 배열로 읽어 UserSimilarityEngine 으로 계산한 뒤 배치 INSERT 로 한 번에 교체
+ * - 교체는 한 트랜잭션 안에서 이뤄지므로 조회 쪽은 커밋 전까지 이전 결과를 그대로 봄
+ */
+@Service
+@Slf4j
+public class UserSimilarityService {
+
+    private static final String LOCK_KEY = "recommendation:similarity:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate replaceTx;
+    private final RedisLockManager redisLockManager;
+    private final UserSimilarityEngine.Metric metric;
+    private final int topK;
+    private final int minOverlap;
+    private final int parallelism;
+
+    public UserSimilarityService(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 RedisLockManager redisLockManager,
+                                 @Value("${flipflick.recommendation.similarity.metric:pearson}") String metric,
+                                 @Value("${flipflick.recommendation.similarity.top-k:10}") int topK,
+                                 @Value("${flipflick.recommendation.similarity.min-overlap:2}") int minOverlap,
+                                 @Value("${flipflick.recommendation.similarity.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replaceTx = new TransactionTemplate(transactionManager);
+        this.redisLockManager = redisLockManager;
+        this.metric = UserSimilarityEngine.Metric.valueOf(metric.toUpperCase(Locale.ROOT));
+        this.topK = topK;
+        this.minOverlap = minOverlap;
+        // 0 이면 코어 수만큼 사용
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Scheduled(cron = "${flipflick.recommendation.similarity.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void scheduledRecalculate() {
+        recalculate();
+    }
+
+    /**
+     * 전체 사용자 유사도 재계산 (다른 인스턴스가 계산 중이면 건너뜀)
+     */
+    public void recalculate() {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            Ratings ratings = loadRatings();
+            renewLock(token.get());
+
+            UserSimilarityEngine.Result result;
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                result = new UserSimilarityEngine(metric, topK, minOverlap)
+                        .compute(ratings.memberIds, ratings.movieIds, ratings.stars, ratings.size, pool);
+            } finally {
+                pool.shutdown();
+            }
+            long computedAt = System.nanoTime();
+            renewLock(token.get());
+
+            replace(result);
+            log.info("사용자 유사도 재계산 완료 - 평점 수: {}, 회원 수: {}, 유사도 수: {}, 계산: {}ms, 저장: {}ms",
+                    ratings.size, result.memberIds().length, result.pairCount(),
+                    Duration.ofNanos(computedAt - startedAt).toMillis(),
+                    Duration.ofNanos(System.nanoTime() - computedAt).toMillis());
+        } catch (Exception e) {
+            log.error("사용자 유사도 재계산 실패", e);
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    // 단계 사이마다 락 만료 시간을 늘림 (락을 잃었으면 다른 인스턴스가 계산 중일 수 있으므로 교체하지 않고 중단)
+    private void renewLock(String token) {
+        if (!redisLockManager.extend(LOCK_KEY, token, LOCK_TTL)) {
+            throw new IllegalStateException("유사도 재계산 락을 잃어 중단합니다: " + LOCK_KEY);
+        }
+    }
+
+    // 시청 기록이 있는 영화의 리뷰 별점만 사용 (삭제된 리뷰, 탈퇴 회원 제외)
+    private Ratings loadRatings() {
+        Ratings ratings = new Ratings();
+        jdbcTemplate.query("""
+                        SELECT r.member_id, r.movie_id, r.star
+                        FROM review r
+                        JOIN member m ON m.member_id = r.member_id
+                        WHERE r.is_deleted = false
+                          AND m.is_deleted = false
+                          AND EXISTS (
+                              SELECT 1 FROM movie_watched w
+                              WHERE w.member_id = r.member_id
+                                AND w.movie_id = r.movie_id
+                          )
+                        ORDER BY r.member_id, r.movie_id
+                        """,
+                rs -> {
+                    ratings.add(rs.getLong(1), rs.getLong(2), rs.getFloat(3));
+                });
+        return ratings;
+    }
+
+    private void replace(UserSimilarityEngine.Result result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long[] memberIds = result.memberIds();
+        String insert = "INSERT INTO user_similarity"
+                + " (member_id, similar_member_id, similarity_score, calculated_at, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?)";
+
+        replaceTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM user_similarity");
+
+            long[] rows = new long[BATCH_SIZE * 2];
+            float[] scores = new float[BATCH_SIZE];
+            int pending = 0;
+            for (int u = 0; u < memberIds.length; u++) {
+                int base = u * result.topK();
+                for (int k = 0; k < result.counts()[u]; k++) {
+                    rows[pending * 2] = memberIds[u];
+                    rows[pending * 2 + 1] = memberIds[result.similarIndexes()[base + k]];
+                    scores[pending] = result.scores()[base + k];
+                    if (++pending == BATCH_SIZE) {
+                        insertBatch(insert, rows, scores, pending, now);
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                insertBatch(insert, rows, scores, pending, now);
+            }
+        });
+    }
+
+    private void insertBatch(String insert, long[] rows, float[] scores, int count, Timestamp now) {
+        jdbcTemplate.batchUpdate(insert, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, rows[i * 2]);
+                ps.setLong(2, rows[i * 2 + 1]);
+                ps.setDouble(3, scores[i]);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+    }
+
+    // 평점 행을 박싱 없이 모으는 가변 길이 배열
+    private static final class Ratings {
+        private long[] memberIds = new long[1024];
+        private long[] movieIds = new long[1024];
+        private float[] stars = new float[1024];
+        private int size;
+
+        private void add(long memberId, long movieId, float star) {
+            if (size == memberIds.length) {
+                int capacity = size * 2;
+                memberIds = Arrays.copyOf(memberIds, capacity);
+                movieIds = Arrays.copyOf(movieIds, capacity);
+                stars = Arrays.copyOf(stars, capacity);
+            }
+            memberIds[size] = memberId;
+            movieIds[size] = movieId;
+            stars[size] = star;
+            size++;
+        }
+    }
+}
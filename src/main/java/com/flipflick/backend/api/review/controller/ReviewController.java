@@ -4,6 +4,7 @@ import com.flipflick.backend.api.review.dto.ReviewRequestDto;
 import com.flipflick.backend.api.review.dto.ReviewResponseDto;
 import com.flipflick.backend.api.review.service.ReviewService;
 import com.flipflick.backend.common.config.security.SecurityMember;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
 import com.flipflick.backend.common.response.ApiResponse;
 import com.flipflick.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -102,6 +103,74 @@ public class ReviewController {
         return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIST_SUCCESS, result);
     }
 
+    @Operation(summary = "리뷰 목록 커서 조회 (최신순)", description = "특정 영화의 리뷰을 최신순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/latest/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponseDto.Detail>>> getReviewsByLatestCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<ReviewResponseDto.Detail> result = reviewService.getReviewsByLatestCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "리뷰 목록 커서 조회 (인기순)", description = "특정 영화의 리뷰을 인기순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/popular/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponseDto.Detail>>> getReviewsByPopularityCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<ReviewResponseDto.Detail> result = reviewService.getReviewsByPopularityCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "리뷰 목록 조회 (핫순)", description = "특정 영화의 리뷰를 좋아요/싫어요와 작성 시각을 함께 반영한 핫 점수순으로 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/hot")
+    public ResponseEntity<ApiResponse<ReviewResponseDto.PageResponse>> getReviewsByHot(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        ReviewResponseDto.PageResponse result = reviewService.getReviewsByHot(tmdbId, page, size);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIST_SUCCESS, result);
+    }
+
+    @Operation(summary = "리뷰 목록 커서 조회 (핫순)", description = "특정 영화의 리뷰를 핫 점수순으로 조회합니다. 전체 개수 없이 다음 커서만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공")
+    })
+    @GetMapping("/movie/{tmdbId}/hot/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponseDto.Detail>>> getReviewsByHotCursor(
+            @Parameter(description = "영화 TMDB ID", example = "550")
+            @PathVariable Long tmdbId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<ReviewResponseDto.Detail> result = reviewService.getReviewsByHotCursor(tmdbId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIST_SUCCESS, result);
+    }
+
     @Operation(summary = "닉네임으로 리뷰 목록 조회 (최신순)", description = "특정 사용자의 리뷰를 최신순으로 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공")
@@ -132,6 +201,19 @@ public class ReviewController {
         return ApiResponse.success(SuccessStatus.SEND_REVIEW_LIKE_HATE_SUCCESS, result);
     }
 
+    @Operation(summary = "리뷰 본문 조회", description = "목록 조회에서 미리보기만 내려준 리뷰의 전체 내용을 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰 본문 조회 성공")
+    })
+    @GetMapping("/{reviewId}/content")
+    public ResponseEntity<ApiResponse<ReviewResponseDto.Content>> getReviewContent(
+            @Parameter(description = "리뷰 ID", example = "1")
+            @PathVariable Long reviewId) {
+
+        ReviewResponseDto.Content result = reviewService.getReviewContent(reviewId);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_CONTENT_SUCCESS, result);
+    }
+
     @Operation(summary = "내 리뷰 조회", description = "특정 영화에 작성한 내 리뷰를 존재 여부와 함께 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
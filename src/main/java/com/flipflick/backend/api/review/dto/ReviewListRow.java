@@ -0,0 +1,25 @@
+package com.flipflick.backend.api.review.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록 조회용 프로젝션 (본문 LOB 대신 미리보기 컬럼만 조회)
+ */
+public record ReviewListRow(Long reviewId,
+                            Long tmdbId,
+                            Long memberId,
+                            String preview,
+                            Boolean previewTruncated,
+                            Double star,
+                            Boolean spoiler,
+                            Long likeCnt,
+                            Long hateCnt,
+                            Long hotScore,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt,
+                            String nickname,
+                            String profileImage,
+                            Double popcorn,
+                            String movieTitle,
+                            String posterImg) {
+}
@@ -30,9 +30,12 @@ public class ReviewResponseDto {
         @Schema(description = "작성자 ID")
         private Long memberId;
 
-        @Schema(description = "리뷰 내용", example = "정말 재미있는 영화였습니다.")
+        @Schema(description = "리뷰 내용 (목록 조회에서는 앞부분 미리보기)", example = "정말 재미있는 영화였습니다.")
         private String content;
 
+        @Schema(description = "목록 조회에서 내용이 잘렸는지 여부 (true 면 본문 조회 API 로 전체 내용 조회)", example = "false")
+        private Boolean contentTruncated;
+
         @Schema(description = "별점", example = "4.5")
         private Double star;
 
@@ -70,6 +73,19 @@ public class ReviewResponseDto {
         private String posterImg;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "리뷰 본문")
+    public static class Content {
+        @Schema(description = "리뷰 ID", example = "1")
+        private Long reviewId;
+
+        @Schema(description = "리뷰 전체 내용", example = "정말 재미있는 영화였습니다.")
+        private String content;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
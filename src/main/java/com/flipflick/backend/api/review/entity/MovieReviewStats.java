@@ -0,0 +1,47 @@
+package com.flipflick.backend.api.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.List;
+
+// 영화별 리뷰 집계 (리뷰 작성/수정/삭제 시 증감분으로 갱신, 별점 0.5 단위 10칸 히스토그램 포함)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "movie_review_stats")
+public class MovieReviewStats {
+
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Column(name = "review_cnt", nullable = false)
+    private long reviewCnt;     // 삭제되지 않은 리뷰 수
+
+    @Column(name = "star_sum", nullable = false)
+    private double starSum;     // 별점 합계
+
+    @Column(name = "star_05", nullable = false)
+    private long star05;
+    @Column(name = "star_10", nullable = false)
+    private long star10;
+    @Column(name = "star_15", nullable = false)
+    private long star15;
+    @Column(name = "star_20", nullable = false)
+    private long star20;
+    @Column(name = "star_25", nullable = false)
+    private long star25;
+    @Column(name = "star_30", nullable = false)
+    private long star30;
+    @Column(name = "star_35", nullable = false)
+    private long star35;
+    @Column(name = "star_40", nullable = false)
+    private long star40;
+    @Column(name = "star_45", nullable = false)
+    private long star45;
+    @Column(name = "star_50", nullable = false)
+    private long star50;
+}
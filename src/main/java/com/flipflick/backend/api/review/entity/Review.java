@@ -3,19 +3,26 @@ package com.flipflick.backend.api.review.entity;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.movie.entity.Movie;
 import com.flipflick.backend.common.entity.BaseTimeEntity;
+import com.flipflick.backend.common.reaction.HotScore;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_movie_latest", columnList = "movie_id, is_deleted, created_at, review_id"),
+        @Index(name = "idx_review_movie_popular", columnList = "movie_id, is_deleted, like_cnt, created_at, review_id"),
+        @Index(name = "idx_review_movie_hot", columnList = "movie_id, is_deleted, hot_score, created_at, review_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Review extends BaseTimeEntity {
 
+    public static final int PREVIEW_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "review_id")
@@ -33,17 +40,25 @@ public class Review extends BaseTimeEntity {
     @Column(nullable = false)
     private String content;
 
+    // 목록 조회용 본문 앞부분 (작성/수정 시 저장, 목록에서는 content 대신 조회)
+    @Column(name = "preview", length = PREVIEW_LENGTH)
+    private String preview;
+
+    @Column(name = "preview_truncated")
+    private Boolean previewTruncated;
+
     @Column(nullable = false)
     private Double star; // 1.0 ~ 5.0 (0.5 단위)
 
     @Column(nullable = false)
     private Boolean spoiler;
 
-    @Column(name = "like_cnt")
+    // 좋아요/싫어요 수는 ReactionCounter 가 SQL 로만 갱신 (엔티티 UPDATE 에서 제외)
+    @Column(name = "like_cnt", updatable = false)
     @Builder.Default
     private Long likeCnt = 0L;
 
-    @Column(name = "hate_cnt")
+    @Column(name = "hate_cnt", updatable = false)
     @Builder.Default
     private Long hateCnt = 0L;
 
@@ -51,33 +66,35 @@ public class Review extends BaseTimeEntity {
     @Builder.Default
     private Boolean isDeleted = false;
 
+    // 핫 정렬 점수 (작성 시 초기값 저장, 이후에는 좋아요/싫어요 반영 시 ReactionCounter 가 SQL 로 갱신)
+    @Column(name = "hot_score", nullable = false, updatable = false)
+    private long hotScore;
+
     // 리뷰 수정
     public void updateReview(String content, Double star, Boolean spoiler) {
         this.content = content;
         this.star = star;
         this.spoiler = spoiler;
+        refreshPreview();
     }
 
-    // 좋아요 수 증가/감소
-    public void increaseLikeCnt() {
-        this.likeCnt++;
-    }
-
-    public void decreaseLikeCnt() {
-        this.likeCnt--;
-    }
-
-    // 싫어요 수 증가/감소
-    public void increaseHateCnt() {
-        this.hateCnt++;
+    // 소프트 삭제
+    public void softDelete() {
+        this.isDeleted = true;
     }
 
-    public void decreaseHateCnt() {
-        this.hateCnt--;
+    @PrePersist
+    private void prePersist() {
+        this.hotScore = HotScore.of(likeCnt, hateCnt, createdAt != null ? createdAt : LocalDateTime.now());
+        refreshPreview();
     }
 
-    // 소프트 삭제
-    public void softDelete() {
-        this.isDeleted = true;
+    // 코드 포인트 기준으로 잘라 서로게이트 쌍(이모지 등)이 깨지지 않도록 함
+    private void refreshPreview() {
+        int end = content.codePointCount(0, content.length()) > PREVIEW_LENGTH
+                ? content.offsetByCodePoints(0, PREVIEW_LENGTH)
+                : content.length();
+        this.preview = content.substring(0, end);
+        this.previewTruncated = end < content.length();
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.flipflick.backend.api.review.repository;
+
+import com.flipflick.backend.api.review.entity.MovieReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MovieReviewStatsRepository extends JpaRepository<MovieReviewStats, Long> {
+}
@@ -2,56 +2,120 @@ package com.flipflick.backend.api.review.repository;
 
 import com.flipflick.backend.api.admin.dto.MovieReviewCountResponseDto;
 import com.flipflick.backend.api.member.entity.Member;
-import com.flipflick.backend.api.recommendation.dto.RecommendationDataDto;
+import com.flipflick.backend.api.review.dto.ReviewListRow;
 import com.flipflick.backend.api.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    // 특정 영화의 리뷰 조회 (삭제되지 않은 것만, 최신순)
-    @Query("SELECT r FROM Review r " +
-            "WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false " +
-            "ORDER BY r.createdAt DESC")
-    Page<Review> findByMovieTmdbIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("tmdbId") Long tmdbId, Pageable pageable);
-
-    // 특정 영화의 리뷰 조회 (삭제되지 않은 것만, 인기순)
-    @Query("SELECT r FROM Review r " +
-            "WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false " +
-            "ORDER BY r.likeCnt DESC, r.createdAt DESC")
-    Page<Review> findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(@Param("tmdbId") Long tmdbId, Pageable pageable);
-
-    // 특정 사용자와 영화의 리뷰 조회 (중복 리뷰 방지용)
-    @Query("SELECT r FROM Review r " +
-            "WHERE r.member.id = :memberId AND r.movie.tmdbId = :tmdbId AND r.isDeleted = false")
+    // 목록 조회용 프로젝션 (본문 LOB 대신 미리보기 컬럼, 작성자/영화 조인)
+    String LIST_ROW_SELECT = "SELECT new com.flipflick.backend.api.review.dto.ReviewListRow(" +
+            "r.id, mv.tmdbId, m.id, r.preview, r.previewTruncated, r.star, r.spoiler, r.likeCnt, r.hateCnt, r.hotScore, " +
+            "r.createdAt, r.updatedAt, m.nickname, m.profileImage, m.popcorn, mv.title, mv.posterImg) " +
+            "FROM Review r JOIN r.member m JOIN r.movie mv ";
+
+    // 특정 영화의 리뷰 조회 (삭제되지 않은 것만, 최신순, 미리보기 프로젝션)
+    @Query(value = LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r " +
+                    "WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false")
+    Page<ReviewListRow> findByMovieTmdbIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("tmdbId") Long tmdbId, Pageable pageable);
+
+    // 특정 영화의 리뷰 조회 (삭제되지 않은 것만, 인기순, 미리보기 프로젝션)
+    @Query(value = LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "ORDER BY r.likeCnt DESC, r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r " +
+                    "WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false")
+    Page<ReviewListRow> findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(@Param("tmdbId") Long tmdbId, Pageable pageable);
+
+    // 특정 영화의 리뷰 커서 조회 (최신순, (createdAt, id) 키셋, 미리보기 프로젝션)
+    @Query(LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewListRow> findLatestByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    // 특정 영화의 리뷰 커서 조회 (인기순, (likeCnt, createdAt, id) 키셋, 미리보기 프로젝션)
+    @Query(LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "AND (r.likeCnt < :likeCnt OR (r.likeCnt = :likeCnt " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)))) " +
+            "ORDER BY r.likeCnt DESC, r.createdAt DESC, r.id DESC")
+    List<ReviewListRow> findPopularByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                            @Param("likeCnt") Long likeCnt,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+
+    // 특정 영화의 리뷰 조회 (삭제되지 않은 것만, 핫 점수순, 미리보기 프로젝션)
+    @Query(value = LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "ORDER BY r.hotScore DESC, r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r " +
+                    "WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false")
+    Page<ReviewListRow> findHotByMovieTmdbId(@Param("tmdbId") Long tmdbId, Pageable pageable);
+
+    // 특정 영화의 리뷰 커서 조회 (핫 점수순, (hotScore, createdAt, id) 키셋, 미리보기 프로젝션)
+    @Query(LIST_ROW_SELECT +
+            "WHERE mv.tmdbId = :tmdbId AND r.isDeleted = false AND m.isDeleted = false " +
+            "AND (r.hotScore < :hotScore OR (r.hotScore = :hotScore " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)))) " +
+            "ORDER BY r.hotScore DESC, r.createdAt DESC, r.id DESC")
+    List<ReviewListRow> findHotByMovieTmdbIdAfterCursor(@Param("tmdbId") Long tmdbId,
+                                                        @Param("hotScore") Long hotScore,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // 특정 사용자와 영화의 리뷰 조회 (중복 리뷰 방지/내 리뷰 조회용, 작성자/영화 페치 조인)
+    @Query("SELECT r FROM Review r JOIN FETCH r.member m JOIN FETCH r.movie mv " +
+            "WHERE m.id = :memberId AND mv.tmdbId = :tmdbId AND r.isDeleted = false")
     Optional<Review> findByMemberIdAndMovieTmdbIdAndIsDeletedFalse(@Param("memberId") Long memberId, @Param("tmdbId") Long tmdbId);
 
+    // 특정 리뷰 본문 조회 (목록은 미리보기만 내려주므로 전체 본문은 따로 조회)
+    @Query("SELECT r.content FROM Review r WHERE r.id = :reviewId AND r.isDeleted = false AND r.member.isDeleted = false")
+    Optional<String> findContentById(@Param("reviewId") Long reviewId);
+
+    // 미리보기 컬럼 추가 전에 작성된 리뷰 채우기 (batchSize 건씩)
+    @Modifying
+    @Query(value = "UPDATE review SET preview = LEFT(content, " + Review.PREVIEW_LENGTH + "), " +
+            "preview_truncated = CHAR_LENGTH(content) > " + Review.PREVIEW_LENGTH + " " +
+            "WHERE preview IS NULL LIMIT :batchSize", nativeQuery = true)
+    int backfillPreviews(@Param("batchSize") int batchSize);
+
     // 특정 리뷰 조회 (삭제되지 않은 것만)
     @Query("SELECT r FROM Review r WHERE r.id = :reviewId AND r.isDeleted = false AND r.member.isDeleted = false")
     Optional<Review> findByIdAndIsDeletedFalse(@Param("reviewId") Long reviewId);
 
-    // 특정 영화의 평점 계산용
-    @Query("SELECT AVG(r.star) FROM Review r WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false AND r.member.isDeleted = false")
-    Double calculateAverageStarByMovieTmdbId(@Param("tmdbId") Long tmdbId);
-
     // 특정 영화의 리뷰 개수
     @Query("SELECT COUNT(r) FROM Review r WHERE r.movie.tmdbId = :tmdbId AND r.isDeleted = false")
     Long countByMovieTmdbIdAndIsDeletedFalse(@Param("tmdbId") Long tmdbId);
 
-    // 닉네임으로 리뷰 조회 (최신순)
-    @Query("SELECT r FROM Review r " +
-            "WHERE r.member.nickname = :nickname AND r.isDeleted = false " +
-            "ORDER BY r.createdAt DESC")
-    Page<Review> findByMemberNicknameAndIsDeletedFalseOrderByCreatedAtDesc(@Param("nickname") String nickname, Pageable pageable);
+    // 닉네임으로 리뷰 조회 (최신순, 미리보기 프로젝션)
+    @Query(value = LIST_ROW_SELECT +
+            "WHERE m.nickname = :nickname AND r.isDeleted = false " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r " +
+                    "WHERE r.member.nickname = :nickname AND r.isDeleted = false")
+    Page<ReviewListRow> findByMemberNicknameAndIsDeletedFalseOrderByCreatedAtDesc(@Param("nickname") String nickname, Pageable pageable);
 
     // 날짜별 전체 리뷰 수
     @Query(value = """
@@ -81,41 +145,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     int countByMember(Member member);
 
-    // Python 서버용 추천 데이터 추출
-    @Query(value = """
-    SELECT 
-        r.member_id,
-        r.movie_id,
-        r.star,
-        GROUP_CONCAT(g.genre_name ORDER BY g.genre_name SEPARATOR ',') as genres,
-        m.tmdb_id,
-        m.title
-    FROM review r 
-    JOIN movie m ON r.movie_id = m.id
-    JOIN movie_genre mg ON mg.movie_id = m.id
-    JOIN genre g ON g.id = mg.genre_id
-    WHERE r.is_deleted = false
-      AND EXISTS (
-          SELECT 1 FROM movie_watched w 
-          WHERE w.member_id = r.member_id 
-            AND w.movie_id = r.movie_id
-      )
-    GROUP BY r.member_id, r.movie_id, r.star, m.tmdb_id, m.title
-    ORDER BY r.member_id, r.movie_id
-    """, nativeQuery = true)
-    List<Object[]> findRecommendationDataNative();
-
-    // 유사 사용자들의 고평점 리뷰 조회
-    @Query("""
-    SELECT r FROM Review r 
-    WHERE r.member.id IN :similarUserIds 
-    AND r.member.id != :excludeMemberId
+    // 유사 사용자들의 고평점 리뷰 조회 (미리보기 프로젝션)
+    @Query(value = LIST_ROW_SELECT + """
+    WHERE m.id IN :similarUserIds
+    AND m.id != :excludeMemberId
     AND r.star >= :minRating
     AND r.isDeleted = false
     AND r.movie.tmdbId = :tmdbId
     ORDER BY r.star DESC, r.likeCnt DESC
+    """,
+            countQuery = """
+    SELECT COUNT(r) FROM Review r
+    WHERE r.member.id IN :similarUserIds
+    AND r.member.id != :excludeMemberId
+    AND r.star >= :minRating
+    AND r.isDeleted = false
+    AND r.movie.tmdbId = :tmdbId
     """)
-    Page<Review> findHighRatedReviewsBySimilarUsersAndTmdbId(
+    Page<ReviewListRow> findHighRatedReviewsBySimilarUsersAndTmdbId(
             @Param("similarUserIds") List<Long> similarUserIds,
             @Param("excludeMemberId") Long excludeMemberId,
             @Param("minRating") Double minRating,
@@ -139,4 +186,13 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT AVG(r.star) FROM Review r WHERE r.movie.id = :movieId AND r.isDeleted = false")
     Double findAverageRatingByMovieId(@Param("movieId") Long movieId);
+
+    /**
+     * 영화별 리뷰 수, 평균 평점 일괄 조회 [movieId, count, avg]
+     */
+    @Query("SELECT r.movie.id, COUNT(r), AVG(r.star) FROM Review r WHERE r.isDeleted = false GROUP BY r.movie.id")
+    List<Object[]> findReviewStatsGroupByMovie();
+
+    @Query("SELECT r.movie.id, COUNT(r), AVG(r.star) FROM Review r WHERE r.isDeleted = false AND r.movie.id IN :movieIds GROUP BY r.movie.id")
+    List<Object[]> findReviewStatsGroupByMovieIn(@Param("movieIds") Collection<Long> movieIds);
 }
\ No newline at end of file
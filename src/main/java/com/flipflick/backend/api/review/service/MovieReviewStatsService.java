@@ -0,0 +1,316 @@
+package com.flipflick.backend.api.review.service;
+
+import com.flipflick.backend.api.movie.dto.RatingBucketDTO;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import com.flipflick.backend.api.review.entity.MovieReviewStats;
+import com.flipflick.backend.api.review.repository.MovieReviewStatsRepository;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 영화별 리뷰 집계 (movie_review_stats)
+ * - 리뷰 작성/수정/삭제 시 리뷰 수, 별점 합계, 별점 히스토그램을 증감분 UPSERT 한 번으로 갱신 (리뷰 수와 무관하게 O(1))
+ * - 탈퇴 회원 리뷰 제외 등 증감분으로 따라갈 수 없는 변화는 주기적인 재집계로 보정
+ *   (전체 비교로 후보를 고른 뒤, 영화별로 집계 행을 잠그고 다시 세어 증감분 UPSERT 와 겹치지 않게 덮어씀)
+ */
+@Service
+@Slf4j
+public class MovieReviewStatsService {
+
+    public static final int BUCKETS = 10;
+
+    private static final String LOCK_KEY = "review:stats:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int LOCK_RENEW_EVERY = 500;
+    private static final String[] BUCKET_COLUMNS = {
+            "star_05", "star_10", "star_15", "star_20", "star_25",
+            "star_30", "star_35", "star_40", "star_45", "star_50"
+    };
+
+    // 모든 칸을 항상 넣음 (바뀌지 않은 칸은 0) - 행이 처음 만들어질 때 NOT NULL 칸이 빠지지 않도록
+    private static final String APPLY_SQL;
+    private static final String BUCKET_SUMS;
+
+    static {
+        StringBuilder columns = new StringBuilder("movie_id, review_cnt, star_sum");
+        StringBuilder values = new StringBuilder("?, ?, ?");
+        StringBuilder updates = new StringBuilder(
+                "review_cnt = review_cnt + VALUES(review_cnt), star_sum = star_sum + VALUES(star_sum)");
+        StringBuilder bucketSums = new StringBuilder();
+        for (int i = 0; i < BUCKETS; i++) {
+            String column = BUCKET_COLUMNS[i];
+            columns.append(", ").append(column);
+            values.append(", ?");
+            updates.append(", ").append(column).append(" = ").append(column)
+                    .append(" + VALUES(").append(column).append(")");
+            bucketSums.append(", SUM(r.star = ").append((i + 1) * 0.5).append(")");
+        }
+        APPLY_SQL = "INSERT INTO movie_review_stats (" + columns + ") VALUES (" + values + ")"
+                + " ON DUPLICATE KEY UPDATE " + updates;
+        BUCKET_SUMS = bucketSums.toString();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MovieReviewStatsRepository movieReviewStatsRepository;
+    private final MovieRepository movieRepository;
+    private final RedisLockManager redisLockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor batchTaskExecutor;
+    private final TransactionTemplate fixTx;
+
+    public record Totals(long reviewCnt, double starSum) {
+        public double average() {
+            return reviewCnt > 0 ? starSum / reviewCnt : 0.0;
+        }
+    }
+
+    public MovieReviewStatsService(JdbcTemplate jdbcTemplate,
+                                   MovieReviewStatsRepository movieReviewStatsRepository,
+                                   MovieRepository movieRepository,
+                                   RedisLockManager redisLockManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   Executor batchTaskExecutor,
+                                   PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.movieReviewStatsRepository = movieReviewStatsRepository;
+        this.movieRepository = movieRepository;
+        this.redisLockManager = redisLockManager;
+        this.eventPublisher = eventPublisher;
+        this.batchTaskExecutor = batchTaskExecutor;
+        // 집계 행을 잠근 뒤의 리뷰 재집계가 그 사이 커밋된 리뷰까지 보도록 READ COMMITTED
+        this.fixTx = new TransactionTemplate(transactionManager);
+        this.fixTx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * 리뷰 한 건의 별점 변경을 집계에 반영 (호출한 트랜잭션 안에서 실행)
+     * @param oldStar 변경 전 별점 (작성이면 null)
+     * @param newStar 변경 후 별점 (삭제면 null)
+     * @return 반영 후 리뷰 수/별점 합계
+     */
+    public Totals apply(Long movieId, Double oldStar, Double newStar) {
+        long[] buckets = new long[BUCKETS];
+        long cntDelta = 0;
+        double sumDelta = 0.0;
+        if (oldStar != null) {
+            buckets[bucketIndex(oldStar)]--;
+            cntDelta--;
+            sumDelta -= oldStar;
+        }
+        if (newStar != null) {
+            buckets[bucketIndex(newStar)]++;
+            cntDelta++;
+            sumDelta += newStar;
+        }
+
+        Object[] args = new Object[3 + BUCKETS];
+        args[0] = movieId;
+        args[1] = cntDelta;
+        args[2] = sumDelta;
+        for (int i = 0; i < BUCKETS; i++) {
+            args[3 + i] = buckets[i];
+        }
+
+        // 행이 없으면 증감분으로 생성, 있으면 행 잠금 아래에서 누적 (동시 작성도 유실 없음)
+        jdbcTemplate.update(APPLY_SQL, args);
+
+        return jdbcTemplate.queryForObject(
+                "SELECT review_cnt, star_sum FROM movie_review_stats WHERE movie_id = ?",
+                (rs, rowNum) -> new Totals(rs.getLong(1), rs.getDouble(2)),
+                movieId);
+    }
+
+    /**
+     * 영화 별점 분포 (0.5 ~ 5.0, 0.5 단위 10칸)
+     */
+    @Transactional(readOnly = true)
+    public List<RatingBucketDTO> getDistribution(Long movieId) {
+        long[] counts = movieReviewStatsRepository.findById(movieId)
+                .map(MovieReviewStatsService::bucketCounts)
+                .orElseGet(() -> new long[BUCKETS]);
+
+        List<RatingBucketDTO> distribution = new ArrayList<>(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            distribution.add(RatingBucketDTO.builder()
+                    .star((i + 1) * 0.5)
+                    .count(Math.max(0L, counts[i]))
+                    .build());
+        }
+        return distribution;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 집계 테이블이 처음 생긴 경우 등 기존 리뷰를 채워 넣음
+        batchTaskExecutor.execute(this::reconcileAll);
+    }
+
+    @Scheduled(cron = "${flipflick.review-stats.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledReconcile() {
+        reconcileAll();
+    }
+
+    /**
+     * review 테이블 기준으로 전체 집계를 다시 계산해 어긋난 영화만 보정 (영화 평점 포함)
+     */
+    public void reconcileAll() {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            reconcile(token.get());
+        } catch (Exception e) {
+            log.error("리뷰 집계 재계산 실패", e);
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    private void reconcile(String lockToken) {
+        // 잠금 없이 전체를 비교해 어긋났을 수 있는 영화만 고름 (최종 판단은 영화별 잠금 아래에서)
+        List<MovieReviewStats> currentStats = movieReviewStatsRepository.findAll();
+
+        // 기존 평점 계산과 같이 삭제된 리뷰와 탈퇴 회원의 리뷰는 제외
+        Map<Long, Counted> expected = new HashMap<>();
+        jdbcTemplate.query("SELECT r.movie_id, COUNT(*), SUM(r.star)" + BUCKET_SUMS
+                        + " FROM review r JOIN member m ON m.member_id = r.member_id"
+                        + " WHERE r.is_deleted = false AND m.is_deleted = false GROUP BY r.movie_id",
+                rs -> {
+                    expected.put(rs.getLong(1), Counted.read(rs, 2));
+                });
+
+        List<Long> candidates = new ArrayList<>();
+        for (MovieReviewStats stats : currentStats) {
+            if (!expected.getOrDefault(stats.getMovieId(), Counted.EMPTY).matches(Counted.of(stats))) {
+                candidates.add(stats.getMovieId());
+            }
+            expected.remove(stats.getMovieId());
+        }
+        // 리뷰는 있는데 집계 행이 없는 영화
+        candidates.addAll(expected.keySet());
+
+        List<Long> fixed = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Long movieId = candidates.get(i);
+            // 처음 채우는 경우처럼 후보가 많으면 영화별 보정이 길어지므로 락 연장
+            if (i > 0 && i % LOCK_RENEW_EVERY == 0 && !redisLockManager.extend(LOCK_KEY, lockToken, LOCK_TTL)) {
+                log.warn("리뷰 집계 보정 중 락을 잃어 중단 - 처리한 후보: {}/{}", i, candidates.size());
+                break;
+            }
+            try {
+                if (Boolean.TRUE.equals(fixTx.execute(status -> reconcileMovie(movieId)))) {
+                    fixed.add(movieId);
+                }
+            } catch (Exception e) {
+                log.warn("리뷰 집계 보정 실패 movieId={}: {}", movieId, e.getMessage());
+            }
+        }
+        if (fixed.isEmpty()) {
+            return;
+        }
+
+        movieRepository.findTmdbIdsByIdIn(fixed)
+                .forEach(tmdbId -> eventPublisher.publishEvent(new MovieDetailChangedEvent(this, tmdbId)));
+        log.info("리뷰 집계 보정 - 후보: {}, 보정한 영화 수: {}", candidates.size(), fixed.size());
+    }
+
+    /**
+     * 한 영화의 집계 행을 잠그고 리뷰를 다시 세어 다르면 덮어씀 (fixTx 안에서 실행)
+     * 행을 잠그는 동안 증감분 UPSERT 는 대기하고, 먼저 잠근 UPSERT 의 리뷰는 커밋 후 재집계에 포함되므로 유실 없음
+     * @return 보정했으면 true
+     */
+    private boolean reconcileMovie(Long movieId) {
+        // 행이 없으면 0 으로 먼저 만들어 잠글 대상을 확보
+        jdbcTemplate.update("INSERT IGNORE INTO movie_review_stats (movie_id, review_cnt, star_sum, "
+                + String.join(", ", BUCKET_COLUMNS) + ") VALUES (?, 0, 0" + ", 0".repeat(BUCKETS) + ")", movieId);
+        Counted current = jdbcTemplate.queryForObject(
+                "SELECT review_cnt, star_sum, " + String.join(", ", BUCKET_COLUMNS)
+                        + " FROM movie_review_stats WHERE movie_id = ? FOR UPDATE",
+                (rs, rowNum) -> Counted.read(rs, 1), movieId);
+
+        Counted want = jdbcTemplate.query("SELECT COUNT(*), COALESCE(SUM(r.star), 0)" + BUCKET_SUMS
+                        + " FROM review r JOIN member m ON m.member_id = r.member_id"
+                        + " WHERE r.movie_id = ? AND r.is_deleted = false AND m.is_deleted = false",
+                rs -> rs.next() ? Counted.read(rs, 1) : Counted.EMPTY, movieId);
+        if (want == null) {
+            want = Counted.EMPTY;
+        }
+        if (want.matches(current)) {
+            return false;
+        }
+
+        Object[] args = new Object[3 + BUCKETS];
+        args[0] = want.reviewCnt();
+        args[1] = want.starSum();
+        for (int i = 0; i < BUCKETS; i++) {
+            args[2 + i] = want.buckets()[i];
+        }
+        args[2 + BUCKETS] = movieId;
+        jdbcTemplate.update("UPDATE movie_review_stats SET review_cnt = ?, star_sum = ?, "
+                + String.join(" = ?, ", BUCKET_COLUMNS) + " = ? WHERE movie_id = ?", args);
+        jdbcTemplate.update("UPDATE movie SET vote_average = ? WHERE id = ?",
+                want.reviewCnt() > 0 ? want.starSum() / want.reviewCnt() : 0.0, movieId);
+        return true;
+    }
+
+    // 리뷰 수, 별점 합계, 칸별 개수
+    private record Counted(long reviewCnt, double starSum, long[] buckets) {
+
+        static final Counted EMPTY = new Counted(0, 0.0, new long[BUCKETS]);
+
+        static Counted of(MovieReviewStats stats) {
+            return new Counted(stats.getReviewCnt(), stats.getStarSum(), bucketCounts(stats));
+        }
+
+        // [리뷰 수, 별점 합계, 칸 10개] 가 from 번째 컬럼부터 연속으로 있는 행
+        static Counted read(ResultSet rs, int from) throws SQLException {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = rs.getLong(from + 2 + i);
+            }
+            return new Counted(rs.getLong(from), rs.getDouble(from + 1), buckets);
+        }
+
+        boolean matches(Counted other) {
+            return reviewCnt == other.reviewCnt
+                    && Math.abs(starSum - other.starSum) <= 1e-6
+                    && Arrays.equals(buckets, other.buckets);
+        }
+    }
+
+    private static long[] bucketCounts(MovieReviewStats stats) {
+        return new long[]{
+                stats.getStar05(), stats.getStar10(), stats.getStar15(), stats.getStar20(), stats.getStar25(),
+                stats.getStar30(), stats.getStar35(), stats.getStar40(), stats.getStar45(), stats.getStar50()
+        };
+    }
+
+    // 0.5 단위 별점 → 히스토그램 칸 (0.5 → 0, 5.0 → 9)
+    private static int bucketIndex(double star) {
+        int index = (int) Math.round(star * 2) - 1;
+        return Math.min(BUCKETS - 1, Math.max(0, index));
+    }
+}
@@ -0,0 +1,59 @@
+package com.flipflick.backend.api.review.service;
+
+import com.flipflick.backend.api.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * preview 컬럼 추가 전에 작성된 리뷰의 미리보기 채우기
+ * - 기동 후 백그라운드에서 batchSize 건씩 짧은 트랜잭션으로 처리 (이후 작성/수정분은 엔티티가 직접 채움)
+ */
+@Component
+@Slf4j
+public class ReviewPreviewBackfill {
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate backfillTx;
+    private final Executor batchTaskExecutor;
+    private final int batchSize;
+
+    public ReviewPreviewBackfill(ReviewRepository reviewRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 Executor batchTaskExecutor,
+                                 @Value("${flipflick.review.preview-backfill-batch-size:1000}") int batchSize) {
+        this.reviewRepository = reviewRepository;
+        this.backfillTx = new TransactionTemplate(transactionManager);
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        batchTaskExecutor.execute(this::backfill);
+    }
+
+    private void backfill() {
+        long total = 0;
+        try {
+            int updated;
+            do {
+                Integer result = backfillTx.execute(status -> reviewRepository.backfillPreviews(batchSize));
+                updated = result == null ? 0 : result;
+                total += updated;
+            } while (updated >= batchSize);
+        } catch (Exception e) {
+            log.error("리뷰 미리보기 채우기 실패 - 처리한 리뷰 수: {}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("리뷰 미리보기 채우기 완료 - 리뷰 수: {}", total);
+        }
+    }
+}
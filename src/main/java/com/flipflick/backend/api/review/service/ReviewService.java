@@ -4,8 +4,11 @@ import com.flipflick.backend.api.alarm.service.AlarmService;
 import com.flipflick.backend.api.member.entity.Member;
 import com.flipflick.backend.api.member.repository.MemberRepository;
 import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.event.MovieDetailChangedEvent;
+import com.flipflick.backend.api.movie.event.MoviePopcornInputChangedEvent;
 import com.flipflick.backend.api.movie.repository.MovieRepository;
 import com.flipflick.backend.api.review.dto.ReviewRequestDto;
+import com.flipflick.backend.api.review.dto.ReviewListRow;
 import com.flipflick.backend.api.review.dto.ReviewResponseDto;
 import com.flipflick.backend.api.review.entity.LikeHateType;
 import com.flipflick.backend.api.review.entity.Review;
@@ -14,15 +17,22 @@ import com.flipflick.backend.api.review.repository.ReviewLikeHateRepository;
 import com.flipflick.backend.api.review.repository.ReviewRepository;
 import com.flipflick.backend.common.exception.BadRequestException;
 import com.flipflick.backend.common.exception.NotFoundException;
+import com.flipflick.backend.common.pagination.CursorPageResponse;
+import com.flipflick.backend.common.pagination.PageCursor;
+import com.flipflick.backend.common.reaction.ReactionCounter;
+import com.flipflick.backend.common.reaction.ReactionCounts;
+import com.flipflick.backend.common.reaction.ReactionTarget;
 import com.flipflick.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -36,6 +46,9 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final MovieRepository movieRepository;
     private final AlarmService alarmService;
+    private final ReactionCounter reactionCounter;
+    private final MovieReviewStatsService movieReviewStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. 리뷰 작성
     @Transactional
@@ -67,7 +80,7 @@ public class ReviewService {
         review = reviewRepository.save(review);
 
         // 영화 평점 업데이트
-        updateMovieVoteAverage(movie.getTmdbId());
+        updateMovieVoteAverage(movie, null, review.getStar());
 
         try {
             alarmService.createReviewWriteAlarmForFollowers(memberId, movie.getTitle());
@@ -96,10 +109,11 @@ public class ReviewService {
             throw new BadRequestException(ErrorStatus.REVIEW_INVALID_STAR_RATING.getMessage());
         }
 
+        Double oldStar = review.getStar();
         review.updateReview(request.getContent(), request.getStar(), request.getSpoiler());
 
         // 영화 평점 업데이트
-        updateMovieVoteAverage(review.getMovie().getTmdbId());
+        updateMovieVoteAverage(review.getMovie(), oldStar, review.getStar());
 
         return ReviewResponseDto.Update.builder()
                 .reviewId(review.getId())
@@ -121,7 +135,7 @@ public class ReviewService {
         review.softDelete();
 
         // 영화 평점 업데이트
-        updateMovieVoteAverage(review.getMovie().getTmdbId());
+        updateMovieVoteAverage(review.getMovie(), review.getStar(), null);
 
         return ReviewResponseDto.Delete.builder()
                 .reviewId(review.getId())
@@ -132,21 +146,60 @@ public class ReviewService {
     // 4. 리뷰 목록 조회 (최신순)
     public ReviewResponseDto.PageResponse getReviewsByLatest(Long tmdbId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Review> reviewPage = reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByCreatedAtDesc(tmdbId, pageable);
+        Page<ReviewListRow> reviewPage = reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByCreatedAtDesc(tmdbId, pageable);
 
-        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertToDetail);
+        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertRowToDetail);
         return ReviewResponseDto.PageResponse.from(detailPage);
     }
 
     // 5. 리뷰 목록 조회 (인기순)
     public ReviewResponseDto.PageResponse getReviewsByPopularity(Long tmdbId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Review> reviewPage = reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(tmdbId, pageable);
+        Page<ReviewListRow> reviewPage = reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(tmdbId, pageable);
 
-        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertToDetail);
+        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertRowToDetail);
         return ReviewResponseDto.PageResponse.from(detailPage);
     }
 
+    // 4-1. 리뷰 목록 커서 조회 (최신순)
+    public CursorPageResponse<ReviewResponseDto.Detail> getReviewsByLatestCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ReviewListRow> rows = reviewRepository.findLatestByMovieTmdbIdAfterCursor(
+                tmdbId, after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertRowToDetail,
+                row -> PageCursor.of(row.createdAt(), row.reviewId()));
+    }
+
+    // 5-1. 리뷰 목록 커서 조회 (인기순)
+    public CursorPageResponse<ReviewResponseDto.Detail> getReviewsByPopularityCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ReviewListRow> rows = reviewRepository.findPopularByMovieTmdbIdAfterCursor(
+                tmdbId, after.score(), after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertRowToDetail,
+                row -> PageCursor.of(row.likeCnt(), row.createdAt(), row.reviewId()));
+    }
+
+    // 5-2. 리뷰 목록 조회 (핫 점수순, 좋아요에서 싫어요를 뺀 값과 작성 시각을 함께 반영)
+    public ReviewResponseDto.PageResponse getReviewsByHot(Long tmdbId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ReviewListRow> reviewPage = reviewRepository.findHotByMovieTmdbId(tmdbId, pageable);
+
+        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertRowToDetail);
+        return ReviewResponseDto.PageResponse.from(detailPage);
+    }
+
+    // 5-3. 리뷰 목록 커서 조회 (핫 점수순)
+    public CursorPageResponse<ReviewResponseDto.Detail> getReviewsByHotCursor(Long tmdbId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ReviewListRow> rows = reviewRepository.findHotByMovieTmdbIdAfterCursor(
+                tmdbId, after.score(), after.createdAt(), after.id(), CursorPageResponse.limit(size));
+
+        return CursorPageResponse.of(rows, size, this::convertRowToDetail,
+                row -> PageCursor.of(row.hotScore(), row.createdAt(), row.reviewId()));
+    }
+
     // 6. 리뷰 좋아요/싫어요 토글
     @Transactional
     public ReviewResponseDto.LikeHate toggleLikeHate(Long memberId, ReviewRequestDto.LikeHate request) {
@@ -168,17 +221,19 @@ public class ReviewService {
                 .findByReviewIdAndMemberId(request.getReviewId(), memberId)
                 .orElse(null);
 
+        // 부모 행은 갱신하지 않고 증감분만 누적 (커밋 후 Redis 에 반영, 주기적으로 DB flush)
+        long[] delta = new long[2];
         String message;
 
         if (existingLikeHate != null) {
             if (existingLikeHate.getType() == type) {
                 // 같은 타입이면 취소
                 reviewLikeHateRepository.delete(existingLikeHate);
-                updateReviewLikeHateCount(review, type, false);
+                updateReviewLikeHateCount(delta, type, false);
                 message = type == LikeHateType.LIKE ? "좋아요가 취소되었습니다." : "싫어요가 취소되었습니다.";
             } else {
                 // 다른 타입이면 변경
-                updateReviewLikeHateCount(review, existingLikeHate.getType(), false); // 기존 것 감소
+                updateReviewLikeHateCount(delta, existingLikeHate.getType(), false); // 기존 것 감소
                 reviewLikeHateRepository.delete(existingLikeHate);
 
                 ReviewLikeHate newLikeHate = ReviewLikeHate.builder()
@@ -188,7 +243,7 @@ public class ReviewService {
                         .build();
                 reviewLikeHateRepository.save(newLikeHate);
 
-                updateReviewLikeHateCount(review, type, true); // 새로운 것 증가
+                updateReviewLikeHateCount(delta, type, true); // 새로운 것 증가
                 message = type == LikeHateType.LIKE ? "좋아요로 변경되었습니다." : "싫어요로 변경되었습니다.";
                 if(type==LikeHateType.LIKE){
                     alarmService.createAlarm(review.getMember().getId(),"내가 쓴 리뷰에 좋아요가 달렸습니다.");
@@ -203,19 +258,22 @@ public class ReviewService {
                     .build();
             reviewLikeHateRepository.save(newLikeHate);
 
-            updateReviewLikeHateCount(review, type, true);
+            updateReviewLikeHateCount(delta, type, true);
             message = type == LikeHateType.LIKE ? "좋아요가 추가되었습니다." : "싫어요가 추가되었습니다.";
             if(type==LikeHateType.LIKE){
                 alarmService.createAlarm(review.getMember().getId(),"내가 쓴 리뷰에 좋아요가 달렸습니다.");
             }
         }
 
+        ReactionCounts counts = reactionCounter.apply(ReactionTarget.REVIEW, review.getId(),
+                new ReactionCounts(review.getLikeCnt(), review.getHateCnt()), delta[0], delta[1]);
+
         return ReviewResponseDto.LikeHate.builder()
                 .reviewId(review.getId())
                 .type(type.name())
                 .message(message)
-                .likeCnt(review.getLikeCnt())
-                .hateCnt(review.getHateCnt())
+                .likeCnt(counts.likeCnt())
+                .hateCnt(counts.hateCnt())
                 .build();
     }
 
@@ -226,12 +284,23 @@ public class ReviewService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Review> reviewPage = reviewRepository.findByMemberNicknameAndIsDeletedFalseOrderByCreatedAtDesc(nickname, pageable);
+        Page<ReviewListRow> reviewPage = reviewRepository.findByMemberNicknameAndIsDeletedFalseOrderByCreatedAtDesc(nickname, pageable);
 
-        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertToDetail);
+        Page<ReviewResponseDto.Detail> detailPage = reviewPage.map(this::convertRowToDetail);
         return ReviewResponseDto.PageResponse.from(detailPage);
     }
 
+    // 12. 리뷰 본문 조회 (목록 조회는 미리보기만 내려줌)
+    public ReviewResponseDto.Content getReviewContent(Long reviewId) {
+        String content = reviewRepository.findContentById(reviewId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.REVIEW_NOT_FOUND.getMessage()));
+
+        return ReviewResponseDto.Content.builder()
+                .reviewId(reviewId)
+                .content(content)
+                .build();
+    }
+
     // 11. 내 리뷰 조회 (존재 여부 포함)
     public ReviewResponseDto.MyReview getMyReviewWithStatus(Long memberId, Long tmdbId) {
         Optional<Review> reviewOpt = reviewRepository.findByMemberIdAndMovieTmdbIdAndIsDeletedFalse(memberId, tmdbId);
@@ -252,31 +321,19 @@ public class ReviewService {
         return (star * 2) % 1 == 0; // 0.5 단위 체크
     }
 
-    // 영화 평점 업데이트
-    private void updateMovieVoteAverage(Long tmdbId) {
-        Double averageStar = reviewRepository.calculateAverageStarByMovieTmdbId(tmdbId);
-        if (averageStar != null) {
-            Movie movie = movieRepository.findByTmdbId(tmdbId)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_REGISTER_MOVIE_EXCEPTION.getMessage()));
-            movie.updateVoteAverage(averageStar);
-        }
+    // 영화 평점 업데이트 (전체 리뷰를 다시 집계하지 않고 영화별 집계에 증감분만 반영)
+    private void updateMovieVoteAverage(Movie movie, Double oldStar, Double newStar) {
+        MovieReviewStatsService.Totals totals = movieReviewStatsService.apply(movie.getId(), oldStar, newStar);
+        movie.updateVoteAverage(totals.average());
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(this, movie.getTmdbId()));
+
+        // 리뷰 수/평점 변경 → Popcorn 재계산 대상
+        eventPublisher.publishEvent(new MoviePopcornInputChangedEvent(this, movie.getId()));
     }
 
-    // 리뷰 좋아요/싫어요 카운트 업데이트
-    private void updateReviewLikeHateCount(Review review, LikeHateType type, boolean increase) {
-        if (type == LikeHateType.LIKE) {
-            if (increase) {
-                review.increaseLikeCnt();
-            } else {
-                review.decreaseLikeCnt();
-            }
-        } else {
-            if (increase) {
-                review.increaseHateCnt();
-            } else {
-                review.decreaseHateCnt();
-            }
-        }
+    // 리뷰 좋아요/싫어요 카운트 증감분 누적
+    private void updateReviewLikeHateCount(long[] delta, LikeHateType type, boolean increase) {
+        delta[type == LikeHateType.LIKE ? 0 : 1] += increase ? 1 : -1;
     }
 
 
@@ -288,6 +345,7 @@ public class ReviewService {
                 .reviewId(review.getId())
                 .memberId(review.getMember().getId())
                 .content(review.getContent())
+                .contentTruncated(false)
                 .star(review.getStar())
                 .spoiler(review.getSpoiler())
                 .likeCnt(review.getLikeCnt())
@@ -301,4 +359,26 @@ public class ReviewService {
                 .posterImg(review.getMovie().getPosterImg())
                 .build();
     }
+
+    // 목록 프로젝션을 Detail DTO로 변환 (content 에는 미리보기)
+    private ReviewResponseDto.Detail convertRowToDetail(ReviewListRow row) {
+        return ReviewResponseDto.Detail.builder()
+                .tmdbId(row.tmdbId())
+                .reviewId(row.reviewId())
+                .memberId(row.memberId())
+                .content(row.preview())
+                .contentTruncated(Boolean.TRUE.equals(row.previewTruncated()))
+                .star(row.star())
+                .spoiler(row.spoiler())
+                .likeCnt(row.likeCnt())
+                .hateCnt(row.hateCnt())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .nickname(row.nickname())
+                .profileImage(row.profileImage())
+                .popcorn(row.popcorn())
+                .movieTitle(row.movieTitle())
+                .posterImg(row.posterImg())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.flipflick.backend.api.search.cache;
+
+import com.flipflick.backend.common.cache.LocalLruCache;
+import com.flipflick.backend.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * TMDB 검색 응답 2단 캐시
+ * - L1: 인스턴스 메모리 LRU (짧은 TTL)
+ * - L2: Redis (search:tmdb:{type}:{language}:{page}:{정규화된 검색어})
+ * 같은 키의 동시 miss 는 SingleFlight 로 하나의 TMDB 호출만 실행
+ * 메트릭: search.tmdb.cache (type, result = l1_hit / l2_hit / miss), search.tmdb.coalesced
+ */
+@Component
+@Slf4j
+public class TmdbSearchCache {
+
+    private static final String KEY_PREFIX = "search:tmdb:";
+
+    private final RedisTemplate<String, Object> redis;
+    private final MeterRegistry meterRegistry;
+    private final LocalLruCache<String, Object> local;
+    private final SingleFlight<String, Object> loadFlight = new SingleFlight<>();
+    private final Duration redisTtl;
+
+    public TmdbSearchCache(RedisTemplate<String, Object> redis,
+                           MeterRegistry meterRegistry,
+                           @Value("${flipflick.search.tmdb-cache.local-size:1000}") int localSize,
+                           @Value("${flipflick.search.tmdb-cache.local-ttl:1m}") Duration localTtl,
+                           @Value("${flipflick.search.tmdb-cache.redis-ttl:10m}") Duration redisTtl) {
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        this.local = new LocalLruCache<>(localSize, localTtl);
+        this.redisTtl = redisTtl;
+
+        FunctionCounter.builder("search.tmdb.coalesced", loadFlight, SingleFlight::coalescedCount)
+                .description("다른 요청의 TMDB 검색 결과를 기다린 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어 정규화 (유니코드 NFC, 앞뒤 공백 제거, 연속 공백 축약, 소문자)
+     * TMDB 검색은 대소문자를 구분하지 않으므로 같은 결과를 하나의 키로 모음
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Normalizer.normalize(query, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // L1 → L2 → loader 순으로 조회 (loader 결과가 null 이면 캐시하지 않음)
+    public <T> T get(String type, String language, int page, String normalizedQuery, Class<T> valueType, Supplier<T> loader) {
+        String key = KEY_PREFIX + type + ":" + language + ":" + page + ":" + normalizedQuery;
+
+        Object cached = local.get(key);
+        if (valueType.isInstance(cached)) {
+            count(type, "l1_hit");
+            return valueType.cast(cached);
+        }
+
+        Object result = loadFlight.execute(key, () -> {
+            T remote = readRemote(key, valueType);
+            if (remote != null) {
+                count(type, "l2_hit");
+                local.put(key, remote);
+                return remote;
+            }
+
+            count(type, "miss");
+            T loaded = loader.get();
+            if (loaded != null) {
+                writeRemote(key, loaded);
+                local.put(key, loaded);
+            }
+            return loaded;
+        });
+        return valueType.cast(result);
+    }
+
+    private <T> T readRemote(String key, Class<T> valueType) {
+        try {
+            Object value = redis.opsForValue().get(key);
+            return valueType.isInstance(value) ? valueType.cast(value) : null;
+        } catch (RuntimeException e) {
+            // 역직렬화 실패/Redis 장애는 miss 로 처리
+            log.warn("TMDB 검색 캐시 조회 실패 key={}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object value) {
+        try {
+            redis.opsForValue().set(key, value, redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("TMDB 검색 캐시 저장 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private void count(String type, String result) {
+        meterRegistry.counter("search.tmdb.cache", "type", type, "result", result).increment();
+    }
+}
@@ -32,6 +32,19 @@ public class SearchController {
         return ApiResponse.success(SuccessStatus.SEND_MOVIE_LIST_SUCCESS, movieListPageResponseDTO);
     }
 
+    @Operation(summary = "영화 자동완성 API", description = "저장된 영화 제목(초성 포함)으로 자동완성 목록을 조회합니다 <br> 일치하는 영화가 없으면 TMDB 검색 결과를 반환합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "영화 자동완성 조회 성공")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<MovieAutocompleteResponseDTO>> autocompleteMovies(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        MovieAutocompleteResponseDTO response = searchService.autocompleteMovies(query, limit);
+        return ApiResponse.success(SuccessStatus.SEND_MOVIE_LIST_SUCCESS, response);
+    }
+
     @Operation(summary = "배우 검색 API", description = "키워드, 페이지를 받아 배우 리스트를 조회합니다 <br> page는 1 이상")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "배우 리스트 조회 성공")
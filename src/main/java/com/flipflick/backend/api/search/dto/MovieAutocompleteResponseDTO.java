@@ -0,0 +1,14 @@
+package com.flipflick.backend.api.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MovieAutocompleteResponseDTO {
+
+    private String source;   // local: 저장된 영화 인덱스, tmdb: TMDB 검색 결과
+    private List<MovieListResponseDTO> content;
+}
@@ -3,8 +3,10 @@ package com.flipflick.backend.api.search.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,6 +14,8 @@ import java.util.List;
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class TmdbMovieSearchResponseDTO {
 
     private int page;
@@ -27,6 +31,8 @@ public class TmdbMovieSearchResponseDTO {
     @Getter
     @JsonIgnoreProperties(ignoreUnknown = true)
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class TmdbMovie {
         @JsonProperty("id")
         private Long tmdbId;
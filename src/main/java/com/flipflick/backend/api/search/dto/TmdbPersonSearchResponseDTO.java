@@ -1,13 +1,17 @@
 package com.flipflick.backend.api.search.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class TmdbPersonSearchResponseDTO {
 
     private int page;
@@ -19,6 +23,8 @@ public class TmdbPersonSearchResponseDTO {
 
     @Getter
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class Person {
         private long id;
         private String name;
@@ -30,6 +36,8 @@ public class TmdbPersonSearchResponseDTO {
 
     @Getter
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class KnownFor {
         // 영화의 경우 title, TV의 경우 name 필드에 이름이 들어옴
         private String title;
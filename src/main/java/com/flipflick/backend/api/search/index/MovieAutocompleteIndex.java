@@ -0,0 +1,446 @@
+package com.flipflick.backend.api.search.index;
+
+import com.flipflick.backend.api.movie.event.MovieIngestedEvent;
+import com.flipflick.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장된 영화 제목 기반 자동완성 인덱스 (인스턴스 로컬 메모리)
+ * - 제목/원제목의 2-gram, 초성 문자열의 1-gram/2-gram 으로 후보를 좁힌 뒤 접두/포함 여부를 확인
+ * - 초성만으로 된 검색어(ㅇㅂㅈㅅ)는 초성 문자열에 대해 매칭, 그 외 검색어는 2글자 이상만 검색
+ * - 리뷰가 있거나 팝콘지수가 기준 이상인 영화만 최대 max-docs 건까지 담음 (나머지는 TMDB 검색으로 대체)
+ * - posting 은 문서 번호 int 배열로 보관하는 불변 스냅샷, 재구성 사이에 새로 저장된 영화는 별도 목록에 보관
+ * - 기동 시 전체 구성, 영화가 새로 저장/갱신되면 증분 반영, 주기적으로 전체 재구성 (팝콘지수 갱신 및 다른 인스턴스 저장분 반영)
+ */
+@Component
+@Slf4j
+public class MovieAutocompleteIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int CHOSUNG_STRIDE = 21 * 28;
+    private static final String CHOSUNG_GRAM_PREFIX = "c:";
+
+    // 초성이 아닌 1글자 검색어는 후보가 너무 많고 의미 있는 결과가 드물어 검색하지 않음
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    private static final int PREFIX_MATCH = 2;
+    private static final int CONTAINS_MATCH = 1;
+
+    private final MovieRepository movieRepository;
+    private final Executor batchTaskExecutor;
+    private final int maxLimit;
+    private final int maxDocs;
+    private final long minReviews;
+    private final double minPopcorn;
+    private final int maxRecent;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile Snapshot current = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+    // 마지막 전체 구성 이후 저장된 영화 (같은 tmdbId 면 스냅샷보다 우선, 다음 구성 때 정리)
+    private final Map<Long, Recent> recent = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public record Entry(Long tmdbId, String title, String originalTitle, String posterImg,
+                        LocalDate releaseDate, double popcorn) {
+    }
+
+    public MovieAutocompleteIndex(MovieRepository movieRepository,
+                                  Executor batchTaskExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${flipflick.search.autocomplete.max-limit:20}") int maxLimit,
+                                  @Value("${flipflick.search.autocomplete.max-docs:200000}") int maxDocs,
+                                  @Value("${flipflick.search.autocomplete.min-reviews:1}") long minReviews,
+                                  @Value("${flipflick.search.autocomplete.min-popcorn:60}") double minPopcorn,
+                                  @Value("${flipflick.search.autocomplete.max-recent:2000}") int maxRecent) {
+        this.movieRepository = movieRepository;
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.maxLimit = maxLimit;
+        this.maxDocs = maxDocs;
+        this.minReviews = minReviews;
+        this.minPopcorn = minPopcorn;
+        this.maxRecent = maxRecent;
+
+        Gauge.builder("search.autocomplete.index.size", this, MovieAutocompleteIndex::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 구성이 한 번이라도 끝났는지 여부 (구성 전에는 TMDB 로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return current.docs.length + recent.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        batchTaskExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${flipflick.search.autocomplete.rebuild-interval-ms:1800000}",
+            initialDelayString = "${flipflick.search.autocomplete.rebuild-interval-ms:1800000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovieIngested(MovieIngestedEvent event) {
+        if (event.getTmdbId() == null) {
+            return;
+        }
+        // 새로 저장된 영화는 아직 팝콘지수가 없음, 갱신된 영화는 인덱스에 있던 값 유지
+        add(new Entry(event.getTmdbId(), event.getTitle(), event.getOriginalTitle(),
+                event.getPosterImg(), event.getReleaseDate(), popcornOf(event.getTmdbId())));
+    }
+
+    private double popcornOf(long tmdbId) {
+        Recent r = recent.get(tmdbId);
+        if (r != null) {
+            return r.doc().entry().popcorn();
+        }
+        Snapshot snapshot = current;
+        int index = snapshot.indexOf(tmdbId);
+        return index < 0 ? 0.0 : snapshot.docs[index].entry().popcorn();
+    }
+
+    /**
+     * DB 의 대상 영화로 인덱스를 새로 구성한 뒤 교체
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            long startedSequence = sequence.get();
+            List<Object[]> rows = movieRepository.findAutocompleteRows(minReviews, minPopcorn, PageRequest.of(0, maxDocs));
+            List<Doc> docs = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                docs.add(Doc.of(new Entry(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        (LocalDate) row[4],
+                        row[5] == null ? 0.0 : ((Number) row[5]).doubleValue())));
+            }
+            Snapshot next = Snapshot.build(docs);
+            current = next;
+            // 구성 시작 전에 커밋된 영화는 위 조회에 이미 반영됨 (빠졌다면 기준 미달)
+            recent.values().removeIf(r -> r.sequence() <= startedSequence || next.indexOf(r.doc().entry().tmdbId()) >= 0);
+            ready = true;
+            log.info("자동완성 인덱스 구성 완료 - 영화 수: {}, gram 수: {}, 소요: {}ms",
+                    next.docs.length, next.postings.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 구성 실패", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 영화 한 건 추가 (이미 있으면 교체, 최근 목록이 가득 차면 다음 재구성 때 반영)
+     */
+    public void add(Entry entry) {
+        if (recent.size() >= maxRecent && !recent.containsKey(entry.tmdbId())) {
+            return;
+        }
+        recent.put(entry.tmdbId(), new Recent(Doc.of(entry), sequence.incrementAndGet()));
+    }
+
+    /**
+     * 검색어로 시작하는 제목을 우선, 그다음 팝콘지수가 높은 순으로 최대 limit 건 조회
+     */
+    public List<Entry> search(String query, int limit) {
+        String normalized = normalize(query);
+        int size = Math.min(Math.max(limit, 1), maxLimit);
+        if (isTooShortNormalized(normalized)) {
+            return List.of();
+        }
+
+        Snapshot snapshot = current;
+        boolean chosungQuery = isChosungOnly(normalized);
+
+        // 하위 랭크가 머리에 오는 크기 제한 힙
+        Comparator<Scored> ranking = Comparator.comparingInt(Scored::match)
+                .thenComparingDouble(scored -> scored.doc().entry().popcorn())
+                .thenComparingInt(scored -> -titleLength(scored.doc().entry()));
+        PriorityQueue<Scored> top = new PriorityQueue<>(size + 1, ranking);
+
+        boolean hasRecent = !recent.isEmpty();
+        for (int docIndex : snapshot.candidates(queryGrams(normalized, chosungQuery))) {
+            Doc doc = snapshot.docs[docIndex];
+            // 최근 저장본이 있으면 그쪽으로 대체
+            if (hasRecent && recent.containsKey(doc.entry().tmdbId())) {
+                continue;
+            }
+            offer(top, size, doc, normalized, chosungQuery);
+        }
+        if (hasRecent) {
+            for (Recent r : recent.values()) {
+                offer(top, size, r.doc(), normalized, chosungQuery);
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().doc().entry());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Scored> top, int size, Doc doc, String normalized, boolean chosungQuery) {
+        int match = chosungQuery ? match(normalized, doc.chosungTitle(), doc.chosungOriginalTitle())
+                : match(normalized, doc.title(), doc.originalTitle());
+        if (match == 0) {
+            return;
+        }
+        top.offer(new Scored(doc, match));
+        if (top.size() > size) {
+            top.poll();
+        }
+    }
+
+    private static int match(String query, String... fields) {
+        int best = 0;
+        for (String field : fields) {
+            if (field.startsWith(query)) {
+                return PREFIX_MATCH;
+            }
+            if (field.contains(query)) {
+                best = CONTAINS_MATCH;
+            }
+        }
+        return best;
+    }
+
+    private static int titleLength(Entry entry) {
+        return entry.title() == null ? Integer.MAX_VALUE : entry.title().length();
+    }
+
+    /**
+     * NFC 정규화 + 소문자 + 문자/숫자만 유지
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절은 초성으로, 그 외 문자는 그대로 유지 (아이언맨2 -> ㅇㅇㅇㅁ2)
+     */
+    static String toChosung(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / CHOSUNG_STRIDE]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만으로 된 검색어인지 여부 (TMDB 는 초성 검색을 지원하지 않음)
+     */
+    public static boolean isChosungQuery(String query) {
+        String normalized = normalize(query);
+        return !normalized.isEmpty() && isChosungOnly(normalized);
+    }
+
+    /**
+     * 검색하지 않는 짧은 검색어인지 여부 (초성 검색어는 1글자부터, 그 외는 2글자부터 검색)
+     */
+    public static boolean isTooShort(String query) {
+        return isTooShortNormalized(normalize(query));
+    }
+
+    private static boolean isTooShortNormalized(String normalized) {
+        return normalized.isEmpty() || (normalized.length() < MIN_QUERY_LENGTH && !isChosungOnly(normalized));
+    }
+
+    static boolean isChosungOnly(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!isChosung(normalized.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 2-gram (withUnigrams 면 1-gram 도 함께)
+    private static void grams(String value, String prefix, boolean withUnigrams, Collection<String> out) {
+        for (int i = 0; i < value.length(); i++) {
+            if (withUnigrams) {
+                out.add(prefix + value.charAt(i));
+            }
+            if (i + 1 < value.length()) {
+                out.add(prefix + value.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 검색어는 2-gram 만 사용 (1글자 초성 검색어만 1-gram)
+    private static List<String> queryGrams(String normalized, boolean chosungQuery) {
+        String prefix = chosungQuery ? CHOSUNG_GRAM_PREFIX : "";
+        List<String> grams = new ArrayList<>(normalized.length());
+        grams(normalized, prefix, normalized.length() == 1, grams);
+        return grams;
+    }
+
+    private record Doc(Entry entry, String title, String originalTitle,
+                       String chosungTitle, String chosungOriginalTitle) {
+
+        static Doc of(Entry entry) {
+            String title = normalize(entry.title());
+            String originalTitle = normalize(entry.originalTitle());
+            return new Doc(entry, title, originalTitle, toChosung(title), toChosung(originalTitle));
+        }
+
+        void collectGrams(Set<String> out) {
+            grams(title, "", false, out);
+            grams(originalTitle, "", false, out);
+            grams(chosungTitle, CHOSUNG_GRAM_PREFIX, true, out);
+            grams(chosungOriginalTitle, CHOSUNG_GRAM_PREFIX, true, out);
+        }
+    }
+
+    private record Scored(Doc doc, int match) {
+    }
+
+    private record Recent(Doc doc, long sequence) {
+    }
+
+    /**
+     * 전체 구성 결과 (불변) - 문서 번호는 tmdbId 오름차순 위치, posting 은 문서 번호 오름차순 int 배열
+     */
+    private static final class Snapshot {
+
+        private static final int[] NO_POSTING = new int[0];
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new Doc[0], Map.of());
+
+        private final long[] tmdbIds;
+        private final Doc[] docs;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(long[] tmdbIds, Doc[] docs, Map<String, int[]> postings) {
+            this.tmdbIds = tmdbIds;
+            this.docs = docs;
+            this.postings = postings;
+        }
+
+        static Snapshot build(List<Doc> docs) {
+            docs.sort(Comparator.comparingLong(doc -> doc.entry().tmdbId()));
+            long[] tmdbIds = new long[docs.size()];
+            Map<String, IntBuffer> buffers = new HashMap<>();
+            Set<String> docGrams = new HashSet<>();
+            for (int i = 0; i < docs.size(); i++) {
+                tmdbIds[i] = docs.get(i).entry().tmdbId();
+                docGrams.clear();
+                docs.get(i).collectGrams(docGrams);
+                for (String gram : docGrams) {
+                    buffers.computeIfAbsent(gram, key -> new IntBuffer()).add(i);
+                }
+            }
+            Map<String, int[]> postings = new HashMap<>(buffers.size() * 4 / 3 + 1);
+            buffers.forEach((gram, buffer) -> postings.put(gram, buffer.toArray()));
+            return new Snapshot(tmdbIds, docs.toArray(new Doc[0]), postings);
+        }
+
+        int indexOf(long tmdbId) {
+            return Arrays.binarySearch(tmdbIds, tmdbId);
+        }
+
+        // 검색어의 gram 중 posting 이 가장 작은 배열 (하나라도 없으면 매칭 불가)
+        int[] candidates(List<String> queryGrams) {
+            int[] smallest = null;
+            for (String gram : queryGrams) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    return NO_POSTING;
+                }
+                if (smallest == null || posting.length < smallest.length) {
+                    smallest = posting;
+                }
+            }
+            return smallest == null ? NO_POSTING : smallest;
+        }
+    }
+
+    // 구성 중에만 쓰는 가변 길이 int 배열
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
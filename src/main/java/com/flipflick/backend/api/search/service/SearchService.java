@@ -8,7 +8,10 @@ import com.flipflick.backend.api.playlist.entity.PlayList;
 import com.flipflick.backend.api.playlist.repository.MoviePlaylistRepository;
 import com.flipflick.backend.api.playlist.repository.PlayListBookmarkRepository;
 import com.flipflick.backend.api.playlist.repository.PlayListRepository;
+import com.flipflick.backend.api.search.cache.TmdbSearchCache;
 import com.flipflick.backend.api.search.dto.*;
+import com.flipflick.backend.api.search.index.MovieAutocompleteIndex;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +32,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchService {
 
+    private static final String LANGUAGE = "ko-KR";
+
     @Value("${tmdb.api.key}")
     private String apiKey;
 
@@ -36,6 +41,9 @@ public class SearchService {
     private String imageBaseUrl;
 
     private final WebClient tmdbWebClient;
+    private final TmdbSearchCache tmdbSearchCache;
+    private final MovieAutocompleteIndex movieAutocompleteIndex;
+    private final MeterRegistry meterRegistry;
     private final PlayListRepository playListRepository;
     private final MoviePlaylistRepository moviePlaylistRepository;
     private final PlayListBookmarkRepository playListBookmarkRepository;
@@ -44,12 +52,15 @@ public class SearchService {
 
     public MovieListPageResponseDTO searchMovieList(SearchRequestDTO searchRequestDTO) {
 
-        // WebClient로 TMDB 검색 API 호출
-        TmdbMovieSearchResponseDTO tmdb = tmdbWebClient.get()
-                .uri(uriBuilder -> buildMovieSearchUri(uriBuilder, searchRequestDTO))
-                .retrieve()
-                .bodyToMono(TmdbMovieSearchResponseDTO.class)
-                .block();
+        // TMDB 검색 API 호출 (정규화된 검색어/페이지/언어 단위로 캐시)
+        String query = TmdbSearchCache.normalize(searchRequestDTO.getQuery());
+        TmdbMovieSearchResponseDTO tmdb = tmdbSearchCache.get("movie", LANGUAGE, searchRequestDTO.getPage(), query,
+                TmdbMovieSearchResponseDTO.class,
+                () -> tmdbWebClient.get()
+                        .uri(uriBuilder -> buildMovieSearchUri(uriBuilder, query, searchRequestDTO.getPage()))
+                        .retrieve()
+                        .bodyToMono(TmdbMovieSearchResponseDTO.class)
+                        .block());
 
         // null/빈 결과 처리
         if (tmdb == null || tmdb.getResults() == null) {
@@ -93,14 +104,72 @@ public class SearchService {
                 .build();
     }
 
+    // 영화 자동완성 (저장된 영화 인덱스 우선, 결과가 없을 때만 TMDB 검색)
+    public MovieAutocompleteResponseDTO autocompleteMovies(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return MovieAutocompleteResponseDTO.builder()
+                    .source("local")
+                    .content(Collections.emptyList())
+                    .build();
+        }
+
+        // 초성이 아닌 1글자 검색어는 로컬/TMDB 모두 검색하지 않음
+        if (MovieAutocompleteIndex.isTooShort(query)) {
+            meterRegistry.counter("search.autocomplete", "result", "too_short").increment();
+            return MovieAutocompleteResponseDTO.builder()
+                    .source("local")
+                    .content(Collections.emptyList())
+                    .build();
+        }
+
+        if (movieAutocompleteIndex.isReady()) {
+            List<MovieListResponseDTO> local = movieAutocompleteIndex.search(query, limit).stream()
+                    .map(entry -> MovieListResponseDTO.builder()
+                            .tmdbId(entry.tmdbId())
+                            .title(entry.title())
+                            .releaseDate(entry.releaseDate())
+                            .image(entry.posterImg())
+                            .build())
+                    .collect(Collectors.toList());
+            if (!local.isEmpty()) {
+                meterRegistry.counter("search.autocomplete", "result", "local_hit").increment();
+                return MovieAutocompleteResponseDTO.builder()
+                        .source("local")
+                        .content(local)
+                        .build();
+            }
+        }
+
+        if (MovieAutocompleteIndex.isChosungQuery(query)) {
+            meterRegistry.counter("search.autocomplete", "result", "miss").increment();
+            return MovieAutocompleteResponseDTO.builder()
+                    .source("local")
+                    .content(Collections.emptyList())
+                    .build();
+        }
+
+        meterRegistry.counter("search.autocomplete", "result", "tmdb_fallback").increment();
+        MovieListPageResponseDTO tmdb = searchMovieList(SearchRequestDTO.builder()
+                .query(query)
+                .page(1)
+                .build());
+        return MovieAutocompleteResponseDTO.builder()
+                .source("tmdb")
+                .content(tmdb.getContent().stream().limit(Math.max(limit, 1)).collect(Collectors.toList()))
+                .build();
+    }
+
     // 배우 조회
     public CastListPageResponseDTO searchCastList(SearchRequestDTO searchRequestDTO) {
-        // TMDB person 검색 호출
-        TmdbPersonSearchResponseDTO tmdb = tmdbWebClient.get()
-                .uri(builder -> buildCastSearchUri(builder, searchRequestDTO))
-                .retrieve()
-                .bodyToMono(TmdbPersonSearchResponseDTO.class)
-                .block();
+        // TMDB person 검색 호출 (정규화된 검색어/페이지/언어 단위로 캐시)
+        String query = TmdbSearchCache.normalize(searchRequestDTO.getQuery());
+        TmdbPersonSearchResponseDTO tmdb = tmdbSearchCache.get("person", LANGUAGE, searchRequestDTO.getPage(), query,
+                TmdbPersonSearchResponseDTO.class,
+                () -> tmdbWebClient.get()
+                        .uri(builder -> buildCastSearchUri(builder, query, searchRequestDTO.getPage()))
+                        .retrieve()
+                        .bodyToMono(TmdbPersonSearchResponseDTO.class)
+                        .block());
 
         // null 혹은 빈 결과 처리
         if (tmdb == null || tmdb.getResults() == null) {
@@ -244,24 +313,24 @@ public class SearchService {
     }
 
     // 배우 검색 URI
-    private URI buildCastSearchUri(UriBuilder uriBuilder, SearchRequestDTO searchRequestDTO) {
+    private URI buildCastSearchUri(UriBuilder uriBuilder, String query, int page) {
         return uriBuilder
                 .path("/search/person")
                 .queryParam("api_key", apiKey)
-                .queryParam("language", "ko-KR")
-                .queryParam("query", searchRequestDTO.getQuery())
-                .queryParam("page", searchRequestDTO.getPage())
+                .queryParam("language", LANGUAGE)
+                .queryParam("query", query)
+                .queryParam("page", page)
                 .build();
     }
 
     // 영화 검색 URI
-    private URI buildMovieSearchUri(UriBuilder uriBuilder, SearchRequestDTO searchRequestDTO) {
+    private URI buildMovieSearchUri(UriBuilder uriBuilder, String query, int page) {
         return uriBuilder
                 .path("/search/movie")
                 .queryParam("api_key", apiKey)
-                .queryParam("language", "ko-KR")
-                .queryParam("query", searchRequestDTO.getQuery())
-                .queryParam("page", searchRequestDTO.getPage())
+                .queryParam("language", LANGUAGE)
+                .queryParam("query", query)
+                .queryParam("page", page)
                 .build();
     }
 }
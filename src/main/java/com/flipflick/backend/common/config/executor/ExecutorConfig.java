@@ -0,0 +1,43 @@
+package com.flipflick.backend.common.config.executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 캐시 갱신 등 요청 스레드를 막지 않아야 하는 백그라운드 작업용 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor backgroundTaskExecutor(
+            @Value("${flipflick.background.core-pool-size:2}") int corePoolSize,
+            @Value("${flipflick.background.max-pool-size:4}") int maxPoolSize,
+            @Value("${flipflick.background.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("background-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 덤프 가져오기, 출연진/변경 갱신, 사전 적재, 유사도 재계산, 기동 시 재집계/색인/채우기 등 오래 걸리는 배치 작업용 스레드 풀
+    // 요청이 띄우는 짧은 갱신 작업이 배치 작업 뒤에 밀리거나 거부되지 않도록 backgroundTaskExecutor 와 분리
+    @Bean
+    public ThreadPoolTaskExecutor batchTaskExecutor(
+            @Value("${flipflick.batch.core-pool-size:2}") int corePoolSize,
+            @Value("${flipflick.batch.max-pool-size:2}") int maxPoolSize,
+            @Value("${flipflick.batch.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
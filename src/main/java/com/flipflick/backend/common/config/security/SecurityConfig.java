@@ -97,7 +97,7 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/v1/member/login", "/api/v1/member/signup", "/api/v1/member/reissue", "/api/v1/member/logout","/v3/api-docs/**",
                                 "/swagger-ui/**", "/swagger-resources/**", "/webjars/**", "/h2-console/**", "/health", "/api-doc").permitAll() // 회원, 스웨거, H2 인증 허가
-                        .requestMatchers("/api/v1/search/movie", "/api/v1/search/cast", "/api/v1/search/playlist", "/api/v1/search/member").permitAll() // 검색 인증 허가
+                        .requestMatchers("/api/v1/search/movie", "/api/v1/search/cast", "/api/v1/search/playlist", "/api/v1/search/member", "/api/v1/search/autocomplete").permitAll() // 검색 인증 허가
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/search/movie", "/api/v1/search/cast").permitAll() // 검색 인증 허가
                         .requestMatchers("/api/v1/movie/view", "/api/v1/cast/view", "/api/v1/movie/top-popcorn").permitAll() // 영화, 배우 상세 조회 인증 허가
@@ -107,10 +107,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/follow/**").permitAll()
                         .requestMatchers("/api/v1/movie/bookmark-list", "/api/v1/movie/watched-list").permitAll() // 찜, 봤어요 리스트 인증 허가
                         .requestMatchers("/api/v1/password-reset/**").permitAll() // 비밀번호 재설정 인증 허가
-                        .requestMatchers("/api/v1/movie/bookmark-list", "/api/v1/movie/watched-list", "/api/v1/movie/like-list", "/api/v1/movie/boxoffice").permitAll() // 찜, 봤어요 리스트 인증 허가
+                        .requestMatchers("/api/v1/movie/bookmark-list", "/api/v1/movie/watched-list", "/api/v1/movie/like-list", "/api/v1/movie/boxoffice",
+                                "/api/v1/movie/bookmark-list/slice", "/api/v1/movie/watched-list/slice", "/api/v1/movie/like-list/slice").permitAll() // 찜, 봤어요 리스트 인증 허가
                         .requestMatchers("/api/v1/alarms/**").permitAll()
                         .requestMatchers("/api/v1/popcorn/my", "/api/v1/popcorn/user/*").permitAll()
-                        .requestMatchers("/api/v1/review/movie/**", "/api/v1/review/user/**").permitAll()
+                        .requestMatchers("/api/v1/review/movie/**", "/api/v1/review/user/**", "/api/v1/review/*/content").permitAll()
                         .requestMatchers("/api/v1/debate/user/**").permitAll()
                         .requestMatchers("/api/v1/recommendation/**").permitAll()
                         .requestMatchers("/api/v1/review/user/{nickname}/latest","/api/v1/review/movie/{tmdbId}/latest","/api/v1/review/movie/{tmdbId}/popular").permitAll()
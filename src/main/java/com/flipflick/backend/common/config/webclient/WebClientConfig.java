@@ -1,35 +1,51 @@
 package com.flipflick.backend.common.config.webclient;
 
+import com.flipflick.backend.common.http.OutboundClientFactory;
+import com.flipflick.backend.common.http.OutboundTarget;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+// 모든 외부 연동 클라이언트는 OutboundClientFactory 를 통해 생성 (커넥션 풀, 타임아웃, 재시도, 속도 제한, 서킷 브레이커, 메트릭)
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient tmdbWebClient(WebClient.Builder builder,
-                                   @Value("${tmdb.api.url}") String baseUrl) {
+    public WebClient tmdbWebClient(OutboundClientFactory factory,
+                                   @Value("${tmdb.api.url}") String baseUrl,
+                                   @Value("${tmdb.api.max-in-memory-size:2MB}") DataSize maxInMemorySize) {
+        // 응답 본문을 모은 뒤 디코딩하므로 요청마다 최대 이 크기까지 버퍼링
+        // 상세(append_to_response) 응답은 출연진이 많은 영화도 수백 KB, 인물 combined_credits 도 1MB 를 넘지 않음
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        // 10 * 1024 * 1024 = 10MB
-                        .maxInMemorySize(10 * 1024 * 1024)
+                        .maxInMemorySize((int) maxInMemorySize.toBytes())
                 )
                 .build();
 
-        return builder
+        return factory.builder(OutboundTarget.TMDB)
                 .baseUrl(baseUrl)
                 .exchangeStrategies(strategies)
                 .build();
     }
 
     @Bean
-    public WebClient kobisClient() {
-        return WebClient.builder()
+    public WebClient kobisClient(OutboundClientFactory factory) {
+        return factory.builder(OutboundTarget.KOBIS)
                 .baseUrl("https://www.kobis.or.kr")
                 .build();
     }
+
+    @Bean
+    public WebClient kakaoClient(OutboundClientFactory factory) {
+        return factory.builder(OutboundTarget.KAKAO).build();
+    }
+
+    @Bean
+    public WebClient naverClient(OutboundClientFactory factory) {
+        return factory.builder(OutboundTarget.NAVER).build();
+    }
 }
@@ -0,0 +1,118 @@
+package com.flipflick.backend.common.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 windowSize 건의 실패율 기반 서킷 브레이커
+ * - CLOSED: 실패율이 임계치 이상이면 OPEN
+ * - OPEN: openDuration 동안 호출 차단, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용해 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int index;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess / onFailure / release 중 하나로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            clearWindow();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출 (취소 등) - HALF_OPEN 시험 호출 자리를 돌려줌
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[index] = failure;
+        if (failure) {
+            failures++;
+        }
+        index = (index + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        trialInFlight = false;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        Arrays.fill(outcomes, false);
+        index = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
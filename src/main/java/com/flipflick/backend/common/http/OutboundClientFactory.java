@@ -0,0 +1,101 @@
+package com.flipflick.backend.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 연동 대상별 WebClient.Builder 생성
+ * - 대상별 커넥션 풀 (최대 연결 수, 대기 시간, 유휴 연결 정리)
+ * - 대상별 연결/응답 타임아웃
+ * - ResilientExchangeFilter (서킷 브레이커, 토큰 버킷, GET 재시도, 메트릭)
+ *
+ * 설정은 flipflick.http.{key}.* 로 덮어쓸 수 있으며 없으면 OutboundTarget 기본값 사용
+ */
+@Component
+public class OutboundClientFactory implements DisposableBean {
+
+    private static final String PROPERTY_PREFIX = "flipflick.http.";
+
+    private final WebClient.Builder webClientBuilder;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<OutboundTarget, ConnectionProvider> connectionProviders = new EnumMap<>(OutboundTarget.class);
+    private final Map<OutboundTarget, ResilientExchangeFilter> filters = new EnumMap<>(OutboundTarget.class);
+
+    public OutboundClientFactory(WebClient.Builder webClientBuilder,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry) {
+        this.webClientBuilder = webClientBuilder;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 대상 설정이 적용된 WebClient.Builder (baseUrl, 코덱 등은 호출 측에서 추가)
+     */
+    public synchronized WebClient.Builder builder(OutboundTarget target) {
+        HttpClient httpClient = HttpClient.create(connectionProviders.computeIfAbsent(target, this::createConnectionProvider))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, property(target, "connect-timeout-ms", target.getConnectTimeoutMs()))
+                .responseTimeout(Duration.ofMillis(property(target, "response-timeout-ms", target.getResponseTimeoutMs())));
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(filters.computeIfAbsent(target, this::createFilter));
+    }
+
+    private ConnectionProvider createConnectionProvider(OutboundTarget target) {
+        return ConnectionProvider.builder("outbound-" + target.getKey())
+                .maxConnections(property(target, "max-connections", target.getMaxConnections()))
+                .pendingAcquireTimeout(Duration.ofMillis(property(target, "pending-acquire-timeout-ms", 2_000)))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .build();
+    }
+
+    private ResilientExchangeFilter createFilter(OutboundTarget target) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                property(target, "circuit.window-size", 20),
+                property(target, "circuit.minimum-calls", 10),
+                property(target, "circuit.failure-rate-threshold", 50),
+                Duration.ofMillis(property(target, "circuit.open-duration-ms", 30_000)));
+        meterRegistry.gauge("http.outbound.circuit.state", Tags.of("target", target.getKey()),
+                circuitBreaker, breaker -> breaker.getState().ordinal());
+
+        int ratePerSecond = property(target, "rate-per-second", target.getRatePerSecond());
+        TokenBucket tokenBucket = ratePerSecond > 0
+                ? new TokenBucket(ratePerSecond, property(target, "burst", ratePerSecond))
+                : null;
+
+        return new ResilientExchangeFilter(
+                target,
+                circuitBreaker,
+                tokenBucket,
+                Duration.ofMillis(property(target, "rate-limit-max-wait-ms", 3_000)),
+                property(target, "max-retries", target.getMaxRetries()),
+                Duration.ofMillis(property(target, "retry-backoff-ms", 200)),
+                meterRegistry);
+    }
+
+    private int property(OutboundTarget target, String name, int defaultValue) {
+        return environment.getProperty(PROPERTY_PREFIX + target.getKey() + "." + name, Integer.class, defaultValue);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,25 @@
+package com.flipflick.backend.common.http;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 연동 대상별 HTTP 클라이언트 기본 설정
+ * 값은 flipflick.http.{key}.* 프로퍼티로 덮어쓸 수 있음 (OutboundClientFactory 참고)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboundTarget {
+
+    TMDB("tmdb", 2_000, 5_000, 50, 2, 40),
+    KOBIS("kobis", 2_000, 10_000, 10, 2, 0),
+    KAKAO("kakao", 2_000, 5_000, 20, 1, 0),
+    NAVER("naver", 2_000, 5_000, 20, 1, 0);
+
+    private final String key;
+    private final int connectTimeoutMs;
+    private final int responseTimeoutMs;
+    private final int maxConnections;
+    private final int maxRetries;       // GET 요청에만 적용
+    private final int ratePerSecond;    // 0 이면 요청 속도 제한 없음
+}
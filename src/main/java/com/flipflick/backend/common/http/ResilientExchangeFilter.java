@@ -0,0 +1,163 @@
+package com.flipflick.backend.common.http;
+
+import com.flipflick.backend.common.exception.ServiceUnavailableException;
+import com.flipflick.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 연동 공통 필터 (요청 시도마다 서킷 브레이커 → 토큰 버킷 → 호출 → 메트릭 기록)
+ * - 5xx / 429 / 연결·타임아웃 오류를 실패로 집계
+ * - GET 요청만 지터가 섞인 지수 백오프로 재시도 (NO_RETRY 속성이 붙은 요청 제외)
+ * - 메트릭: http.outbound.requests (target, method, endpoint, status, outcome), http.outbound.retries
+ */
+@Slf4j
+public class ResilientExchangeFilter implements ExchangeFilterFunction {
+
+    /**
+     * 재시도하면 안 되는 GET 요청에 붙이는 요청 속성 (예: 일회용 인가 코드로 토큰을 발급받는 호출)
+     * 사용: .attribute(ResilientExchangeFilter.NO_RETRY, true)
+     */
+    public static final String NO_RETRY = ResilientExchangeFilter.class.getName() + ".NO_RETRY";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final double RETRY_JITTER = 0.5;
+
+    private final OutboundTarget target;
+    private final CircuitBreaker circuitBreaker;
+    private final TokenBucket tokenBucket;
+    private final Duration maxRateLimitWait;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientExchangeFilter(OutboundTarget target,
+                                   CircuitBreaker circuitBreaker,
+                                   TokenBucket tokenBucket,
+                                   Duration maxRateLimitWait,
+                                   int maxRetries,
+                                   Duration retryBackoff,
+                                   MeterRegistry meterRegistry) {
+        this.target = target;
+        this.circuitBreaker = circuitBreaker;
+        this.tokenBucket = tokenBucket;
+        this.maxRateLimitWait = maxRateLimitWait;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = endpoint(request);
+        Mono<ClientResponse> attempt = Mono.defer(() -> attempt(request, endpoint, next));
+
+        // 멱등하지 않은 요청(POST 등)과 NO_RETRY 요청은 재시도하지 않음
+        if (request.method() != HttpMethod.GET || maxRetries < 1 || isNoRetry(request)) {
+            return attempt;
+        }
+        return attempt.retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                .jitter(RETRY_JITTER)
+                .filter(ResilientExchangeFilter::isRetryable)
+                .doBeforeRetry(signal -> {
+                    meterRegistry.counter("http.outbound.retries", "target", target.getKey(), "endpoint", endpoint).increment();
+                    log.debug("외부 API 재시도 - 대상: {}, 경로: {}, 시도: {}", target, endpoint, signal.totalRetries() + 1);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, String endpoint, ExchangeFunction next) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(request, endpoint, "NONE", "REJECTED", 0L);
+            return Mono.error(new ServiceUnavailableException(ErrorStatus.EXTERNAL_API_UNAVAILABLE.getMessage()));
+        }
+
+        long waitNanos = tokenBucket == null ? 0L : tokenBucket.reserve(maxRateLimitWait);
+        if (waitNanos < 0) {
+            circuitBreaker.release();
+            record(request, endpoint, "NONE", "RATE_LIMITED", 0L);
+            return Mono.error(new ServiceUnavailableException(ErrorStatus.EXTERNAL_API_UNAVAILABLE.getMessage()));
+        }
+
+        Mono<Long> delay = waitNanos == 0L ? Mono.just(0L) : Mono.delay(Duration.ofNanos(waitNanos));
+        return delay
+                .then(Mono.defer(() -> exchange(request, endpoint, next)))
+                .doOnCancel(circuitBreaker::release);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, String endpoint, ExchangeFunction next) {
+        long start = System.nanoTime();
+        return next.exchange(request)
+                .onErrorResume(e -> {
+                    circuitBreaker.onFailure();
+                    record(request, endpoint, "IO_ERROR", "IO_ERROR", System.nanoTime() - start);
+                    return Mono.error(e);
+                })
+                .flatMap(response -> {
+                    int status = response.statusCode().value();
+                    long elapsed = System.nanoTime() - start;
+
+                    if (isFailureStatus(status)) {
+                        circuitBreaker.onFailure();
+                        record(request, endpoint, String.valueOf(status), "SERVER_ERROR", elapsed);
+                        // 본문을 소비해 커넥션을 반납하고, retrieve() 와 같은 예외로 전달
+                        return response.createException().flatMap(Mono::error);
+                    }
+
+                    circuitBreaker.onSuccess();
+                    record(request, endpoint, String.valueOf(status), response.statusCode().isError() ? "CLIENT_ERROR" : "SUCCESS", elapsed);
+                    return Mono.just(response);
+                });
+    }
+
+    private void record(ClientRequest request, String endpoint, String status, String outcome, long elapsedNanos) {
+        Timer.builder("http.outbound.requests")
+                .tag("target", target.getKey())
+                .tag("method", request.method().name())
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 경로의 숫자 ID 를 {id} 로 치환해 메트릭 태그 카디널리티를 제한 (/movie/550/credits → /movie/{id}/credits)
+    private static String endpoint(ClientRequest request) {
+        String path = request.url().getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private static boolean isNoRetry(ClientRequest request) {
+        return Boolean.TRUE.equals(request.attribute(NO_RETRY).orElse(null));
+    }
+
+    private static boolean isFailureStatus(int status) {
+        return status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return isFailureStatus(responseException.getStatusCode().value());
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.flipflick.backend.common.http;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트 측 토큰 버킷 (초당 ratePerSecond 개 충전, 최대 capacity 개 보관)
+ * 토큰을 먼저 예약하고 사용 가능 시점까지의 대기 시간을 돌려주므로, 호출 스레드를 막지 않고 요청을 지연시킬 수 있음
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int ratePerSecond, int capacity) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 예약
+     * @return 토큰을 쓸 수 있을 때까지 기다려야 하는 시간(ns), 대기 시간이 maxWait 을 넘으면 예약하지 않고 -1
+     */
+    public synchronized long reserve(Duration maxWait) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+
+        // 음수 토큰 = 앞선 예약들이 이미 기다리고 있는 몫
+        long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        if (waitNanos > maxWait.toNanos()) {
+            return -1L;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+}
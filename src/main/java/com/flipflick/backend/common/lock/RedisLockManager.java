@@ -0,0 +1,53 @@
+package com.flipflick.backend.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ECS 태스크 간 공유되는 Redis 기반 단순 분산 락 (SET NX PX + 토큰 비교 해제)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockManager {
+
+    // 자신이 잡은 락만 해제하도록 토큰이 일치할 때만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 자신이 잡은 락일 때만 만료 시간을 다시 설정
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redis;
+
+    // 락 획득 시 해제용 토큰 반환, 이미 점유 중이면 empty
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redis.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redis.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+
+    // 오래 걸리는 작업이 진행 중에 락을 잃지 않도록 만료 시간 연장, 이미 다른 토큰이 잡았으면 false
+    public boolean extend(String key, String token, Duration ttl) {
+        Long extended = redis.execute(EXTEND_SCRIPT, List.of(key), token, ttl.toMillis());
+        return extended != null && extended == 1L;
+    }
+
+    public boolean isLocked(String key) {
+        return Boolean.TRUE.equals(redis.hasKey(key));
+    }
+}
@@ -0,0 +1,64 @@
+package com.flipflick.backend.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없이 다음 커서만 반환)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    @Schema(description = "목록")
+    private List<T> content;
+
+    @Schema(description = "요청한 페이지 크기")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    /**
+     * size + 1 건 조회 결과로 응답 생성
+     * @param rows     size + 1 건까지 조회한 행
+     * @param mapper   응답 DTO 변환
+     * @param cursorOf 행의 정렬 키
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper,
+                                                  Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회하는 Pageable (count 쿼리 없음)
+     */
+    public static Pageable limit(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+}
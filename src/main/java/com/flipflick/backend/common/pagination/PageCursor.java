@@ -0,0 +1,61 @@
+package com.flipflick.backend.common.pagination;
+
+import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (score, createdAt, id)
+ * - 최신순: (createdAt, id), 인기순: (score = likeCnt 등, createdAt, id)
+ * - 클라이언트에는 Base64 URL-safe 문자열로만 노출
+ * - 첫 페이지는 모든 행보다 크거나(내림차순) 작은(오름차순) sentinel 커서를 사용해 조건 분기 없이 같은 쿼리로 조회
+ */
+public record PageCursor(long score, LocalDateTime createdAt, long id) {
+
+    private static final PageCursor FIRST = new PageCursor(Long.MAX_VALUE, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final PageCursor FIRST_ASCENDING = new PageCursor(Long.MIN_VALUE, LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    private static final String DELIMITER = "|";
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(0L, createdAt, id);
+    }
+
+    public static PageCursor of(Long score, LocalDateTime createdAt, Long id) {
+        return new PageCursor(score == null ? 0L : score, createdAt, id);
+    }
+
+    /**
+     * 요청 커서 해석 - 내림차순 목록 (없으면 첫 페이지)
+     */
+    public static PageCursor decode(String cursor) {
+        return decode(cursor, FIRST);
+    }
+
+    /**
+     * 요청 커서 해석 - 오름차순 목록 (없으면 첫 페이지)
+     */
+    public static PageCursor decodeAscending(String cursor) {
+        return decode(cursor, FIRST_ASCENDING);
+    }
+
+    private static PageCursor decode(String cursor, PageCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            return new PageCursor(Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+
+    public String encode() {
+        String raw = score + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.flipflick.backend.common.reaction;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰/토론 "핫" 정렬 점수 (hot_score 컬럼)
+ * - 점수 = sign(좋아요 - 싫어요) * log10(max(|좋아요 - 싫어요|, 1)) + (작성 시각 - 기준 시각) / GRAVITY_SECONDS
+ * - 작성 시각 항이 시간에 따라 커지므로 오래된 글은 새 글보다 반응이 10 배 많아야 같은 순위 (GRAVITY_SECONDS 마다)
+ * - 현재 시각이 아니라 작성 시각 기준이라 시간이 지나도 다시 계산할 필요 없이, 반응이 반영될 때만 갱신
+ * - 커서 키셋에 그대로 쓸 수 있도록 SCALE 을 곱한 정수로 저장
+ */
+public final class HotScore {
+
+    public static final long GRAVITY_SECONDS = 45_000L;
+    public static final long SCALE = 1_000_000L;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /**
+     * like_cnt / hate_cnt / created_at 컬럼 기준 SQL 식 (UPDATE 의 SET 절에서 like_cnt, hate_cnt 갱신 뒤에 사용)
+     */
+    public static final String SQL_EXPRESSION = "ROUND((SIGN(like_cnt - hate_cnt) * LOG10(GREATEST(ABS(like_cnt - hate_cnt), 1))"
+            + " + TIMESTAMPDIFF(SECOND, '2025-01-01 00:00:00', created_at) / " + GRAVITY_SECONDS + ") * " + SCALE + ")";
+
+    private HotScore() {
+    }
+
+    public static long of(long likeCnt, long hateCnt, LocalDateTime createdAt) {
+        long diff = likeCnt - hateCnt;
+        double votes = Math.signum(diff) * Math.log10(Math.max(Math.abs(diff), 1L));
+        double age = (double) Duration.between(EPOCH, createdAt).getSeconds() / GRAVITY_SECONDS;
+        return Math.round((votes + age) * SCALE);
+    }
+}
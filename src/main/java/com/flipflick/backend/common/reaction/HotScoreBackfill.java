@@ -0,0 +1,108 @@
+package com.flipflick.backend.common.reaction;
+
+import com.flipflick.backend.common.lock.RedisLockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * hot_score 컬럼 추가 전에 작성된 리뷰/토론의 핫 점수 채우기
+ * - 기동 후 배치 스레드에서 PK 키셋으로 batchSize 건씩 짧은 트랜잭션으로 처리 (이후 작성분은 엔티티가, 반응 반영분은 ReactionCounter 가 채움)
+ * - 끝까지 채우면 완료 표시를 남겨 다음 기동부터는 실행하지 않음
+ */
+@Component
+@Slf4j
+public class HotScoreBackfill {
+
+    private static final String LOCK_KEY = "reaction:hot-score-backfill:lock";
+    private static final String DONE_KEY = "reaction:hot-score-backfill:done";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redis;
+    private final RedisLockManager redisLockManager;
+    private final TransactionTemplate backfillTx;
+    private final Executor batchTaskExecutor;
+    private final int batchSize;
+
+    public HotScoreBackfill(JdbcTemplate jdbcTemplate,
+                            StringRedisTemplate redis,
+                            RedisLockManager redisLockManager,
+                            PlatformTransactionManager transactionManager,
+                            Executor batchTaskExecutor,
+                            @Value("${flipflick.reaction.hot-score-backfill-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redis = redis;
+        this.redisLockManager = redisLockManager;
+        this.backfillTx = new TransactionTemplate(transactionManager);
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        batchTaskExecutor.execute(this::backfill);
+    }
+
+    private void backfill() {
+        if (Boolean.TRUE.equals(redis.hasKey(DONE_KEY))) {
+            return;
+        }
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            for (ReactionTarget target : ReactionTarget.values()) {
+                if (target.isHotScored()) {
+                    backfill(target, token.get());
+                }
+            }
+            redis.opsForValue().set(DONE_KEY, "1");
+        } catch (Exception e) {
+            // 완료 표시가 없으므로 다음 기동 때 처음부터 다시 채움 (이미 채운 행은 hot_score = 0 조건에서 빠짐)
+            log.error("핫 점수 채우기 실패", e);
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    private void backfill(ReactionTarget target, String token) {
+        String table = target.getTable();
+        String idColumn = target.getIdColumn();
+        String boundSql = "SELECT MAX(" + idColumn + ") FROM (SELECT " + idColumn + " FROM " + table
+                + " WHERE " + idColumn + " > ? ORDER BY " + idColumn + " LIMIT ?) batch";
+        String updateSql = "UPDATE " + table + " SET hot_score = " + HotScore.SQL_EXPRESSION
+                + " WHERE " + idColumn + " > ? AND " + idColumn + " <= ? AND hot_score = 0";
+
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            Long upperId = jdbcTemplate.queryForObject(boundSql, Long.class, lastId, batchSize);
+            if (upperId == null) {
+                break;
+            }
+            long from = lastId;
+            Integer updated = backfillTx.execute(status -> jdbcTemplate.update(updateSql, from, upperId));
+            total += updated == null ? 0 : updated;
+            lastId = upperId;
+
+            if (!redisLockManager.extend(LOCK_KEY, token, LOCK_TTL)) {
+                throw new IllegalStateException("핫 점수 채우기 락을 잃어 중단합니다: " + LOCK_KEY);
+            }
+        }
+        if (total > 0) {
+            log.info("핫 점수 채우기 완료 - 대상: {}, 행 수: {}", target, total);
+        }
+    }
+}
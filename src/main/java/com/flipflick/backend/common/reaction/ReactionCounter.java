@@ -0,0 +1,289 @@
+package com.flipflick.backend.common.reaction;
+
+import com.flipflick.backend.common.lock.RedisLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요/싫어요 write-behind 카운터
+ * - 토글 시 부모 행(movie/review/debate)을 갱신하지 않고 커밋 후 Redis HINCRBY 로 증감분만 누적
+ *   (reaction:delta:{target} 해시, 필드 {id}:like / {id}:hate)
+ * - 주기적으로 해시를 flushing 키로 RENAME 해 떼어낸 뒤 like_cnt = like_cnt + ? 배치 UPDATE 로 반영
+ * - *_like_hate 테이블 기준으로 주기적으로 정합성 보정 (Redis 장애 등으로 유실된 증감분 복구)
+ *   보정은 읽은 값이 그대로인 행만 덮어씀 (그 사이 반영된 증감분을 지우지 않도록)
+ * - 리뷰/토론은 같은 UPDATE 에서 hot_score 도 다시 계산 (HotScore, 컬럼 추가 전 행은 HotScoreBackfill 이 한 번 채움)
+ */
+@Component
+@Slf4j
+public class ReactionCounter {
+
+    private static final String KEY_PREFIX = "reaction:delta:";
+    private static final String FLUSHING_SUFFIX = ":flushing";
+    private static final String LOCK_KEY = "reaction:flush:lock";
+    private static final String LIKE = "like";
+    private static final String HATE = "hate";
+
+    private final StringRedisTemplate redis;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTx;
+    private final RedisLockManager redisLockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    public ReactionCounter(StringRedisTemplate redis,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           RedisLockManager redisLockManager,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTx = new TransactionTemplate(transactionManager);
+        this.redisLockManager = redisLockManager;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 증감분 등록 (현재 트랜잭션이 커밋된 뒤에 누적)
+     * @param persisted 부모 엔티티에 저장된 좋아요/싫어요 수
+     * @return 반영 대기 중인 증감분과 이번 증감분을 합친 좋아요/싫어요 수
+     */
+    public ReactionCounts apply(ReactionTarget target, Long id, ReactionCounts persisted, long likeDelta, long hateDelta) {
+        long[] pending = pending(target, id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(target, id, likeDelta, hateDelta);
+                }
+            });
+        } else {
+            increment(target, id, likeDelta, hateDelta);
+        }
+
+        return new ReactionCounts(
+                Math.max(0L, persisted.likeCnt() + pending[0] + likeDelta),
+                Math.max(0L, persisted.hateCnt() + pending[1] + hateDelta));
+    }
+
+    /**
+     * 모든 대상의 누적 증감분을 DB 에 반영
+     */
+    public void flushAll() {
+        withLock(() -> {
+            for (ReactionTarget target : ReactionTarget.values()) {
+                try {
+                    flush(target);
+                } catch (Exception e) {
+                    // flushing 키가 남아 있으므로 다음 주기에 다시 반영
+                    log.error("좋아요/싫어요 반영 실패 - 대상: {}", target, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * *_like_hate 테이블 기준으로 부모 테이블의 좋아요/싫어요 수 보정
+     * 기대값 = 테이블 행 수 (아직 반영되지 않은 증감분이 있는 행은 건너뜀)
+     */
+    public void reconcileAll() {
+        withLock(() -> {
+            for (ReactionTarget target : ReactionTarget.values()) {
+                try {
+                    reconcile(target);
+                } catch (Exception e) {
+                    log.error("좋아요/싫어요 정합성 보정 실패 - 대상: {}", target, e);
+                }
+            }
+        });
+    }
+
+    private void increment(ReactionTarget target, Long id, long likeDelta, long hateDelta) {
+        try {
+            String key = key(target);
+            if (likeDelta != 0) {
+                redis.opsForHash().increment(key, field(id, LIKE), likeDelta);
+            }
+            if (hateDelta != 0) {
+                redis.opsForHash().increment(key, field(id, HATE), hateDelta);
+            }
+        } catch (DataAccessException e) {
+            // 유실된 증감분은 정합성 보정에서 복구
+            log.error("좋아요/싫어요 증감 누적 실패 - 대상: {}, ID: {}", target, id, e);
+        }
+    }
+
+    private void flush(ReactionTarget target) {
+        String active = key(target);
+        String flushing = active + FLUSHING_SUFFIX;
+
+        // 이전 flush 가 실패해 남은 flushing 키가 있으면 그것부터 반영
+        if (!Boolean.TRUE.equals(redis.hasKey(flushing))) {
+            if (!Boolean.TRUE.equals(redis.hasKey(active))) {
+                return;
+            }
+            redis.rename(active, flushing);
+        }
+
+        Map<Long, long[]> deltas = parse(redis.opsForHash().entries(flushing));
+        List<Map.Entry<Long, long[]>> rows = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .toList();
+
+        if (!rows.isEmpty()) {
+            String sql = "UPDATE " + target.getTable()
+                    + " SET like_cnt = GREATEST(like_cnt + ?, 0), hate_cnt = GREATEST(hate_cnt + ?, 0)" + hotScoreSet(target)
+                    + " WHERE " + target.getIdColumn() + " = ?";
+            flushTx.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, row.getValue()[0]);
+                        ps.setLong(2, row.getValue()[1]);
+                        ps.setLong(3, row.getKey());
+                    }));
+        }
+        redis.delete(flushing);
+
+        if (!rows.isEmpty()) {
+            meterRegistry.counter("reaction.flushed", "target", target.name().toLowerCase()).increment(rows.size());
+            eventPublisher.publishEvent(new ReactionFlushedEvent(this, target, new HashSet<>(deltas.keySet())));
+        }
+    }
+
+    private void reconcile(ReactionTarget target) {
+        // 반영 대기 중인 증감분이 있는 행은 건너뛰고 다음 보정에 맡김
+        // 행 수를 읽기 전에 한 번, 부모 테이블까지 읽은 뒤 한 번 더 확인해 그 사이 누적된 토글도 제외
+        // (행 수와 증감분을 따로 읽어 빼면 두 읽기 사이에 커밋된 토글이 한쪽에만 잡혀 하나 적거나 많게 보정됨)
+        Set<Long> skipped = pendingIds(target);
+
+        Map<Long, long[]> expected = new HashMap<>();
+        jdbcTemplate.query("SELECT " + target.getForeignKey() + ", SUM(type = 'LIKE'), SUM(type = 'HATE') FROM "
+                        + target.getLikeHateTable() + " GROUP BY " + target.getForeignKey(),
+                rs -> {
+                    expected.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+                });
+
+        // [id, 기대 좋아요, 기대 싫어요, 읽은 좋아요, 읽은 싫어요]
+        List<long[]> candidates = new ArrayList<>();
+        jdbcTemplate.query("SELECT " + target.getIdColumn() + ", like_cnt, hate_cnt FROM " + target.getTable(), rs -> {
+            long id = rs.getLong(1);
+            long[] rows = expected.getOrDefault(id, new long[2]);
+            if (rs.getLong(2) != rows[0] || rs.getLong(3) != rows[1]) {
+                candidates.add(new long[]{id, rows[0], rows[1], rs.getLong(2), rs.getLong(3)});
+            }
+        });
+
+        skipped.addAll(pendingIds(target));
+        List<long[]> fixes = candidates.stream()
+                .filter(fix -> !skipped.contains(fix[0]))
+                .toList();
+
+        if (fixes.isEmpty()) {
+            return;
+        }
+        // 읽은 뒤 다른 flush 가 반영한 행(락 TTL 초과 등)은 값이 달라졌으므로 덮어쓰지 않고 다음 보정에 맡김
+        String sql = "UPDATE " + target.getTable() + " SET like_cnt = ?, hate_cnt = ?" + hotScoreSet(target)
+                + " WHERE " + target.getIdColumn() + " = ? AND like_cnt = ? AND hate_cnt = ?";
+        flushTx.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(sql, fixes, 1000, (ps, fix) -> {
+                    ps.setLong(1, fix[1]);
+                    ps.setLong(2, fix[2]);
+                    ps.setLong(3, fix[0]);
+                    ps.setLong(4, fix[3]);
+                    ps.setLong(5, fix[4]);
+                }));
+
+        Set<Long> ids = new HashSet<>();
+        fixes.forEach(fix -> ids.add(fix[0]));
+        meterRegistry.counter("reaction.reconciled", "target", target.name().toLowerCase()).increment(ids.size());
+        eventPublisher.publishEvent(new ReactionFlushedEvent(this, target, ids));
+        log.info("좋아요/싫어요 정합성 보정 - 대상: {}, 보정 행 수: {}", target, ids.size());
+    }
+
+    // 반영 대기 중인 증감분이 있는 ID (누적 중 + flush 중)
+    private Set<Long> pendingIds(ReactionTarget target) {
+        Set<Long> ids = new HashSet<>();
+        for (String key : List.of(key(target), key(target) + FLUSHING_SUFFIX)) {
+            parse(redis.opsForHash().entries(key)).forEach((id, delta) -> {
+                if (delta[0] != 0 || delta[1] != 0) {
+                    ids.add(id);
+                }
+            });
+        }
+        return ids;
+    }
+
+    // 반영 대기 중인 증감분 (누적 중 + flush 중)
+    private long[] pending(ReactionTarget target, Long id) {
+        long[] pending = new long[2];
+        try {
+            List<Object> fields = List.of(field(id, LIKE), field(id, HATE));
+            for (String key : List.of(key(target), key(target) + FLUSHING_SUFFIX)) {
+                List<Object> values = redis.opsForHash().multiGet(key, fields);
+                pending[0] += toLong(values.get(0));
+                pending[1] += toLong(values.get(1));
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요/싫어요 증감분 조회 실패 - 대상: {}, ID: {}", target, id);
+        }
+        return pending;
+    }
+
+    private Map<Long, long[]> parse(Map<Object, Object> entries) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        entries.forEach((field, value) -> {
+            String[] parts = field.toString().split(":");
+            long[] delta = deltas.computeIfAbsent(Long.valueOf(parts[0]), id -> new long[2]);
+            delta[LIKE.equals(parts[1]) ? 0 : 1] += toLong(value);
+        });
+        return deltas;
+    }
+
+    private void withLock(Runnable task) {
+        Optional<String> token = redisLockManager.tryLock(LOCK_KEY, Duration.ofMinutes(5));
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            redisLockManager.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 갱신된 like_cnt/hate_cnt 로 계산됨
+    private static String hotScoreSet(ReactionTarget target) {
+        return target.isHotScored() ? ", hot_score = " + HotScore.SQL_EXPRESSION : "";
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private static String key(ReactionTarget target) {
+        return KEY_PREFIX + target.name().toLowerCase();
+    }
+
+    private static String field(Long id, String type) {
+        return id + ":" + type;
+    }
+}
@@ -0,0 +1,7 @@
+package com.flipflick.backend.common.reaction;
+
+/**
+ * DB 에 반영된 값 + 아직 반영되지 않은 증감분을 합친 좋아요/싫어요 수
+ */
+public record ReactionCounts(long likeCnt, long hateCnt) {
+}
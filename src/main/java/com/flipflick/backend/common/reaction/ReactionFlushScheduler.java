@@ -0,0 +1,38 @@
+package com.flipflick.backend.common.reaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReactionFlushScheduler {
+
+    private final ReactionCounter reactionCounter;
+
+    /**
+     * 누적된 좋아요/싫어요 증감분을 주기적으로 DB 에 반영 (기본 5초)
+     */
+    @Scheduled(fixedDelayString = "${flipflick.reaction.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            reactionCounter.flushAll();
+        } catch (Exception e) {
+            log.error("[Scheduler] 좋아요/싫어요 반영 실패", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 05:00 (Asia/Seoul) 에 *_like_hate 테이블 기준으로 좋아요/싫어요 수 보정
+     */
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            reactionCounter.reconcileAll();
+        } catch (Exception e) {
+            log.error("[Scheduler] 좋아요/싫어요 정합성 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.flipflick.backend.common.reaction;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * 좋아요/싫어요 수가 DB 에 반영(flush/정합성 보정)되었음을 알리는 이벤트
+ */
+public class ReactionFlushedEvent extends ApplicationEvent {
+    private final ReactionTarget target;
+    private final Set<Long> ids;
+
+    public ReactionFlushedEvent(Object source, ReactionTarget target, Set<Long> ids) {
+        super(source);
+        this.target = target;
+        this.ids = ids;
+    }
+
+    public ReactionTarget getTarget() {
+        return target;
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+}
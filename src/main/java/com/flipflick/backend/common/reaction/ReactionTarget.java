@@ -0,0 +1,24 @@
+package com.flipflick.backend.common.reaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요/싫어요 카운터 대상 (부모 테이블과 *_like_hate 테이블 매핑)
+ * - idColumn: 부모 테이블의 PK 컬럼, foreignKey: *_like_hate 테이블의 부모 FK 컬럼
+ * - hotScored: 좋아요/싫어요 반영 시 hot_score 도 함께 갱신하는 대상
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReactionTarget {
+
+    MOVIE("movie", "id", "movie_like_hate", "movie_id", false),
+    REVIEW("review", "review_id", "review_like_hate", "review_id", true),
+    DEBATE("debate", "debate_id", "debate_like_hate", "debate_id", true);
+
+    private final String table;
+    private final String idColumn;
+    private final String likeHateTable;
+    private final String foreignKey;
+    private final boolean hotScored;
+}
@@ -35,6 +35,9 @@ public enum ErrorStatus {
     FOLLOW_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 팔로우 중입니다."),
     SELF_FOLLOW_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "자신은 팔로우할 수 없습니다."),
     INCORRECT_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"올바르지 않은 회원입니다."),
+    MOVIE_MY_STATE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST,"한 번에 조회할 수 있는 영화 수를 초과했습니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST,"유효하지 않은 커서입니다."),
+    CURSOR_SORT_NOT_SUPPORTED(HttpStatus.BAD_REQUEST,"커서 조회를 지원하지 않는 정렬 기준입니다."),
     INVALID_STATUS(HttpStatus.BAD_REQUEST,"유효하지 않은 상태입니다."),
     ALREADY_REPORT(HttpStatus.BAD_REQUEST,"이미 처리된 신고 입니다."),
     INVALID_REPORT_ACTION(HttpStatus.BAD_REQUEST,"유효하지 않은 신고 처리 요청 입니다."),
@@ -47,6 +50,8 @@ public enum ErrorStatus {
     PASSWORD_RESET_EXPIRED_CODE(HttpStatus.BAD_REQUEST, "비밀번호 재설정 코드가 만료되었습니다."),
     PASSWORD_RESET_ALREADY_USED(HttpStatus.BAD_REQUEST, "이미 사용된 비밀번호 재설정 코드입니다."),
     INVALID_REPORT_TYPE_ACTION(HttpStatus.BAD_REQUEST,"유효하지 않은 신고 타입입니다."),
+    EXPORT_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST,"가져올 TMDB 덤프 파일을 찾을 수 없습니다."),
+    EXPORT_IMPORT_ALREADY_RUNNING(HttpStatus.BAD_REQUEST,"TMDB 덤프 가져오기가 이미 진행 중입니다."),
 
     /**
      * 401 UNAUTHORIZED
@@ -94,6 +99,11 @@ public enum ErrorStatus {
      * 500 SERVER_ERROR
      */
     NO_RESPONSE_TMDB_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "데이터 조회 중 에러가 발생하였습니다."),
+
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus httpStatus;
@@ -44,6 +44,7 @@ public enum SuccessStatus {
     SEND_REVIEW_UPDATE_SUCCESS(HttpStatus.OK, "리뷰 수정 성공"),
     SEND_REVIEW_DELETE_SUCCESS(HttpStatus.OK, "리뷰 삭제 성공"),
     SEND_REVIEW_LIST_SUCCESS(HttpStatus.OK, "리뷰 목록 조회 성공"),
+    SEND_REVIEW_CONTENT_SUCCESS(HttpStatus.OK, "리뷰 본문 조회 성공"),
     SEND_REVIEW_LIKE_HATE_SUCCESS(HttpStatus.OK, "리뷰 좋아요/싫어요 처리 성공"),
     SEND_POPCORN_SCORE_SUCCESS(HttpStatus.OK, "팝콘지수 조회 성공"),
     SEND_POPCORN_SCORE_RECALCULATE_SUCCESS(HttpStatus.OK, "팝콘지수 재계산 성공"),
@@ -57,11 +58,13 @@ public enum SuccessStatus {
     UPDATE_SOCIAL_INFO_SUCCESS(HttpStatus.OK,"소셜 로그인 정보 설정 성공"),
     SEND_MOVIE_LIKE_HATE_SUCCESS(HttpStatus.OK,"좋아요, 싫어요 토글 성공"),
     SEND_MOVIE_LIKE_LIST_SUCCESS(HttpStatus.OK,"좋아요 한 영화 목록 조회 성공"),
+    SEND_MOVIE_MY_STATE_SUCCESS(HttpStatus.OK,"영화 내 상태 조회 성공"),
     DASHBOARD_STAT_READ_SUCCESS(HttpStatus.OK, "대시보드 통계 조회 성공"),
     POPCORN_GRADE_STAT_READ_SUCCESS(HttpStatus.OK, "팝콘 등급 분포 조회 성공"),
     TOP_MOVIES_BY_REVIEW_SUCCESS(HttpStatus.OK, "리뷰 많은 영화 Top 5 조회 성공"),
     MEMBER_LIST_SUCCESS(HttpStatus.OK, "회원 목록 조회 성공"),
     MEMBER_STATUS_UPDATE_SUCCESS(HttpStatus.OK, "회원 상태 변경 성공"),
+    MOVIE_EXPORT_IMPORT_START_SUCCESS(HttpStatus.OK, "TMDB 덤프 가져오기 시작"),
     SEND_MEMBER_LIST_SUCCESS(HttpStatus.OK,"사용자 리스트 조회 성공"),
     SEND_DEBATE_CREATE_SUCCESS(HttpStatus.OK, "토론 작성 성공"),
     SEND_DEBATE_UPDATE_SUCCESS(HttpStatus.OK, "토론 수정 성공"),
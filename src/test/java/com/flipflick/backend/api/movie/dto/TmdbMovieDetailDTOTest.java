@@ -0,0 +1,103 @@
+package com.flipflick.backend.api.movie.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipflick.backend.api.cast.dto.TmdbPersonDetailDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TMDB/KOBIS 응답 fixture 디코딩 확인 (src/test/resources/tmdb)
+ */
+class TmdbMovieDetailDTOTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("append_to_response 상세 응답에서 사용하는 필드만 읽고 나머지는 건너뜀")
+    void decodeMovieDetail() throws IOException {
+        TmdbMovieDetailDTO detail = read("movie_detail_550.json");
+
+        assertThat(detail.getId()).isEqualTo(550L);
+        assertThat(detail.getTitle()).isEqualTo("파이트 클럽");
+        assertThat(detail.getOriginalTitle()).isEqualTo("Fight Club");
+        assertThat(detail.getReleaseDate()).isEqualTo("1999-10-15");
+        assertThat(detail.getRuntime()).isEqualTo(139);
+        assertThat(detail.getGenres()).extracting(TmdbMovieDetailDTO.Genre::getId).containsExactly(18L, 53L);
+        assertThat(detail.getProductionCountries()).extracting(TmdbMovieDetailDTO.Country::getName)
+                .containsExactly("United States of America");
+        assertThat(detail.getImages().getBackdrops()).extracting(TmdbMovieDetailDTO.Image::getFilePath)
+                .containsExactly("/hZkgoQYus5vegHoetLkCJzb17zJ.jpg", "/rr7E0NoGKxvbkb89eR1GwfoYjpA.jpg");
+        assertThat(detail.getVideos().getResults()).extracting(TmdbMovieDetailDTO.Video::getKey)
+                .containsExactly("qtRKdVHc-cE");
+
+        TmdbMovieDetailDTO.RegionProviders kr = detail.getWatchProviders().getResults().getKr();
+        assertThat(kr.getFlatrate()).extracting(TmdbMovieDetailDTO.WatchProvider::getProviderName)
+                .containsExactly("Netflix");
+        assertThat(kr.getRent()).extracting(TmdbMovieDetailDTO.WatchProvider::getProviderId).containsExactly(3L);
+        assertThat(kr.getBuy()).isEmpty();
+
+        assertThat(detail.getReleaseDates().getResults())
+                .filteredOn(country -> "KR".equals(country.getCountry()))
+                .flatExtracting(TmdbMovieDetailDTO.CountryReleaseDates::getReleaseDates)
+                .extracting(TmdbMovieDetailDTO.ReleaseDate::getCertification)
+                .containsExactly("18");
+        assertThat(detail.getCredits().getCast()).extracting(TmdbMovieDetailDTO.CastMember::getName)
+                .containsExactly("Edward Norton", "Brad Pitt");
+        assertThat(detail.getCredits().getCast().get(1).getProfilePath()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록/하위 객체가 명시적 null 로 와도 빈 값으로 읽음")
+    void decodeExplicitNulls() throws IOException {
+        TmdbMovieDetailDTO detail = read("movie_detail_nulls.json");
+
+        assertThat(detail.getId()).isEqualTo(1184918L);
+        assertThat(detail.getRuntime()).isNull();
+        assertThat(detail.getGenres()).isEmpty();
+        assertThat(detail.getProductionCountries()).isEmpty();
+        assertThat(detail.getVideos().getResults()).isEmpty();
+        assertThat(detail.getImages().getBackdrops()).isEmpty();
+        assertThat(detail.getWatchProviders().getResults().getKr()).isNull();
+        assertThat(detail.getReleaseDates().getResults()).hasSize(1);
+        assertThat(detail.getReleaseDates().getResults().get(0).getReleaseDates()).isEmpty();
+        assertThat(detail.getCredits().getCast()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("append 항목이 아예 없는 응답(/movie/{id}/credits 등)도 빈 값으로 읽음")
+    void decodeMissingAppends() throws IOException {
+        TmdbMovieDetailDTO detail = objectMapper.readValue("{\"id\":1,\"title\":\"제목\"}", TmdbMovieDetailDTO.class);
+
+        assertThat(detail.getGenres()).isEmpty();
+        assertThat(detail.getImages().getBackdrops()).isEmpty();
+        assertThat(detail.getWatchProviders().getResults().getKr()).isNull();
+        assertThat(detail.getCredits().getCast()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인물/ID 목록/박스오피스 응답의 null 목록도 빈 값으로 읽음")
+    void decodeOtherPayloadNulls() throws IOException {
+        TmdbPersonDetailDTO person = objectMapper.readValue(
+                "{\"id\":287,\"name\":\"Brad Pitt\",\"combined_credits\":null}", TmdbPersonDetailDTO.class);
+        TmdbIdPageDTO page = objectMapper.readValue(
+                "{\"page\":1,\"total_pages\":1,\"results\":null}", TmdbIdPageDTO.class);
+        KobisDailyBoxOfficeDTO boxOffice = objectMapper.readValue(
+                "{\"boxOfficeResult\":{\"dailyBoxOfficeList\":null}}", KobisDailyBoxOfficeDTO.class);
+
+        assertThat(person.getCombinedCredits().getCast()).isEmpty();
+        assertThat(page.getResults()).isEmpty();
+        assertThat(boxOffice.getBoxOfficeResult().getDailyBoxOfficeList()).isEmpty();
+    }
+
+    private TmdbMovieDetailDTO read(String fixture) throws IOException {
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream("/tmdb/" + fixture))) {
+            return objectMapper.readValue(in, TmdbMovieDetailDTO.class);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.flipflick.backend.api.movie.repository;
+
+import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.entity.Bookmark;
+import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.movie.entity.MovieLikeHate;
+import com.flipflick.backend.api.movie.entity.Watched;
+import com.flipflick.backend.api.review.entity.LikeHateType;
+import com.flipflick.backend.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static com.flipflick.backend.support.TestFixtures.member;
+import static com.flipflick.backend.support.TestFixtures.movie;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieRepositoryTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("회원 유효 여부와 한 영화의 찜/봤어요/좋아요/싫어요 여부를 한 번에 조회")
+    void findPersonalFlags() {
+        Member member = em.persist(member("flags", false));
+        Movie movie = em.persist(movie(550L));
+        em.persist(Bookmark.builder().member(member).movie(movie).build());
+        em.persist(MovieLikeHate.builder().member(member).movie(movie).type(LikeHateType.HATE).build());
+        em.flush();
+
+        List<Object[]> rows = movieRepository.findPersonalFlags(member.getId(), movie.getId());
+
+        assertThat(rows).hasSize(1);
+        assertThat(toInts(rows.get(0))).containsExactly(1, 1, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원은 회원 유효 여부가 0")
+    void findPersonalFlagsOfDeletedMember() {
+        Member member = em.persist(member("deleted", true));
+        Movie movie = em.persist(movie(551L));
+        em.flush();
+
+        List<Object[]> rows = movieRepository.findPersonalFlags(member.getId(), movie.getId());
+
+        assertThat(toInts(rows.get(0))).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("여러 영화의 상태를 종류별 행으로 일괄 조회")
+    void findPersonalFlagsByTmdbIds() {
+        Member member = em.persist(member("bulk", false));
+        Movie first = em.persist(movie(600L));
+        Movie second = em.persist(movie(601L));
+        em.persist(Watched.builder().member(member).movie(first).build());
+        em.persist(MovieLikeHate.builder().member(member).movie(second).type(LikeHateType.LIKE).build());
+        em.flush();
+
+        List<Object[]> rows = movieRepository.findPersonalFlagsByTmdbIds(member.getId(), Set.of(600L, 601L, 602L));
+
+        assertThat(rows)
+                .extracting(row -> row[0] + ":" + ((Number) row[1]).longValue())
+                .containsExactlyInAnyOrder("WATCHED:600", "LIKE:601");
+    }
+
+    private static List<Integer> toInts(Object[] flags) {
+        return Arrays.stream(flags).map(flag -> ((Number) flag).intValue()).toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.flipflick.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipflick.backend.common.exception.BadRequestException;
+import com.flipflick.backend.common.lock.RedisLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 덤프 파일 fixture 로 가져오기 흐름 확인 (DB/Redis/TMDB 없이 실행)
+ * - 기존 영화: 550 (원제목 같음), 551 (원제목 다름)
+ */
+class MovieExportImportServiceTest {
+
+    private static final String LOCK_KEY = "movie:export-import:lock";
+    private static final double MIN_POPULARITY = 1.0;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MovieBulkHydrator movieBulkHydrator = mock(MovieBulkHydrator.class);
+    private final RedisLockManager redisLockManager = mock(RedisLockManager.class);
+    private final List<List<Long>> hydratedMissing = new ArrayList<>();
+    private final List<List<Long>> hydratedChanged = new ArrayList<>();
+
+    private MovieExportImportService service;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(550L, 551L);
+        when(rs.getString(2)).thenReturn("Fight Club", "The Poseidon Adventure (1972)");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // 가져오기 쪽이 호출 뒤 목록을 비우므로 호출 시점의 내용을 복사해 둠
+        when(movieBulkHydrator.hydrate(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> missing = invocation.getArgument(0);
+            Collection<Long> changed = invocation.getArgument(1);
+            hydratedMissing.add(List.copyOf(missing));
+            hydratedChanged.add(List.copyOf(changed));
+            return new MovieBulkHydrator.Result(missing.size(), changed.size(), 0, 0);
+        });
+
+        when(redisLockManager.tryLock(eq(LOCK_KEY), any())).thenReturn(Optional.of("token"));
+        when(redisLockManager.extend(eq(LOCK_KEY), eq("token"), any())).thenReturn(true);
+
+        service = new MovieExportImportService(jdbcTemplate, new ObjectMapper(), movieBulkHydrator,
+                redisLockManager, new SimpleMeterRegistry(), Runnable::run,
+                tempDir.toString(), 2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("신규/변경 영화만 batchSize 단위로 가져오고 성인물, 낮은 popularity, 잘못된 줄은 건너뜀")
+    void importFile() throws Exception {
+        MovieExportImportService.ImportResult result = service.importFile(fixture(), MIN_POPULARITY);
+
+        assertThat(result.scanned()).isEqualTo(8);
+        assertThat(result.skipped()).isEqualTo(3);
+        assertThat(result.missing()).isEqualTo(3);
+        assertThat(result.changed()).isEqualTo(1);
+        assertThat(result.hydrated()).isEqualTo(new MovieBulkHydrator.Result(3, 1, 0, 0));
+
+        assertThat(hydratedMissing).containsExactly(List.of(552L), List.of(555L, 556L));
+        assertThat(hydratedChanged).containsExactly(List.of(551L), List.of());
+        verify(redisLockManager).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName(".gz 덤프는 압축을 풀며 읽음")
+    void importGzipFile() throws Exception {
+        Path gz = tempDir.resolve("movie_ids_fixture.json.gz");
+        try (InputStream in = Files.newInputStream(fixture());
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            in.transferTo(out);
+        }
+
+        MovieExportImportService.ImportResult result = service.importFile(gz, MIN_POPULARITY);
+
+        assertThat(result.scanned()).isEqualTo(8);
+        assertThat(result.hydrated()).isEqualTo(new MovieBulkHydrator.Result(3, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("다른 실행이 락을 잡고 있으면 가져오지 않음")
+    void importFileWhenLocked() {
+        when(redisLockManager.tryLock(eq(LOCK_KEY), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.importFile(fixture(), MIN_POPULARITY))
+                .isInstanceOf(BadRequestException.class);
+        verify(movieBulkHydrator, never()).hydrate(any(), any());
+    }
+
+    @Test
+    @DisplayName("진행 중에 락을 잃으면 남은 줄을 처리하지 않고 중단")
+    void importFileStopsWhenLockLost() {
+        when(redisLockManager.extend(eq(LOCK_KEY), eq("token"), any())).thenReturn(true, false);
+
+        assertThatThrownBy(() -> service.importFile(fixture(), MIN_POPULARITY))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(hydratedMissing).containsExactly(List.of(552L));
+        verify(redisLockManager).unlock(LOCK_KEY, "token");
+    }
+
+    private static Path fixture() throws URISyntaxException {
+        return Path.of(Objects.requireNonNull(
+                MovieExportImportServiceTest.class.getResource("/tmdb/movie_ids_fixture.json")).toURI());
+    }
+}
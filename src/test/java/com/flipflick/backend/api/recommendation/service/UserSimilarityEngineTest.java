@@ -0,0 +1,141 @@
+package com.flipflick.backend.api.recommendation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 작은 평점 행렬로 유사도 계산 확인
+ * - 회원 1, 2: 세 영화 모두 비슷하게 평가
+ * - 회원 3: 두 영화를 회원 1 과 반대 성향으로 평가
+ * - 회원 4: 한 영화만 평가
+ */
+class UserSimilarityEngineTest {
+
+    private static final long[] MEMBER_IDS = {1, 1, 1, 2, 2, 2, 3, 3, 4};
+    private static final long[] MOVIE_IDS = {10, 20, 30, 10, 20, 30, 10, 20, 10};
+    private static final float[] RATINGS = {5, 3, 4, 4, 2, 4, 1, 5, 5};
+
+    @Test
+    @DisplayName("코사인은 평점 벡터 사이 각도, 상위 K 는 유사도 내림차순")
+    void cosineTopKInDescendingOrder() {
+        UserSimilarityEngine.Result result = compute(UserSimilarityEngine.Metric.COSINE, 3, 1);
+
+        assertThat(similarIds(result, 1)).containsExactly(2L, 4L, 3L);
+        assertThat(scores(result, 1)).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+        // 회원 1 (5, 3, 4) · 회원 2 (4, 2, 4) = 42 / (√50 · 6)
+        assertThat(scores(result, 1).get(0)).isCloseTo((float) (42 / (Math.sqrt(50) * 6)), within(1e-5f));
+        assertThat(result.pairCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Pearson 은 회원 평균을 빼고 계산하므로 성향이 반대인 회원은 제외")
+    void pearsonDropsOppositeTaste() {
+        UserSimilarityEngine.Result cosine = compute(UserSimilarityEngine.Metric.COSINE, 3, 2);
+        UserSimilarityEngine.Result pearson = compute(UserSimilarityEngine.Metric.PEARSON, 3, 2);
+
+        assertThat(similarIds(cosine, 1)).containsExactly(2L, 3L);
+        assertThat(similarIds(pearson, 1)).containsExactly(2L);
+        assertThat(similarIds(pearson, 3)).isEmpty();
+        // 평균 중심화: 회원 1 (1, -1, 0), 회원 2 (2/3, -4/3, 2/3) → 2 / (√2 · √(8/3))
+        assertThat(scores(pearson, 1).get(0)).isCloseTo((float) (2 / (Math.sqrt(2) * Math.sqrt(8.0 / 3))), within(1e-5f));
+    }
+
+    @Test
+    @DisplayName("공통 평가 영화 수가 minOverlap 미만인 쌍은 제외")
+    void minOverlapFiltersPairs() {
+        assertThat(similarIds(compute(UserSimilarityEngine.Metric.COSINE, 3, 1), 4)).containsExactly(1L, 2L, 3L);
+        assertThat(similarIds(compute(UserSimilarityEngine.Metric.COSINE, 3, 2), 4)).isEmpty();
+        assertThat(similarIds(compute(UserSimilarityEngine.Metric.COSINE, 3, 3), 1)).containsExactly(2L);
+        assertThat(similarIds(compute(UserSimilarityEngine.Metric.COSINE, 3, 3), 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("topK 보다 후보가 많으면 가장 비슷한 K 명만 유지")
+    void keepsOnlyTopK() {
+        UserSimilarityEngine.Result result = compute(UserSimilarityEngine.Metric.COSINE, 1, 1);
+
+        assertThat(similarIds(result, 1)).containsExactly(2L);
+        assertThat(similarIds(result, 3)).containsExactly(1L);
+        assertThat(similarIds(result, 4)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Pearson 에서 평점이 하나뿐인 회원은 편차가 0 이라 유사도가 없음")
+    void singleRatingMemberHasNoPearsonSimilarity() {
+        UserSimilarityEngine.Result result = compute(UserSimilarityEngine.Metric.PEARSON, 3, 1);
+
+        assertThat(similarIds(result, 4)).isEmpty();
+        for (long memberId : new long[]{1, 2, 3}) {
+            assertThat(similarIds(result, memberId)).doesNotContain(4L);
+        }
+    }
+
+    @Test
+    @DisplayName("회원 범위를 나눠 병렬로 계산해도 단일 스레드 결과와 같음")
+    void parallelMatchesSingleThread() {
+        Random random = new Random(42);
+        List<long[]> rows = new ArrayList<>();
+        for (long member = 1; member <= 300; member++) {
+            for (long movie = 1; movie <= 40; movie++) {
+                if (random.nextInt(4) == 0) {
+                    rows.add(new long[]{member, movie, 1 + random.nextInt(10)});
+                }
+            }
+        }
+        long[] memberIds = rows.stream().mapToLong(row -> row[0]).toArray();
+        long[] movieIds = rows.stream().mapToLong(row -> row[1]).toArray();
+        float[] ratings = new float[rows.size()];
+        for (int i = 0; i < ratings.length; i++) {
+            ratings[i] = rows.get(i)[2] * 0.5f;
+        }
+
+        UserSimilarityEngine engine = new UserSimilarityEngine(UserSimilarityEngine.Metric.PEARSON, 5, 2);
+        UserSimilarityEngine.Result single = run(engine, memberIds, movieIds, ratings, 1);
+        UserSimilarityEngine.Result parallel = run(engine, memberIds, movieIds, ratings, 4);
+
+        assertThat(parallel.memberIds()).containsExactly(single.memberIds());
+        assertThat(parallel.counts()).containsExactly(single.counts());
+        assertThat(parallel.scores()).containsExactly(single.scores());
+    }
+
+    private static UserSimilarityEngine.Result compute(UserSimilarityEngine.Metric metric, int topK, int minOverlap) {
+        return run(new UserSimilarityEngine(metric, topK, minOverlap), MEMBER_IDS, MOVIE_IDS, RATINGS, 2);
+    }
+
+    private static UserSimilarityEngine.Result run(UserSimilarityEngine engine, long[] memberIds, long[] movieIds,
+                                                   float[] ratings, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return engine.compute(memberIds, movieIds, ratings, memberIds.length, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Long> similarIds(UserSimilarityEngine.Result result, long memberId) {
+        int u = Arrays.binarySearch(result.memberIds(), memberId);
+        List<Long> ids = new ArrayList<>();
+        for (int k = 0; k < result.counts()[u]; k++) {
+            ids.add(result.memberIds()[result.similarIndexes()[u * result.topK() + k]]);
+        }
+        return ids;
+    }
+
+    private static List<Float> scores(UserSimilarityEngine.Result result, long memberId) {
+        int u = Arrays.binarySearch(result.memberIds(), memberId);
+        List<Float> scores = new ArrayList<>();
+        for (int k = 0; k < result.counts()[u]; k++) {
+            scores.add(result.scores()[u * result.topK() + k]);
+        }
+        return scores;
+    }
+}
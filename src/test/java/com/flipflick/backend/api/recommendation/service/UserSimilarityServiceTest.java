@@ -0,0 +1,75 @@
+package com.flipflick.backend.api.recommendation.service;
+
+import com.flipflick.backend.common.lock.RedisLockManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재계산 단계 사이 락 연장 확인 (DB/Redis 없이 실행, 평점은 비어 있음)
+ */
+class UserSimilarityServiceTest {
+
+    private static final String LOCK_KEY = "recommendation:similarity:lock";
+    private static final String DELETE = "DELETE FROM user_similarity";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RedisLockManager redisLockManager = mock(RedisLockManager.class);
+
+    private UserSimilarityService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redisLockManager.tryLock(eq(LOCK_KEY), any())).thenReturn(Optional.of("token"));
+        when(redisLockManager.extend(eq(LOCK_KEY), eq("token"), any())).thenReturn(true);
+
+        service = new UserSimilarityService(jdbcTemplate, mock(PlatformTransactionManager.class),
+                redisLockManager, "pearson", 10, 2, 1);
+    }
+
+    @Test
+    @DisplayName("읽기/계산 뒤마다 락을 연장하고 결과를 교체")
+    void recalculateExtendsLockBetweenPhases() {
+        service.recalculate();
+
+        verify(redisLockManager, times(2)).extend(eq(LOCK_KEY), eq("token"), any());
+        verify(jdbcTemplate).update(DELETE);
+        verify(redisLockManager).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("계산 중에 락을 잃으면 기존 유사도를 지우지 않고 중단")
+    void recalculateStopsWhenLockLost() {
+        when(redisLockManager.extend(eq(LOCK_KEY), eq("token"), any())).thenReturn(true, false);
+
+        service.recalculate();
+
+        verify(jdbcTemplate, never()).update(anyString());
+        verify(redisLockManager).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 계산 중이면 평점을 읽지 않음")
+    void recalculateWhenLocked() {
+        when(redisLockManager.tryLock(eq(LOCK_KEY), any())).thenReturn(Optional.empty());
+
+        service.recalculate();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+        verify(redisLockManager, never()).unlock(anyString(), anyString());
+    }
+}
@@ -0,0 +1,124 @@
+package com.flipflick.backend.api.review.repository;
+
+import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.entity.Movie;
+import com.flipflick.backend.api.review.dto.ReviewListRow;
+import com.flipflick.backend.api.review.entity.Review;
+import com.flipflick.backend.support.MySqlRepositoryTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.flipflick.backend.support.TestFixtures.member;
+import static com.flipflick.backend.support.TestFixtures.movie;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 목록 쿼리 N+1 방지 확인
+ * - 작성자/영화가 모두 다른 리뷰 여러 건을 조회해도 목록 1회(+ 페이지면 count 1회)로 끝나야 함
+ */
+class ReviewRepositoryTest extends MySqlRepositoryTest {
+
+    private static final long TMDB_ID = 550L;
+    private static final int REVIEWS = 5;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = em.persist(movie(TMDB_ID));
+        for (int i = 0; i < REVIEWS; i++) {
+            Member member = em.persist(member("reviewer" + i));
+            members.add(member);
+            em.persist(Review.builder()
+                    .member(member)
+                    .movie(movie)
+                    .content("리뷰 본문 " + i)
+                    .star(1.0 + i)
+                    .spoiler(false)
+                    .likeCnt((long) i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("영화별 최신순/인기순/핫 점수순 페이지 조회는 리뷰 수와 무관하게 목록 + count 쿼리만 실행")
+    void moviePagesRunWithoutPerRowQueries() {
+        PageRequest page = PageRequest.of(0, 2);
+
+        assertPage(() -> reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByCreatedAtDesc(TMDB_ID, page));
+        assertPage(() -> reviewRepository.findByMovieTmdbIdAndIsDeletedFalseOrderByLikeCntDesc(TMDB_ID, page));
+        assertPage(() -> reviewRepository.findHotByMovieTmdbId(TMDB_ID, page));
+    }
+
+    @Test
+    @DisplayName("영화별 커서 조회는 쿼리 1회")
+    void movieCursorsRunInOneQuery() {
+        LocalDateTime after = LocalDateTime.now().plusDays(1);
+        PageRequest limit = PageRequest.of(0, REVIEWS);
+
+        assertRows(() -> reviewRepository.findLatestByMovieTmdbIdAfterCursor(TMDB_ID, after, Long.MAX_VALUE, limit));
+        assertRows(() -> reviewRepository.findPopularByMovieTmdbIdAfterCursor(
+                TMDB_ID, Long.MAX_VALUE, after, Long.MAX_VALUE, limit));
+        assertRows(() -> reviewRepository.findHotByMovieTmdbIdAfterCursor(
+                TMDB_ID, Long.MAX_VALUE, after, Long.MAX_VALUE, limit));
+    }
+
+    @Test
+    @DisplayName("닉네임별/유사 사용자 리뷰 페이지 조회도 작성자/영화를 따로 조회하지 않음")
+    void memberPagesRunWithoutPerRowQueries() {
+        List<Long> similarIds = members.stream().map(Member::getId).toList();
+
+        Page<ReviewListRow> byNickname = countQueries(() ->
+                reviewRepository.findByMemberNicknameAndIsDeletedFalseOrderByCreatedAtDesc("reviewer0", PageRequest.of(0, 10)));
+        assertThat(byNickname.getContent()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        assertPage(() -> reviewRepository.findHighRatedReviewsBySimilarUsersAndTmdbId(
+                similarIds, -1L, 1.0, TMDB_ID, PageRequest.of(0, 2)));
+    }
+
+    private void assertPage(Supplier<Page<ReviewListRow>> query) {
+        Page<ReviewListRow> page = countQueries(query);
+
+        assertThat(page.getTotalElements()).isEqualTo(REVIEWS);
+        assertThat(page.getContent()).hasSize(2)
+                .allSatisfy(row -> assertThat(row.nickname()).startsWith("reviewer"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void assertRows(Supplier<List<ReviewListRow>> query) {
+        List<ReviewListRow> rows = countQueries(query);
+
+        assertThat(rows).hasSize(REVIEWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private <T> T countQueries(Supplier<T> query) {
+        em.clear();
+        statistics.clear();
+        return query.get();
+    }
+}
@@ -0,0 +1,36 @@
+package com.flipflick.backend.support;
+
+import com.flipflick.backend.api.member.entity.Member;
+import com.flipflick.backend.api.movie.entity.Movie;
+
+import java.time.LocalDate;
+
+/**
+ * 리포지토리 테스트에서 공통으로 쓰는 엔티티 생성기 (저장은 호출하는 쪽에서)
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Member member(String nickname) {
+        return member(nickname, false);
+    }
+
+    public static Member member(String nickname, boolean deleted) {
+        return Member.builder()
+                .email(nickname + "@flipflick.com")
+                .nickname(nickname)
+                .isDeleted(deleted)
+                .build();
+    }
+
+    public static Movie movie(Long tmdbId) {
+        return Movie.builder()
+                .tmdbId(tmdbId)
+                .title("movie-" + tmdbId)
+                .releaseDate(LocalDate.of(2024, 1, 1))
+                .productionYear(2024)
+                .build();
+    }
+}